@@ -23,8 +23,14 @@ version = "0.1.0-SNAPSHOT"
 
 repositories { mavenCentral() }
 
+val java21: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java21"))
+}
+
 dependencies {
     api(libs.jspecify)
+    "java21CompileOnly"(files(sourceSets.main.get().output.classesDirs))
+    "java21CompileOnly"(libs.jspecify)
     testImplementation(platform(libs.junit.bom))
     testImplementation(libs.junit.jupiter)
     testImplementation(libs.junit.pioneer)
@@ -171,6 +177,15 @@ publishing {
 
 tasks {
     withType<JavaCompile>().configureEach { options.encoding = StandardCharsets.UTF_8.name() }
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        javaCompiler = project.javaToolchains.compilerFor { languageVersion = JavaLanguageVersion.of(21) }
+        options.release = 21
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+    jar {
+        into("META-INF/versions/21") { from(java21.output) }
+        manifest { attributes("Multi-Release" to "true") }
+    }
     withType<ProcessResources>().configureEach { filteringCharset = StandardCharsets.UTF_8.name() }
     val isCi: Provider<Boolean> =
         providers
@@ -187,6 +202,14 @@ tasks {
             junitXml.required.set(isCi)
         }
     }
+    val testVectorized by registering(Test::class) {
+        description = "Runs the tests on Java 21 with the kernels of the incubating Vector API."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = java21.output + sourceSets.test.get().runtimeClasspath
+        javaLauncher = project.javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(21) }
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+    }
     withType<JacocoReport>().configureEach {
         dependsOn(test)
         reports {
@@ -233,5 +256,5 @@ tasks {
         gradleVersion = providers.gradleProperty("gradleVersion").get()
         distributionType = DistributionType.ALL
     }
-    check { dependsOn(jacocoTestReport, buildHealth, licensee) }
+    check { dependsOn(jacocoTestReport, testVectorized, buildHealth, licensee) }
 }
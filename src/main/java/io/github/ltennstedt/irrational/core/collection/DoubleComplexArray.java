@@ -0,0 +1,259 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.internal.DoubleKernels;
+import io.github.ltennstedt.irrational.core.numeric.DoubleComplex;
+
+/**
+ * Mutable fixed-size array of complex numbers which stores real and imaginary parts interleaved in a double array
+ *
+ * <p>Element i occupies the indices 2 * i and 2 * i + 1. The bulk operations work in place on the backing array and do
+ * not allocate. They delegate to kernels which use explicit SIMD lanes on Java 21 and later when the module
+ * jdk.incubator.vector is resolved. A
+ * {@link DoubleComplex} is only created by {@link #get(int)}. This class is not thread-safe.
+ */
+public final class DoubleComplexArray {
+    private final double[] values;
+
+    /**
+     * Constructor which initializes all elements with 0
+     *
+     * @param size size
+     * @throws IllegalArgumentException when size is negative or greater than half the maximum array length
+     */
+    public DoubleComplexArray(final int size) {
+        if (size < 0 || size > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException(
+                    "size must be between 0 and " + Integer.MAX_VALUE / 2 + " but was " + size);
+        }
+        values = new double[2 * size];
+    }
+
+    private DoubleComplexArray(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param elements elements
+     * @return DoubleComplexArray
+     * @throws NullPointerException when elements or one of its elements is null
+     */
+    public static DoubleComplexArray of(final DoubleComplex... elements) {
+        requireNonNull(elements, "elements");
+        final var array = new DoubleComplexArray(elements.length);
+        for (var i = 0; i < elements.length; i++) {
+            array.set(i, requireNonNull(elements[i], "element"));
+        }
+        return array;
+    }
+
+    /**
+     * Returns an array which is backed by the interleaved real and imaginary parts without copying them
+     *
+     * @param interleaved real and imaginary parts
+     * @return DoubleComplexArray
+     * @throws NullPointerException when interleaved is null
+     * @throws IllegalArgumentException when the length of interleaved is odd
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public static DoubleComplexArray wrap(final double[] interleaved) {
+        requireNonNull(interleaved, "interleaved");
+        if ((interleaved.length & 1) != 0) {
+            throw new IllegalArgumentException("interleaved must have an even length but was " + interleaved.length);
+        }
+        return new DoubleComplexArray(interleaved);
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return size
+     */
+    public int size() {
+        return values.length >>> 1;
+    }
+
+    /**
+     * Returns the element at the index
+     *
+     * @param index index
+     * @return element
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public DoubleComplex get(final int index) {
+        checkIndex(index);
+        return DoubleComplex.of(values[2 * index], values[2 * index + 1]);
+    }
+
+    /**
+     * Returns the real part of the element at the index
+     *
+     * @param index index
+     * @return real part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double real(final int index) {
+        checkIndex(index);
+        return values[2 * index];
+    }
+
+    /**
+     * Returns the imaginary part of the element at the index
+     *
+     * @param index index
+     * @return imaginary part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double imaginary(final int index) {
+        checkIndex(index);
+        return values[2 * index + 1];
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param element element
+     * @throws NullPointerException when element is null
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final DoubleComplex element) {
+        requireNonNull(element, "element");
+        set(index, element.real(), element.imaginary());
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param real real part
+     * @param imaginary imaginary part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final double real, final double imaginary) {
+        checkIndex(index);
+        values[2 * index] = real;
+        values[2 * index + 1] = imaginary;
+    }
+
+    /**
+     * Multiplies every element of this with the element of other at the same index
+     *
+     * @param other other
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public void multiply(final DoubleComplexArray other) {
+        checkSize(other);
+        DoubleKernels.INSTANCE.multiplyComplex(values, other.values, false);
+    }
+
+    /**
+     * Multiplies every element of this with the conjugate of the element of other at the same index
+     *
+     * @param other other
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public void multiplyConjugate(final DoubleComplexArray other) {
+        checkSize(other);
+        DoubleKernels.INSTANCE.multiplyComplex(values, other.values, true);
+    }
+
+    /**
+     * Multiplies every element of this with the real factor
+     *
+     * @param factor factor
+     */
+    public void scale(final double factor) {
+        DoubleKernels.INSTANCE.scale(factor, values, values);
+    }
+
+    /**
+     * Adds scale * other to this element by element
+     *
+     * @param scale scale
+     * @param other other
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public void addScaled(final DoubleComplex scale, final DoubleComplexArray other) {
+        requireNonNull(scale, "scale");
+        checkSize(other);
+        DoubleKernels.INSTANCE.addScaledComplex(scale.real(), scale.imaginary(), other.values, values);
+    }
+
+    /**
+     * Writes the absolute value of every element into target
+     *
+     * <p>The absolute values are computed as the square root of the norm, which is much faster than
+     * {@link Math#hypot(double, double)} but overflows when the norm exceeds the range of double.
+     *
+     * @param target target with at least the size of this
+     * @throws NullPointerException when target is null
+     * @throws IllegalArgumentException when target is shorter than the size of this
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void abs(final double[] target) {
+        norms(target);
+        final var size = size();
+        for (var i = 0; i < size; i++) {
+            target[i] = Math.sqrt(target[i]);
+        }
+    }
+
+    /**
+     * Writes the norm, i.e. real^2 + imaginary^2, of every element into target
+     *
+     * @param target target with at least the size of this
+     * @throws NullPointerException when target is null
+     * @throws IllegalArgumentException when target is shorter than the size of this
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void norms(final double[] target) {
+        requireNonNull(target, "target");
+        final var size = size();
+        if (target.length < size) {
+            throw new IllegalArgumentException(
+                    "target must have a length of at least " + size + " but was " + target.length);
+        }
+        final var a = values;
+        for (var i = 0; i < size; i++) {
+            target[i] = a[2 * i] * a[2 * i] + a[2 * i + 1] * a[2 * i + 1];
+        }
+    }
+
+    /**
+     * Returns a copy of the interleaved real and imaginary parts
+     *
+     * @return interleaved real and imaginary parts
+     */
+    public double[] toInterleavedArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns a copy of this
+     *
+     * @return copy
+     */
+    public DoubleComplexArray copy() {
+        return new DoubleComplexArray(values.clone());
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index must be between 0 and " + (size() - 1) + " but was " + index);
+        }
+    }
+
+    private void checkSize(final DoubleComplexArray other) {
+        requireNonNull(other, "other");
+        if (other.values.length != values.length) {
+            throw new IllegalArgumentException("other must have size " + size() + " but had size " + other.size());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Mutable hash set of {@link LongRational} which stores numerator and denominator inline in a long array
+ *
+ * <p>The set uses open addressing with linear probing and a maximum load factor of 3/4. Every slot occupies 16 bytes,
+ * so an entry needs between 21 and 43 bytes depending on the load whereas a {@link java.util.HashSet} needs about 80
+ * bytes for its node, the boxed key and the table reference. This class is not thread-safe.
+ */
+public final class LongRationalHashSet {
+    private long[] keys;
+    private int size;
+
+    /** No arguments constructor */
+    public LongRationalHashSet() {
+        this(0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize expected size
+     * @throws IllegalArgumentException when expectedSize is negative
+     * @throws IllegalStateException when expectedSize exceeds the maximum capacity
+     */
+    public LongRationalHashSet(final int expectedSize) {
+        keys = new long[2 * LongRationalTables.capacity(expectedSize)];
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this is empty
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Indicates if this contains the element
+     *
+     * @param element element
+     * @return boolean
+     * @throws NullPointerException when element is null
+     */
+    public boolean contains(final LongRational element) {
+        requireNonNull(element, "element");
+        return LongRationalTables.find(keys, element.numerator(), element.denominator()) >= 0;
+    }
+
+    /**
+     * Adds the element
+     *
+     * @param element element
+     * @return true when this did not already contain the element
+     * @throws NullPointerException when element is null
+     * @throws IllegalStateException when the maximum capacity is exceeded
+     */
+    public boolean add(final LongRational element) {
+        requireNonNull(element, "element");
+        if (LongRationalTables.find(keys, element.numerator(), element.denominator()) >= 0) {
+            return false;
+        }
+        if (size == LongRationalTables.maxSize(keys.length >>> 1)) {
+            grow();
+        }
+        final var slot = ~LongRationalTables.find(keys, element.numerator(), element.denominator());
+        keys[2 * slot] = element.numerator();
+        keys[2 * slot + 1] = element.denominator();
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the element
+     *
+     * @param element element
+     * @return true when this contained the element
+     * @throws NullPointerException when element is null
+     */
+    public boolean remove(final LongRational element) {
+        requireNonNull(element, "element");
+        final var slot = LongRationalTables.find(keys, element.numerator(), element.denominator());
+        if (slot < 0) {
+            return false;
+        }
+        var gap = slot;
+        var next = LongRationalTables.nextShift(keys, gap);
+        while (next >= 0) {
+            LongRationalTables.move(keys, next, gap);
+            gap = next;
+            next = LongRationalTables.nextShift(keys, gap);
+        }
+        LongRationalTables.free(keys, gap);
+        size--;
+        return true;
+    }
+
+    /** Removes all elements */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    /**
+     * Performs the action for each element in no particular order
+     *
+     * @param action action
+     * @throws NullPointerException when action is null
+     */
+    public void forEach(final Consumer<? super LongRational> action) {
+        requireNonNull(action, "action");
+        for (var slot = 0; slot < keys.length >>> 1; slot++) {
+            if (keys[2 * slot + 1] != 0L) {
+                action.accept(LongRational.of(keys[2 * slot], keys[2 * slot + 1]));
+            }
+        }
+    }
+
+    private void grow() {
+        final var capacity = keys.length >>> 1;
+        if (capacity == LongRationalTables.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("capacity must not exceed " + LongRationalTables.MAXIMUM_CAPACITY);
+        }
+        final var oldKeys = keys;
+        keys = new long[4 * capacity];
+        for (var slot = 0; slot < capacity; slot++) {
+            if (oldKeys[2 * slot + 1] != 0L) {
+                final var newSlot = ~LongRationalTables.find(keys, oldKeys[2 * slot], oldKeys[2 * slot + 1]);
+                keys[2 * newSlot] = oldKeys[2 * slot];
+                keys[2 * newSlot + 1] = oldKeys[2 * slot + 1];
+            }
+        }
+    }
+}
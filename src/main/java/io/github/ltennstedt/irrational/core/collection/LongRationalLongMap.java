@@ -0,0 +1,218 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Mutable hash map from {@link LongRational} to longs which stores keys and values inline in long arrays
+ *
+ * <p>The map uses open addressing with linear probing and a maximum load factor of 3/4. Every slot occupies 24 bytes,
+ * so an entry needs between 32 and 64 bytes depending on the load whereas a {@link java.util.HashMap} needs about 100
+ * bytes for its node, the boxed key, the boxed value and the table reference. This class is not thread-safe.
+ */
+public final class LongRationalLongMap {
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    /** No arguments constructor */
+    public LongRationalLongMap() {
+        this(0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize expected size
+     * @throws IllegalArgumentException when expectedSize is negative
+     * @throws IllegalStateException when expectedSize exceeds the maximum capacity
+     */
+    public LongRationalLongMap(final int expectedSize) {
+        final var capacity = LongRationalTables.capacity(expectedSize);
+        keys = new long[2 * capacity];
+        values = new long[capacity];
+    }
+
+    /**
+     * Returns the number of entries
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this is empty
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Indicates if this contains the key
+     *
+     * @param key key
+     * @return boolean
+     * @throws NullPointerException when key is null
+     */
+    public boolean containsKey(final LongRational key) {
+        requireNonNull(key, "key");
+        return LongRationalTables.find(keys, key.numerator(), key.denominator()) >= 0;
+    }
+
+    /**
+     * Returns the value of the key
+     *
+     * @param key key
+     * @return {@link OptionalLong} of the value
+     * @throws NullPointerException when key is null
+     */
+    public OptionalLong get(final LongRational key) {
+        requireNonNull(key, "key");
+        final var slot = LongRationalTables.find(keys, key.numerator(), key.denominator());
+        return slot < 0 ? OptionalLong.empty() : OptionalLong.of(values[slot]);
+    }
+
+    /**
+     * Returns the value of the key or the default value when this does not contain the key
+     *
+     * @param key key
+     * @param defaultValue default value
+     * @return value
+     * @throws NullPointerException when key is null
+     */
+    public long getOrDefault(final LongRational key, final long defaultValue) {
+        requireNonNull(key, "key");
+        final var slot = LongRationalTables.find(keys, key.numerator(), key.denominator());
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Associates the value with the key
+     *
+     * @param key key
+     * @param value value
+     * @return true when this did not already contain the key
+     * @throws NullPointerException when key is null
+     * @throws IllegalStateException when the maximum capacity is exceeded
+     */
+    public boolean put(final LongRational key, final long value) {
+        requireNonNull(key, "key");
+        final var slot = LongRationalTables.find(keys, key.numerator(), key.denominator());
+        if (slot >= 0) {
+            values[slot] = value;
+            return false;
+        }
+        final var newSlot = insert(key);
+        values[newSlot] = value;
+        return true;
+    }
+
+    /**
+     * Adds the increment to the value of the key where a missing key counts as 0
+     *
+     * @param key key
+     * @param increment increment
+     * @return new value
+     * @throws NullPointerException when key is null
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     * @throws IllegalStateException when the maximum capacity is exceeded
+     */
+    public long addTo(final LongRational key, final long increment) {
+        requireNonNull(key, "key");
+        final var slot = LongRationalTables.find(keys, key.numerator(), key.denominator());
+        if (slot >= 0) {
+            values[slot] = Math.addExact(values[slot], increment);
+            return values[slot];
+        }
+        final var newSlot = insert(key);
+        values[newSlot] = increment;
+        return increment;
+    }
+
+    /**
+     * Removes the key and its value
+     *
+     * @param key key
+     * @return true when this contained the key
+     * @throws NullPointerException when key is null
+     */
+    public boolean remove(final LongRational key) {
+        requireNonNull(key, "key");
+        final var slot = LongRationalTables.find(keys, key.numerator(), key.denominator());
+        if (slot < 0) {
+            return false;
+        }
+        var gap = slot;
+        var next = LongRationalTables.nextShift(keys, gap);
+        while (next >= 0) {
+            LongRationalTables.move(keys, next, gap);
+            values[gap] = values[next];
+            gap = next;
+            next = LongRationalTables.nextShift(keys, gap);
+        }
+        LongRationalTables.free(keys, gap);
+        values[gap] = 0L;
+        size--;
+        return true;
+    }
+
+    /** Removes all entries */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    /**
+     * Performs the action for each entry in no particular order
+     *
+     * @param action action
+     * @throws NullPointerException when action is null
+     */
+    public void forEach(final ObjLongConsumer<? super LongRational> action) {
+        requireNonNull(action, "action");
+        for (var slot = 0; slot < values.length; slot++) {
+            if (keys[2 * slot + 1] != 0L) {
+                action.accept(LongRational.of(keys[2 * slot], keys[2 * slot + 1]), values[slot]);
+            }
+        }
+    }
+
+    private int insert(final LongRational key) {
+        if (size == LongRationalTables.maxSize(values.length)) {
+            grow();
+        }
+        final var slot = ~LongRationalTables.find(keys, key.numerator(), key.denominator());
+        keys[2 * slot] = key.numerator();
+        keys[2 * slot + 1] = key.denominator();
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        final var capacity = values.length;
+        if (capacity == LongRationalTables.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("capacity must not exceed " + LongRationalTables.MAXIMUM_CAPACITY);
+        }
+        final var oldKeys = keys;
+        final var oldValues = values;
+        keys = new long[4 * capacity];
+        values = new long[2 * capacity];
+        for (var slot = 0; slot < capacity; slot++) {
+            if (oldKeys[2 * slot + 1] != 0L) {
+                final var newSlot = ~LongRationalTables.find(keys, oldKeys[2 * slot], oldKeys[2 * slot + 1]);
+                keys[2 * newSlot] = oldKeys[2 * slot];
+                keys[2 * newSlot + 1] = oldKeys[2 * slot + 1];
+                values[newSlot] = oldValues[slot];
+            }
+        }
+    }
+}
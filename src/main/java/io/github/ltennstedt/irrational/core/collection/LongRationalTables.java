@@ -0,0 +1,121 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import io.github.ltennstedt.irrational.core.util.Longs;
+
+/**
+ * Utilities for open-addressing hash tables keyed by {@link io.github.ltennstedt.irrational.core.numeric.LongRational}
+ *
+ * <p>A table with capacity c is a long array of length 2c where the slot i holds the numerator at index 2i and the
+ * denominator at index 2i + 1. Since a denominator is never 0 a free slot is marked by a denominator of 0. Collisions
+ * are resolved by linear probing and removals shift the following entries back so that no tombstones are needed.
+ */
+final class LongRationalTables {
+    /** Maximum capacity */
+    static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    /** Minimum capacity */
+    static final int MINIMUM_CAPACITY = 8;
+
+    /** No arguments constructor */
+    private LongRationalTables() {}
+
+    /**
+     * Returns the smallest power of two capacity which holds expectedSize entries without exceeding the maximum load
+     *
+     * @param expectedSize expected size
+     * @return capacity
+     * @throws IllegalArgumentException when expectedSize is negative
+     * @throws IllegalStateException when expectedSize exceeds the maximum capacity
+     */
+    static int capacity(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative but was " + expectedSize);
+        }
+        var capacity = MINIMUM_CAPACITY;
+        while (maxSize(capacity) < expectedSize) {
+            if (capacity == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("capacity must not exceed " + MAXIMUM_CAPACITY);
+            }
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the maximum number of entries of a table with the capacity, i.e. a load factor of 3/4
+     *
+     * @param capacity capacity
+     * @return maximum size
+     */
+    static int maxSize(final int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    /**
+     * Returns the slot of the key or the bitwise complement of the free slot where it would be inserted
+     *
+     * @param keys keys
+     * @param numerator numerator
+     * @param denominator denominator
+     * @return slot or bitwise complement of the free slot
+     */
+    static int find(final long[] keys, final long numerator, final long denominator) {
+        final var mask = (keys.length >>> 1) - 1;
+        var slot = home(numerator, denominator, mask);
+        while (keys[2 * slot + 1] != 0L) {
+            if (keys[2 * slot + 1] == denominator && keys[2 * slot] == numerator) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    /**
+     * Returns the slot of the next entry following gap which has to be shifted back into gap after a removal or -1 when
+     * there is none
+     *
+     * @param keys keys
+     * @param gap freed slot
+     * @return slot or -1
+     */
+    static int nextShift(final long[] keys, final int gap) {
+        final var mask = (keys.length >>> 1) - 1;
+        var slot = (gap + 1) & mask;
+        while (keys[2 * slot + 1] != 0L) {
+            final var home = home(keys[2 * slot], keys[2 * slot + 1], mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the key in slot from to slot to
+     *
+     * @param keys keys
+     * @param from source slot
+     * @param to target slot
+     */
+    static void move(final long[] keys, final int from, final int to) {
+        keys[2 * to] = keys[2 * from];
+        keys[2 * to + 1] = keys[2 * from + 1];
+    }
+
+    /**
+     * Marks slot as free
+     *
+     * @param keys keys
+     * @param slot slot
+     */
+    static void free(final long[] keys, final int slot) {
+        keys[2 * slot] = 0L;
+        keys[2 * slot + 1] = 0L;
+    }
+
+    private static int home(final long numerator, final long denominator, final int mask) {
+        return (int) Longs.hash(numerator, denominator) & mask;
+    }
+}
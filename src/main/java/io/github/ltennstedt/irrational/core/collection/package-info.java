@@ -0,0 +1,5 @@
+/** This package provides primitive collections specialized for number types */
+@NullMarked
+package io.github.ltennstedt.irrational.core.collection;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,21 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+
+/** Lock-free atomic reference to a {@link BigRational} */
+public final class AtomicBigRational extends AtomicRational<BigRational> {
+    /** No arguments constructor with initial value 0 */
+    public AtomicBigRational() {
+        this(BigRational.ZERO);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initialValue initial value
+     * @throws NullPointerException when initialValue is null
+     */
+    public AtomicBigRational(final BigRational initialValue) {
+        super(initialValue);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+
+/** Lock-free atomic reference to a {@link LongRational} */
+public final class AtomicLongRational extends AtomicRational<LongRational> {
+    /** No arguments constructor with initial value 0 */
+    public AtomicLongRational() {
+        this(LongRational.ZERO);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initialValue initial value
+     * @throws NullPointerException when initialValue is null
+     */
+    public AtomicLongRational(final LongRational initialValue) {
+        super(initialValue);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.Rational;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Base class for lock-free atomic references to rational numbers
+ *
+ * <p>Every update reads the current value, computes the new value and publishes it with a compare-and-set of the
+ * reference. Since rational numbers are immutable this is safe regardless of their size. A failed compare-and-set
+ * spins for an exponentially growing number of iterations before it retries, which keeps the throughput stable when
+ * many threads contend on the same reference.
+ *
+ * @param <R> type of the rational number
+ */
+public sealed class AtomicRational<R extends Rational<R>> permits AtomicLongRational, AtomicBigRational {
+    private static final VarHandle VALUE;
+
+    /** Maximum number of spins after a failed compare-and-set */
+    private static final int MAXIMUM_BACKOFF = 1 << 10;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicRational.class, "value", Rational.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile R value;
+
+    /**
+     * Constructor
+     *
+     * @param initialValue initial value
+     * @throws NullPointerException when initialValue is null
+     */
+    AtomicRational(final R initialValue) {
+        value = requireNonNull(initialValue, "initialValue");
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return current value
+     */
+    public final R get() {
+        return value;
+    }
+
+    /**
+     * Sets the new value
+     *
+     * @param newValue new value
+     * @throws NullPointerException when newValue is null
+     */
+    public final void set(final R newValue) {
+        value = requireNonNull(newValue, "newValue");
+    }
+
+    /**
+     * Sets the new value and returns the previous value
+     *
+     * @param newValue new value
+     * @return previous value
+     * @throws NullPointerException when newValue is null
+     */
+    @SuppressWarnings("unchecked")
+    public final R getAndSet(final R newValue) {
+        requireNonNull(newValue, "newValue");
+        return (R) VALUE.getAndSet(this, newValue);
+    }
+
+    /**
+     * Sets the new value when the current value equals the expected value
+     *
+     * <p>In contrast to {@link java.util.concurrent.atomic.AtomicReference} the values are compared by
+     * {@link Object#equals(Object)} instead of identity.
+     *
+     * @param expectedValue expected value
+     * @param newValue new value
+     * @return true when the value was set
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public final boolean compareAndSet(final R expectedValue, final R newValue) {
+        requireNonNull(expectedValue, "expectedValue");
+        requireNonNull(newValue, "newValue");
+        var backoff = 1;
+        var current = value;
+        while (current.equals(expectedValue)) {
+            if (VALUE.compareAndSet(this, current, newValue)) {
+                return true;
+            }
+            backoff = backoff(backoff);
+            current = value;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the summand and returns the previous value
+     *
+     * @param summand summand
+     * @return previous value
+     * @throws NullPointerException when summand is null
+     */
+    public final R getAndAdd(final R summand) {
+        requireNonNull(summand, "summand");
+        return getAndUpdate(current -> current.add(summand));
+    }
+
+    /**
+     * Adds the summand and returns the new value
+     *
+     * @param summand summand
+     * @return new value
+     * @throws NullPointerException when summand is null
+     */
+    public final R addAndGet(final R summand) {
+        requireNonNull(summand, "summand");
+        return updateAndGet(current -> current.add(summand));
+    }
+
+    /**
+     * Applies the update function and returns the previous value
+     *
+     * <p>The function may be applied several times under contention and must therefore be free of side effects.
+     *
+     * @param updateFunction update function
+     * @return previous value
+     * @throws NullPointerException when updateFunction is null
+     */
+    public final R getAndUpdate(final UnaryOperator<R> updateFunction) {
+        requireNonNull(updateFunction, "updateFunction");
+        var backoff = 1;
+        var current = value;
+        while (!VALUE.compareAndSet(this, current, requireNonNull(updateFunction.apply(current), "newValue"))) {
+            backoff = backoff(backoff);
+            current = value;
+        }
+        return current;
+    }
+
+    /**
+     * Applies the update function and returns the new value
+     *
+     * <p>The function may be applied several times under contention and must therefore be free of side effects.
+     *
+     * @param updateFunction update function
+     * @return new value
+     * @throws NullPointerException when updateFunction is null
+     */
+    public final R updateAndGet(final UnaryOperator<R> updateFunction) {
+        requireNonNull(updateFunction, "updateFunction");
+        var backoff = 1;
+        var current = value;
+        var next = requireNonNull(updateFunction.apply(current), "newValue");
+        while (!VALUE.compareAndSet(this, current, next)) {
+            backoff = backoff(backoff);
+            current = value;
+            next = requireNonNull(updateFunction.apply(current), "newValue");
+        }
+        return next;
+    }
+
+    /**
+     * Applies the accumulator function to the current value and x and returns the previous value
+     *
+     * <p>The function may be applied several times under contention and must therefore be free of side effects.
+     *
+     * @param x x
+     * @param accumulatorFunction accumulator function
+     * @return previous value
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public final R getAndAccumulate(final R x, final BinaryOperator<R> accumulatorFunction) {
+        requireNonNull(x, "x");
+        requireNonNull(accumulatorFunction, "accumulatorFunction");
+        return getAndUpdate(current -> accumulatorFunction.apply(current, x));
+    }
+
+    /**
+     * Applies the accumulator function to the current value and x and returns the new value
+     *
+     * <p>The function may be applied several times under contention and must therefore be free of side effects.
+     *
+     * @param x x
+     * @param accumulatorFunction accumulator function
+     * @return new value
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public final R accumulateAndGet(final R x, final BinaryOperator<R> accumulatorFunction) {
+        requireNonNull(x, "x");
+        requireNonNull(accumulatorFunction, "accumulatorFunction");
+        return updateAndGet(current -> accumulatorFunction.apply(current, x));
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    private static int backoff(final int spins) {
+        for (var i = 0; i < spins; i++) {
+            Thread.onSpinWait();
+        }
+        return Math.min(spins << 1, MAXIMUM_BACKOFF);
+    }
+}
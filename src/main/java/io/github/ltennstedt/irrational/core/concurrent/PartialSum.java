@@ -0,0 +1,142 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import io.github.ltennstedt.irrational.core.numeric.Rational;
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import io.github.ltennstedt.irrational.core.util.Longs;
+import java.math.BigInteger;
+
+/**
+ * Immutable partial sum of rational numbers which is kept over the least common denominator of its summands but is
+ * never reduced
+ *
+ * <p>A partial sum starts based on long and switches permanently to BigInteger as soon as an overflow occurs.
+ */
+sealed interface PartialSum permits PartialSum.LongPartialSum, PartialSum.BigPartialSum {
+    /** 0 */
+    PartialSum ZERO = new LongPartialSum(0L, 1L);
+
+    /**
+     * Returns the sum of this and numerator / denominator
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     * @return partial sum
+     */
+    PartialSum add(long numerator, long denominator);
+
+    /**
+     * Returns the sum of this and numerator / denominator
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     * @return partial sum
+     */
+    PartialSum add(BigInteger numerator, BigInteger denominator);
+
+    /**
+     * Returns the sum of this and the other partial sum
+     *
+     * @param other other
+     * @return partial sum
+     */
+    PartialSum add(PartialSum other);
+
+    /**
+     * Returns the reduced value of this as {@link LongRational} when it fits and as {@link BigRational} otherwise
+     *
+     * @return {@link Rational}
+     */
+    Rational<?> toRational();
+
+    /**
+     * Partial sum based on long
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     */
+    record LongPartialSum(long numerator, long denominator) implements PartialSum {
+        @Override
+        public PartialSum add(final long otherNumerator, final long otherDenominator) {
+            try {
+                if (otherDenominator == denominator) {
+                    return new LongPartialSum(Math.addExact(numerator, otherNumerator), denominator);
+                }
+                final var gcd = Longs.gcd(denominator, otherDenominator);
+                final var factor = otherDenominator / gcd;
+                final var otherFactor = denominator / gcd;
+                return new LongPartialSum(
+                        Math.addExact(
+                                Math.multiplyExact(numerator, factor), Math.multiplyExact(otherNumerator, otherFactor)),
+                        Math.multiplyExact(denominator, factor));
+            } catch (final ArithmeticException e) {
+                return toBig().add(otherNumerator, otherDenominator);
+            }
+        }
+
+        @Override
+        public PartialSum add(final BigInteger otherNumerator, final BigInteger otherDenominator) {
+            return toBig().add(otherNumerator, otherDenominator);
+        }
+
+        @Override
+        public PartialSum add(final PartialSum other) {
+            return other instanceof LongPartialSum longPartialSum
+                    ? add(longPartialSum.numerator, longPartialSum.denominator)
+                    : other.add(numerator, denominator);
+        }
+
+        @Override
+        public Rational<?> toRational() {
+            return LongRational.of(numerator, denominator);
+        }
+
+        private BigPartialSum toBig() {
+            return new BigPartialSum(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+    }
+
+    /**
+     * Partial sum based on BigInteger
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     */
+    record BigPartialSum(BigInteger numerator, BigInteger denominator) implements PartialSum {
+        @Override
+        public PartialSum add(final long otherNumerator, final long otherDenominator) {
+            return add(BigInteger.valueOf(otherNumerator), BigInteger.valueOf(otherDenominator));
+        }
+
+        @Override
+        public PartialSum add(final BigInteger otherNumerator, final BigInteger otherDenominator) {
+            if (otherDenominator.equals(denominator)) {
+                return new BigPartialSum(numerator.add(otherNumerator), denominator);
+            }
+            final var gcd = BigIntegers.gcd(denominator, otherDenominator);
+            final var factor = otherDenominator.divide(gcd);
+            final var otherFactor = denominator.divide(gcd);
+            return new BigPartialSum(
+                    numerator.multiply(factor).add(otherNumerator.multiply(otherFactor)), denominator.multiply(factor));
+        }
+
+        @Override
+        public PartialSum add(final PartialSum other) {
+            return other instanceof BigPartialSum bigPartialSum
+                    ? add(bigPartialSum.numerator, bigPartialSum.denominator)
+                    : other.add(this);
+        }
+
+        @Override
+        public Rational<?> toRational() {
+            final var rational = BigRational.of(numerator, denominator);
+            return rational.numerator().bitLength() < Long.SIZE
+                            && rational.denominator().bitLength() < Long.SIZE
+                    ? LongRational.of(
+                            rational.numerator().longValue(),
+                            rational.denominator().longValue())
+                    : rational;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import io.github.ltennstedt.irrational.core.numeric.Rational;
+import io.github.ltennstedt.irrational.core.util.Longs;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free accumulator of rational numbers for many concurrently adding threads
+ *
+ * <p>Like {@link java.util.concurrent.atomic.LongAdder} the sum is striped across cells which are selected by the
+ * adding thread, so that threads rarely contend on the same cell. Every cell holds an immutable partial sum over the
+ * least common denominator of its summands which is neither reduced nor converted until {@link #sum()} combines all
+ * cells exactly. A cell switches from long to BigInteger when an overflow occurs.
+ *
+ * <p>{@link #sum()} and {@link #reset()} are not atomic snapshots when additions happen concurrently.
+ */
+public final class RationalAdder {
+    /** Number of references between two cells so that cells do not share a cache line */
+    private static final int STRIDE = 16;
+
+    private final AtomicReferenceArray<PartialSum> cells;
+    private final int mask;
+
+    /** No arguments constructor */
+    public RationalAdder() {
+        final var count =
+                Integer.highestOneBit(Math.max(1, 2 * Runtime.getRuntime().availableProcessors() - 1));
+        cells = new AtomicReferenceArray<>(count * STRIDE);
+        mask = count - 1;
+        reset();
+    }
+
+    /**
+     * Adds the summand
+     *
+     * @param summand summand
+     * @throws NullPointerException when summand is null
+     */
+    public void add(final LongRational summand) {
+        requireNonNull(summand, "summand");
+        var index = home();
+        var cell = cells.get(index * STRIDE);
+        while (!cells.compareAndSet(index * STRIDE, cell, cell.add(summand.numerator(), summand.denominator()))) {
+            index = (index + 1) & mask;
+            cell = cells.get(index * STRIDE);
+        }
+    }
+
+    /**
+     * Adds the summand
+     *
+     * @param summand summand
+     * @throws NullPointerException when summand is null
+     */
+    public void add(final BigRational summand) {
+        requireNonNull(summand, "summand");
+        var index = home();
+        var cell = cells.get(index * STRIDE);
+        while (!cells.compareAndSet(index * STRIDE, cell, cell.add(summand.numerator(), summand.denominator()))) {
+            index = (index + 1) & mask;
+            cell = cells.get(index * STRIDE);
+        }
+    }
+
+    /**
+     * Returns the exact sum as {@link LongRational} when it fits and as {@link BigRational} otherwise
+     *
+     * @return sum
+     */
+    public Rational<?> sum() {
+        var sum = PartialSum.ZERO;
+        for (var index = 0; index <= mask; index++) {
+            sum = sum.add(cells.get(index * STRIDE));
+        }
+        return sum.toRational();
+    }
+
+    /** Resets the sum to 0 */
+    public void reset() {
+        for (var index = 0; index <= mask; index++) {
+            cells.set(index * STRIDE, PartialSum.ZERO);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sum().toString();
+    }
+
+    private int home() {
+        return (int) Longs.mix(Thread.currentThread().getId()) & mask;
+    }
+}
@@ -0,0 +1,5 @@
+/** This package provides lock-free concurrent accumulators and references for number types */
+@NullMarked
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import org.jspecify.annotations.NullMarked;
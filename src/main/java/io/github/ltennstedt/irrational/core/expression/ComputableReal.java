@@ -0,0 +1,660 @@
+package io.github.ltennstedt.irrational.core.expression;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable lazy computable real number
+ *
+ * <p>Operations only build a directed acyclic graph over {@link BigRational} leaves. {@link #approximate(int)} returns
+ * an integer a with |a * 2^precision - this| &lt; 2^precision, where smaller precisions are finer. Every node caches
+ * its finest approximation so far and derives coarser ones by rounding the cached one, so repeated requests and shared
+ * subexpressions are only computed once per precision. Operands are approximated only as finely as the result needs,
+ * and square roots refine their own cached approximation by one Newton step, so increasing the precision step by step
+ * reuses the previous work instead of starting from scratch.
+ *
+ * <p>Equality of computable real numbers is undecidable, so comparisons take a tolerance. Approximating an inverse of 0
+ * or the logarithm of 0 does not terminate in reasonable time.
+ */
+public abstract sealed class ComputableReal {
+    /** Maximum absolute value of a precision */
+    public static final int MAX_PRECISION = 1 << 28;
+
+    /** 0 */
+    public static final ComputableReal ZERO = new Constant(BigRational.ZERO);
+
+    /** 1 */
+    public static final ComputableReal ONE = new Constant(BigRational.ONE);
+
+    /** pi which is computed by Machin's formula pi = 16 * atan(1/5) - 4 * atan(1/239) */
+    public static final ComputableReal PI = new ArctangentOfReciprocal(5)
+            .shiftLeft(2)
+            .subtract(new ArctangentOfReciprocal(239))
+            .shiftLeft(2);
+
+    /** e */
+    public static final ComputableReal E = ONE.exp();
+
+    /** ln(2) = 7 * ln(10/9) - 2 * ln(25/24) + 3 * ln(81/80) */
+    private static final ComputableReal LN2 = logNearOne(7L, 10L, 9L)
+            .subtract(logNearOne(2L, 25L, 24L))
+            .add(logNearOne(3L, 81L, 80L));
+
+    /** Precision of the argument range check of exp */
+    private static final int EXP_CHECK_PRECISION = -10;
+
+    /** Precision of the argument range check of log, i.e. sixteenths */
+    private static final int LOG_CHECK_PRECISION = -4;
+
+    private volatile @Nullable Approximation approximation;
+
+    /** No arguments constructor */
+    private ComputableReal() {}
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return ComputableReal
+     * @throws NullPointerException when value is null
+     */
+    public static ComputableReal of(final BigRational value) {
+        requireNonNull(value, "value");
+        return new Constant(value);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return ComputableReal
+     */
+    public static ComputableReal of(final long value) {
+        return new Constant(BigRational.of(BigInteger.valueOf(value)));
+    }
+
+    /**
+     * Returns an integer a with |a * 2^precision - this| &lt; 2^precision
+     *
+     * @param precision binary precision where smaller values are finer
+     * @return approximation
+     * @throws ArithmeticException when the absolute value of precision or of a precision which is needed for an
+     *     operand is greater than {@link #MAX_PRECISION}
+     * @throws IllegalStateException when the radicand of a square root is negative
+     */
+    public BigInteger approximate(final int precision) {
+        if (precision < -MAX_PRECISION || precision > MAX_PRECISION) {
+            throw new ArithmeticException("precision must be between " + -MAX_PRECISION + " and " + MAX_PRECISION
+                    + " but was " + precision);
+        }
+        final var cached = approximation;
+        if (cached != null && cached.precision <= precision) {
+            return scale(cached.value, cached.precision - precision);
+        }
+        final var value = compute(precision);
+        approximation = new Approximation(precision, value);
+        return value;
+    }
+
+    /**
+     * Returns this rounded to scale decimal places
+     *
+     * @param scale scale
+     * @return {@link BigDecimal} which differs from this by less than 10^-scale
+     * @throws ArithmeticException when scale is too large
+     */
+    public BigDecimal toBigDecimal(final int scale) {
+        final var precision = -(int) Math.ceil(scale * Math.log(10D) / Math.log(2D)) - 2;
+        final var value = approximate(precision);
+        final var exact = precision >= 0
+                ? new BigDecimal(value.shiftLeft(precision))
+                : new BigDecimal(value.multiply(BigInteger.valueOf(5L).pow(-precision)), -precision);
+        return exact.setScale(scale, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Compares this to other up to a tolerance
+     *
+     * @param other other
+     * @param precision binary precision of the tolerance
+     * @return -1 or 1 which are always correct, or 0 which is returned when this equals other and never when they
+     *     differ by at least 2^(precision + 1)
+     * @throws NullPointerException when other is null
+     */
+    public int compareTo(final ComputableReal other, final int precision) {
+        requireNonNull(other, "other");
+        final var approximation1 = approximate(precision - 1);
+        final var approximation2 = other.approximate(precision - 1);
+        if (approximation1.compareTo(approximation2.add(BigInteger.ONE)) > 0) {
+            return 1;
+        }
+        return approximation1.compareTo(approximation2.subtract(BigInteger.ONE)) < 0 ? -1 : 0;
+    }
+
+    /**
+     * Returns the signum up to a tolerance
+     *
+     * @param precision binary precision of the tolerance
+     * @return -1 or 1 which are always correct, or 0 which is returned when this is 0 and never when the absolute
+     *     value is at least 2^(precision + 1)
+     */
+    public int signum(final int precision) {
+        final var value = approximate(precision - 1);
+        return value.abs().compareTo(BigInteger.ONE) > 0 ? value.signum() : 0;
+    }
+
+    /**
+     * Returns the negated number
+     *
+     * @return negated number
+     */
+    public ComputableReal negate() {
+        return this instanceof Negation negation ? negation.operand : new Negation(this);
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public ComputableReal add(final ComputableReal summand) {
+        requireNonNull(summand, "summand");
+        return new Sum(this, summand);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public ComputableReal subtract(final ComputableReal subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new Sum(this, subtrahend.negate());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public ComputableReal multiply(final ComputableReal multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return new Product(this, multiplier);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is the constant 0
+     */
+    public ComputableReal divide(final ComputableReal divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor instanceof Constant constant && constant.value.isZero()) {
+            throw new IllegalArgumentException("divisor must be invertible but was 0");
+        }
+        return new Product(this, new Inverse(divisor));
+    }
+
+    /**
+     * Returns the inverse
+     *
+     * @return inverse
+     * @throws IllegalStateException when this is the constant 0
+     */
+    public ComputableReal invert() {
+        if (this instanceof Constant constant && constant.value.isZero()) {
+            throw new IllegalStateException("this must be invertible but was 0");
+        }
+        return new Inverse(this);
+    }
+
+    /**
+     * Returns this * 2^n
+     *
+     * @param n n
+     * @return this * 2^n
+     */
+    public ComputableReal shiftLeft(final int n) {
+        return n == 0 ? this : new Shift(this, n);
+    }
+
+    /**
+     * Returns this / 2^n
+     *
+     * @param n n
+     * @return this / 2^n
+     */
+    public ComputableReal shiftRight(final int n) {
+        return shiftLeft(-n);
+    }
+
+    /**
+     * Returns the square root
+     *
+     * <p>A negative radicand is detected when the square root is approximated.
+     *
+     * @return square root
+     */
+    public ComputableReal sqrt() {
+        return new SquareRoot(this);
+    }
+
+    /**
+     * Returns e^this
+     *
+     * <p>The argument is halved until it is small, and the exponential of the halved argument is squared.
+     *
+     * @return e^this
+     */
+    public ComputableReal exp() {
+        final var rough = approximate(EXP_CHECK_PRECISION);
+        if (rough.abs().compareTo(BigInteger.TWO) > 0) {
+            final var root = shiftRight(1).exp();
+            return root.multiply(root);
+        }
+        return new SmallExponential(this);
+    }
+
+    /**
+     * Returns the natural logarithm
+     *
+     * <p>The argument is moved close to 1 by inversion, square roots and powers of 2 before the series is evaluated.
+     *
+     * @return natural logarithm
+     * @throws IllegalStateException when this is negative at the rough precision of the range check
+     */
+    public ComputableReal log() {
+        final var rough = approximate(LOG_CHECK_PRECISION);
+        if (rough.signum() < 0) {
+            throw new IllegalStateException("this must be positive but was negative");
+        }
+        if (rough.compareTo(BigInteger.valueOf(8L)) <= 0) {
+            return invert().log().negate();
+        }
+        if (rough.compareTo(BigInteger.valueOf(24L)) < 0) {
+            return new LogarithmNearOne(subtract(ONE));
+        }
+        if (rough.compareTo(BigInteger.valueOf(64L)) <= 0) {
+            return sqrt().sqrt().log().shiftLeft(2);
+        }
+        final var exponent = rough.bitLength() - 3;
+        return shiftRight(exponent).log().add(of(exponent).multiply(LN2));
+    }
+
+    /**
+     * Computes an approximation at the precision
+     *
+     * @param precision precision
+     * @return approximation
+     */
+    abstract BigInteger compute(int precision);
+
+    /**
+     * Returns the position of the most significant bit m with 2^(m - 1) &lt; |this| &lt; 2^(m + 1), or
+     * {@link Integer#MIN_VALUE} when |this| is less than about 2^n
+     *
+     * @param n precision of the check
+     * @return position
+     */
+    final int mostSignificantBit(final int n) {
+        final var cached = approximation;
+        if (cached != null && cached.value.abs().compareTo(BigInteger.ONE) > 0) {
+            return bitPosition(cached.precision, cached.value);
+        }
+        final var value = approximate(n - 1);
+        return value.abs().compareTo(BigInteger.ONE) > 0 ? bitPosition(n - 1, value) : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the position of the most significant bit with increasingly fine precisions until it is found
+     *
+     * @return position
+     */
+    final int mostSignificantBit() {
+        var precision = 0;
+        var result = mostSignificantBit(precision);
+        while (result == Integer.MIN_VALUE) {
+            precision = Math.max(precision * 3 / 2 - 16, -MAX_PRECISION);
+            result = mostSignificantBit(precision);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the most significant bit of value * 2^precision
+     *
+     * @param precision precision
+     * @param value value
+     * @return position
+     */
+    static int bitPosition(final int precision, final BigInteger value) {
+        return precision + value.abs().bitLength() - 1;
+    }
+
+    /**
+     * Returns value * 2^n rounded to the nearest integer
+     *
+     * @param value value
+     * @param n n
+     * @return rounded value
+     */
+    static BigInteger scale(final BigInteger value, final int n) {
+        if (n >= 0) {
+            return value.shiftLeft(n);
+        }
+        return value.shiftLeft(n + 1).add(BigInteger.ONE).shiftRight(1);
+    }
+
+    /**
+     * Returns a conservative upper bound of log2(|n| + 1)
+     *
+     * @param n n
+     * @return bound
+     */
+    static int log2Bound(final int n) {
+        return 32 - Integer.numberOfLeadingZeros(Math.abs(n));
+    }
+
+    private static ComputableReal logNearOne(final long factor, final long numerator, final long denominator) {
+        final var fraction = BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        return of(factor).multiply(new LogarithmNearOne(of(fraction.subtract(BigRational.ONE))));
+    }
+
+    /**
+     * Finest approximation so far
+     *
+     * @param precision precision
+     * @param value approximation
+     */
+    private record Approximation(int precision, BigInteger value) {}
+
+    private static final class Constant extends ComputableReal {
+        private final BigRational value;
+
+        Constant(final BigRational value) {
+            this.value = value;
+        }
+
+        @Override
+        BigInteger compute(final int precision) {
+            var numerator = value.numerator().abs();
+            var denominator = value.denominator();
+            if (precision >= 0) {
+                denominator = denominator.shiftLeft(precision);
+            } else {
+                numerator = numerator.shiftLeft(-precision);
+            }
+            final var result = numerator.shiftLeft(1).add(denominator).divide(denominator.shiftLeft(1));
+            return value.signum() < 0 ? result.negate() : result;
+        }
+    }
+
+    private static final class Negation extends ComputableReal {
+        private final ComputableReal operand;
+
+        Negation(final ComputableReal operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        BigInteger compute(final int precision) {
+            return operand.approximate(precision).negate();
+        }
+    }
+
+    private static final class Shift extends ComputableReal {
+        private final ComputableReal operand;
+        private final int n;
+
+        Shift(final ComputableReal operand, final int n) {
+            this.operand = operand;
+            this.n = n;
+        }
+
+        @Override
+        BigInteger compute(final int precision) {
+            return operand.approximate(precision - n);
+        }
+    }
+
+    private static final class Sum extends ComputableReal {
+        private final ComputableReal left;
+        private final ComputableReal right;
+
+        Sum(final ComputableReal left, final ComputableReal right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        /** Adds approximations with two guard bits, so that both errors and the rounding stay below 1 */
+        @Override
+        BigInteger compute(final int precision) {
+            return scale(left.approximate(precision - 2).add(right.approximate(precision - 2)), -2);
+        }
+    }
+
+    private static final class Product extends ComputableReal {
+        private final ComputableReal left;
+        private final ComputableReal right;
+
+        Product(final ComputableReal left, final ComputableReal right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Approximates every factor only as finely as the magnitude of the other factor requires, starting with the
+         * factor whose magnitude is known at half the precision
+         */
+        @Override
+        BigInteger compute(final int precision) {
+            final var halfPrecision = (precision >> 1) - 1;
+            var first = left;
+            var second = right;
+            var firstBit = first.mostSignificantBit(halfPrecision);
+            if (firstBit == Integer.MIN_VALUE) {
+                firstBit = second.mostSignificantBit(halfPrecision);
+                if (firstBit == Integer.MIN_VALUE) {
+                    return BigInteger.ZERO;
+                }
+                first = right;
+                second = left;
+            }
+            final var secondPrecision = precision - firstBit - 3;
+            final var secondValue = second.approximate(secondPrecision);
+            if (secondValue.signum() == 0) {
+                return BigInteger.ZERO;
+            }
+            final var firstPrecision = precision - bitPosition(secondPrecision, secondValue) - 3;
+            final var firstValue = first.approximate(firstPrecision);
+            return scale(firstValue.multiply(secondValue), firstPrecision + secondPrecision - precision);
+        }
+    }
+
+    private static final class Inverse extends ComputableReal {
+        private final ComputableReal operand;
+
+        Inverse(final ComputableReal operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        BigInteger compute(final int precision) {
+            final var operandBit = operand.mostSignificantBit();
+            final var digits = 1 - operandBit - precision + 3;
+            final var operandPrecision = operandBit - digits;
+            final var shift = -precision - operandPrecision;
+            if (shift < 0) {
+                return BigInteger.ZERO;
+            }
+            final var divisor = operand.approximate(operandPrecision);
+            final var magnitude = divisor.abs();
+            final var result = BigInteger.ONE.shiftLeft(shift).add(magnitude.shiftRight(1)).divide(magnitude);
+            return divisor.signum() < 0 ? result.negate() : result;
+        }
+    }
+
+    private static final class SquareRoot extends ComputableReal {
+        /** Number of result bits up to which a double square root is accurate enough */
+        private static final int DOUBLE_BITS = 50;
+
+        /** Number of radicand bits which are converted to double */
+        private static final int RADICAND_BITS = 60;
+
+        private final ComputableReal operand;
+
+        SquareRoot(final ComputableReal operand) {
+            this.operand = operand;
+        }
+
+        /**
+         * Starts with a double square root and refines the cached approximation at about half the precision by one
+         * Newton step, which doubles the number of correct bits
+         */
+        @Override
+        BigInteger compute(final int precision) {
+            final var radicandBit = operand.mostSignificantBit(2 * precision - 1);
+            if (radicandBit <= 2 * precision - 1) {
+                return BigInteger.ZERO;
+            }
+            final var resultBit = radicandBit / 2;
+            final var resultDigits = resultBit - precision;
+            if (resultDigits > DOUBLE_BITS) {
+                final var previousPrecision = resultBit - (resultDigits / 2 + 6);
+                final var previous = approximate(previousPrecision);
+                final var radicand = operand.approximate(2 * previousPrecision);
+                final var numerator = scale(previous.multiply(previous).add(radicand), previousPrecision - precision);
+                return numerator.divide(previous).add(BigInteger.ONE).shiftRight(1);
+            }
+            final var radicandPrecision = (radicandBit - RADICAND_BITS) & ~1;
+            final var radicand = operand.approximate(radicandPrecision).shiftLeft(RADICAND_BITS).doubleValue();
+            if (radicand < 0D) {
+                throw new IllegalStateException("radicand must not be negative");
+            }
+            final var root = BigInteger.valueOf((long) Math.sqrt(radicand));
+            return root.shiftLeft((radicandPrecision - RADICAND_BITS) / 2 - precision);
+        }
+    }
+
+    private static final class SmallExponential extends ComputableReal {
+        private final ComputableReal operand;
+
+        /**
+         * Constructor
+         *
+         * @param operand operand with an absolute value of at most about 2^-8
+         */
+        SmallExponential(final ComputableReal operand) {
+            this.operand = operand;
+        }
+
+        /** Sums up the Taylor series until the terms are less than 1/16 of the precision */
+        @Override
+        BigInteger compute(final int precision) {
+            if (precision >= 1) {
+                return BigInteger.ZERO;
+            }
+            final var iterations = -precision / 2 + 2;
+            final var calculationPrecision = precision - log2Bound(2 * iterations) - 4;
+            final var operandPrecision = precision - 3;
+            final var operandValue = operand.approximate(operandPrecision);
+            final var one = BigInteger.ONE.shiftLeft(-calculationPrecision);
+            final var maxTruncationError = BigInteger.ONE.shiftLeft(precision - 4 - calculationPrecision);
+            var term = one;
+            var sum = one;
+            var n = 0L;
+            while (term.abs().compareTo(maxTruncationError) >= 0) {
+                n++;
+                term = scale(term.multiply(operandValue), operandPrecision).divide(BigInteger.valueOf(n));
+                sum = sum.add(term);
+            }
+            return scale(sum, calculationPrecision - precision);
+        }
+    }
+
+    private static final class LogarithmNearOne extends ComputableReal {
+        private final ComputableReal operand;
+
+        /**
+         * Constructor for ln(1 + operand)
+         *
+         * @param operand operand with an absolute value of at most about 1/2
+         */
+        LogarithmNearOne(final ComputableReal operand) {
+            this.operand = operand;
+        }
+
+        /** Sums up the Mercator series until the terms are less than 1/16 of the precision */
+        @Override
+        BigInteger compute(final int precision) {
+            if (precision >= 0) {
+                return BigInteger.ZERO;
+            }
+            final var calculationPrecision = precision - log2Bound(-2 * precision) - 4;
+            final var operandPrecision = precision - 3;
+            final var operandValue = operand.approximate(operandPrecision);
+            final var maxTruncationError = BigInteger.ONE.shiftLeft(precision - 4 - calculationPrecision);
+            var power = scale(operandValue, operandPrecision - calculationPrecision);
+            var term = power;
+            var sum = term;
+            var n = 1L;
+            while (term.abs().compareTo(maxTruncationError) >= 0) {
+                n++;
+                power = scale(power.multiply(operandValue), operandPrecision);
+                term = power.divide(BigInteger.valueOf(n % 2 == 0 ? -n : n));
+                sum = sum.add(term);
+            }
+            return scale(sum, calculationPrecision - precision);
+        }
+    }
+
+    private static final class ArctangentOfReciprocal extends ComputableReal {
+        private final int n;
+
+        /**
+         * Constructor for atan(1 / n)
+         *
+         * @param n integer greater than 1
+         */
+        ArctangentOfReciprocal(final int n) {
+            this.n = n;
+        }
+
+        /** Sums up the Gregory series until the terms are less than 1/4 of the precision */
+        @Override
+        BigInteger compute(final int precision) {
+            if (precision >= 1) {
+                return BigInteger.ZERO;
+            }
+            final var iterations = -precision / 2 + 2;
+            final var calculationPrecision = precision - log2Bound(2 * iterations) - 2;
+            final var square = BigInteger.valueOf((long) n * n);
+            final var maxTruncationError = BigInteger.ONE.shiftLeft(precision - 2 - calculationPrecision);
+            var power = BigInteger.ONE.shiftLeft(-calculationPrecision).divide(BigInteger.valueOf(n));
+            var term = power;
+            var sum = power;
+            var k = 1L;
+            while (term.abs().compareTo(maxTruncationError) >= 0) {
+                k += 2L;
+                power = power.divide(square);
+                term = power.divide(BigInteger.valueOf(k % 4 == 3 ? -k : k));
+                sum = sum.add(term);
+            }
+            return scale(sum, calculationPrecision - precision);
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package io.github.ltennstedt.irrational.core.expression;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.DoubleInterval;
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable lazy expression over {@link BigRational}
+ *
+ * <p>Operations only build a directed acyclic graph. {@link #evaluate()} computes every node once as an unreduced
+ * fraction in post-order with an explicit stack, so that subexpressions which are shared by reference are computed
+ * only once per evaluation and deep graphs do not overflow the call stack. Nested sums which are only referenced by
+ * their enclosing sum are flattened and their terms are grouped by denominator before they are added. Intermediate
+ * fractions are only reduced when numerator or denominator exceed the reduction threshold, and the result is reduced
+ * once at the end.
+ *
+ * <p>{@link #bounds()} encloses the value in a {@link DoubleInterval} in the same way. {@link #signum()} and
+ * {@link #compare(Expr, Expr)} only evaluate exactly when the enclosure contains 0, and divisors are only evaluated
+ * exactly when their enclosure contains 0.
+ */
+public abstract sealed class Expr {
+    /** Default bit length of numerator or denominator above which intermediate fractions are reduced */
+    public static final int DEFAULT_REDUCTION_THRESHOLD = 1024;
+
+    /** No arguments constructor */
+    private Expr() {}
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return Expr
+     * @throws NullPointerException when value is null
+     */
+    public static Expr of(final BigRational value) {
+        requireNonNull(value, "value");
+        return new Constant(new Fraction(value.numerator(), value.denominator()), DoubleInterval.of(value));
+    }
+
+    /**
+     * Compares the values of a and b
+     *
+     * @param a a
+     * @param b b
+     * @return -1, 0 or 1 when the value of a is less than, equal to or greater than the value of b
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when a divisor is not invertible
+     */
+    public static int compare(final Expr a, final Expr b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        return a.subtract(b).signum();
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public Expr add(final Expr summand) {
+        requireNonNull(summand, "summand");
+        return new Sum(this, summand);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public Expr subtract(final Expr subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new Sum(this, subtrahend.negate());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public Expr multiply(final Expr multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return new Product(this, multiplier);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     */
+    public Expr divide(final Expr divisor) {
+        requireNonNull(divisor, "divisor");
+        return new Quotient(this, divisor);
+    }
+
+    /**
+     * Returns the negated expression
+     *
+     * @return negated expression
+     */
+    public Expr negate() {
+        return this instanceof Negation negation ? negation.operand : new Negation(this);
+    }
+
+    /**
+     * Evaluates this with the {@link #DEFAULT_REDUCTION_THRESHOLD}
+     *
+     * @return value
+     * @throws IllegalArgumentException when a divisor is not invertible
+     */
+    public BigRational evaluate() {
+        return evaluate(DEFAULT_REDUCTION_THRESHOLD);
+    }
+
+    /**
+     * Evaluates this
+     *
+     * @param reductionThreshold bit length of numerator or denominator above which intermediate fractions are reduced
+     * @return value
+     * @throws IllegalArgumentException when reductionThreshold is not positive or a divisor is not invertible
+     */
+    public BigRational evaluate(final int reductionThreshold) {
+        if (reductionThreshold < 1) {
+            throw new IllegalArgumentException("reductionThreshold must be positive but was " + reductionThreshold);
+        }
+        final var fraction = new Evaluation(this, reductionThreshold).evaluate(this);
+        return BigRational.of(fraction.numerator, fraction.denominator);
+    }
+
+    /**
+     * Returns an interval of doubles which encloses the value
+     *
+     * @return {@link DoubleInterval}
+     * @throws IllegalArgumentException when a divisor is not invertible
+     */
+    public DoubleInterval bounds() {
+        return new Evaluation(this, DEFAULT_REDUCTION_THRESHOLD).enclose(this);
+    }
+
+    /**
+     * Returns the signum of the value
+     *
+     * <p>The value is only evaluated exactly when its enclosure contains 0.
+     *
+     * @return -1, 0 or 1 when the value is negative, 0 or positive
+     * @throws IllegalArgumentException when a divisor is not invertible
+     */
+    public int signum() {
+        final var evaluation = new Evaluation(this, DEFAULT_REDUCTION_THRESHOLD);
+        final var bounds = evaluation.enclose(this);
+        if (bounds.isPositive()) {
+            return 1;
+        }
+        if (bounds.isNegative()) {
+            return -1;
+        }
+        return bounds.isZero() ? 0 : evaluation.evaluate(this).numerator.signum();
+    }
+
+    /**
+     * Returns the operands of this
+     *
+     * @return operands
+     */
+    abstract List<Expr> operands();
+
+    /**
+     * Returns the nodes which must be cached before this can be computed
+     *
+     * @param evaluation {@link Evaluation}
+     * @param cache values or enclosures which have already been computed
+     * @return dependencies
+     */
+    List<Expr> dependencies(final Evaluation evaluation, final Map<Expr, ?> cache) {
+        return operands();
+    }
+
+    /**
+     * Computes the unreduced value of this from the cached values of its dependencies
+     *
+     * @param evaluation {@link Evaluation}
+     * @return unreduced value
+     */
+    abstract Fraction compute(Evaluation evaluation);
+
+    /**
+     * Computes an interval which encloses the value of this from the cached enclosures of its dependencies
+     *
+     * @param evaluation {@link Evaluation}
+     * @return {@link DoubleInterval}
+     */
+    abstract DoubleInterval computeBounds(Evaluation evaluation);
+
+    /**
+     * Unreduced fraction with positive denominator
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     */
+    record Fraction(BigInteger numerator, BigInteger denominator) {}
+
+    /**
+     * State of one evaluation which caches the value and the enclosure of every evaluated node by identity
+     *
+     * <p>The number of parents of every node of the graph is counted up front, so that sums only flatten nested sums
+     * which no other node refers to.
+     */
+    static final class Evaluation {
+        private final Map<Expr, Integer> parents = new IdentityHashMap<>();
+        private final Map<Expr, Fraction> values = new IdentityHashMap<>();
+        private final Map<Expr, DoubleInterval> enclosures = new IdentityHashMap<>();
+        private final int reductionThreshold;
+
+        Evaluation(final Expr root, final int reductionThreshold) {
+            this.reductionThreshold = reductionThreshold;
+            parents.put(root, 0);
+            final var pending = new ArrayDeque<Expr>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                for (final var operand : pending.pop().operands()) {
+                    if (parents.merge(operand, 1, Integer::sum) == 1) {
+                        pending.push(operand);
+                    }
+                }
+            }
+        }
+
+        Fraction evaluate(final Expr expr) {
+            return walk(expr, values, node -> node.compute(this));
+        }
+
+        DoubleInterval enclose(final Expr expr) {
+            return walk(expr, enclosures, node -> node.computeBounds(this));
+        }
+
+        /**
+         * Indicates if a sum is flattened into its only parent instead of being computed and cached on its own
+         *
+         * @param sum sum
+         * @param cache values or enclosures which have already been computed
+         * @return boolean
+         */
+        boolean isFlattened(final Sum sum, final Map<Expr, ?> cache) {
+            return parents.getOrDefault(sum, 0) == 1 && !cache.containsKey(sum);
+        }
+
+        Fraction reduceIfLarge(final BigInteger numerator, final BigInteger denominator) {
+            if (numerator.bitLength() <= reductionThreshold && denominator.bitLength() <= reductionThreshold) {
+                return new Fraction(numerator, denominator);
+            }
+            final var gcd = BigIntegers.gcd(numerator, denominator);
+            return gcd.equals(BigInteger.ONE)
+                    ? new Fraction(numerator, denominator)
+                    : new Fraction(numerator.divide(gcd), denominator.divide(gcd));
+        }
+
+        /**
+         * Computes root and every dependency which is not cached yet in post-order with an explicit stack
+         *
+         * @param root root
+         * @param cache cache of the computed results
+         * @param computation computation of a node whose dependencies are cached
+         * @param <T> type of the results
+         * @return result of root
+         */
+        private <T> T walk(final Expr root, final Map<Expr, T> cache, final Function<Expr, T> computation) {
+            var result = cache.get(root);
+            final var pending = new ArrayDeque<Expr>();
+            if (result == null) {
+                pending.push(root);
+            }
+            while (!pending.isEmpty()) {
+                final var expr = pending.peek();
+                if (cache.containsKey(expr)) {
+                    pending.pop();
+                } else {
+                    var ready = true;
+                    for (final var dependency : expr.dependencies(this, cache)) {
+                        if (!cache.containsKey(dependency)) {
+                            pending.push(dependency);
+                            ready = false;
+                        }
+                    }
+                    if (ready) {
+                        pending.pop();
+                        final var value = computation.apply(expr);
+                        cache.put(expr, value);
+                        if (expr == root) {
+                            result = value;
+                        }
+                    }
+                }
+            }
+            return requireNonNull(result, "result");
+        }
+    }
+
+    private static final class Constant extends Expr {
+        private final Fraction value;
+        private final DoubleInterval enclosure;
+
+        Constant(final Fraction value, final DoubleInterval enclosure) {
+            this.value = value;
+            this.enclosure = enclosure;
+        }
+
+        @Override
+        List<Expr> operands() {
+            return List.of();
+        }
+
+        @Override
+        Fraction compute(final Evaluation evaluation) {
+            return value;
+        }
+
+        @Override
+        DoubleInterval computeBounds(final Evaluation evaluation) {
+            return enclosure;
+        }
+    }
+
+    private static final class Negation extends Expr {
+        private final Expr operand;
+
+        Negation(final Expr operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        List<Expr> operands() {
+            return List.of(operand);
+        }
+
+        @Override
+        Fraction compute(final Evaluation evaluation) {
+            final var value = evaluation.evaluate(operand);
+            return new Fraction(value.numerator.negate(), value.denominator);
+        }
+
+        @Override
+        DoubleInterval computeBounds(final Evaluation evaluation) {
+            return evaluation.enclose(operand).negate();
+        }
+    }
+
+    private static final class Sum extends Expr {
+        private final Expr left;
+        private final Expr right;
+
+        Sum(final Expr left, final Expr right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        List<Expr> operands() {
+            return List.of(left, right);
+        }
+
+        /** Returns the terms of this, i.e. the operands after flattening nested sums which only this refers to */
+        @Override
+        List<Expr> dependencies(final Evaluation evaluation, final Map<Expr, ?> cache) {
+            final var terms = new ArrayList<Expr>();
+            final var pending = new ArrayDeque<Expr>();
+            pending.push(right);
+            pending.push(left);
+            while (!pending.isEmpty()) {
+                final var term = pending.pop();
+                if (term instanceof Sum sum && evaluation.isFlattened(sum, cache)) {
+                    pending.push(sum.right);
+                    pending.push(sum.left);
+                } else {
+                    terms.add(term);
+                }
+            }
+            return terms;
+        }
+
+        /** Sums up the numerators of terms with equal denominators and then adds the groups */
+        @Override
+        Fraction compute(final Evaluation evaluation) {
+            final var groups = new LinkedHashMap<BigInteger, BigInteger>();
+            for (final var term : dependencies(evaluation, evaluation.values)) {
+                final var value = evaluation.evaluate(term);
+                groups.merge(value.denominator, value.numerator, BigInteger::add);
+            }
+            var numerator = BigInteger.ZERO;
+            var denominator = BigInteger.ONE;
+            for (final var group : groups.entrySet()) {
+                final var fraction = evaluation.reduceIfLarge(
+                        numerator.multiply(group.getKey()).add(group.getValue().multiply(denominator)),
+                        denominator.multiply(group.getKey()));
+                numerator = fraction.numerator;
+                denominator = fraction.denominator;
+            }
+            return new Fraction(numerator, denominator);
+        }
+
+        /** Adds the enclosures of the terms */
+        @Override
+        DoubleInterval computeBounds(final Evaluation evaluation) {
+            var result = DoubleInterval.ZERO;
+            for (final var term : dependencies(evaluation, evaluation.enclosures)) {
+                result = result.add(evaluation.enclose(term));
+            }
+            return result;
+        }
+    }
+
+    private static final class Product extends Expr {
+        private final Expr left;
+        private final Expr right;
+
+        Product(final Expr left, final Expr right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        List<Expr> operands() {
+            return List.of(left, right);
+        }
+
+        @Override
+        Fraction compute(final Evaluation evaluation) {
+            final var leftValue = evaluation.evaluate(left);
+            final var rightValue = evaluation.evaluate(right);
+            return evaluation.reduceIfLarge(
+                    leftValue.numerator.multiply(rightValue.numerator),
+                    leftValue.denominator.multiply(rightValue.denominator));
+        }
+
+        @Override
+        DoubleInterval computeBounds(final Evaluation evaluation) {
+            return evaluation.enclose(left).multiply(evaluation.enclose(right));
+        }
+    }
+
+    private static final class Quotient extends Expr {
+        private final Expr dividend;
+        private final Expr divisor;
+
+        Quotient(final Expr dividend, final Expr divisor) {
+            this.dividend = dividend;
+            this.divisor = divisor;
+        }
+
+        @Override
+        List<Expr> operands() {
+            return List.of(dividend, divisor);
+        }
+
+        @Override
+        Fraction compute(final Evaluation evaluation) {
+            final var dividendValue = evaluation.evaluate(dividend);
+            final var divisorValue = evaluation.evaluate(divisor);
+            checkInvertible(divisorValue);
+            final var numerator = dividendValue.numerator.multiply(divisorValue.denominator);
+            final var denominator = dividendValue.denominator.multiply(divisorValue.numerator);
+            return denominator.signum() < 0
+                    ? evaluation.reduceIfLarge(numerator.negate(), denominator.negate())
+                    : evaluation.reduceIfLarge(numerator, denominator);
+        }
+
+        /** Evaluates the divisor exactly when its enclosure contains 0, so that a divisor of 0 is always detected */
+        @Override
+        DoubleInterval computeBounds(final Evaluation evaluation) {
+            var divisorBounds = evaluation.enclose(divisor);
+            if (divisorBounds.contains(0D)) {
+                final var divisorValue = evaluation.evaluate(divisor);
+                checkInvertible(divisorValue);
+                divisorBounds = DoubleInterval.of(BigRational.of(divisorValue.numerator, divisorValue.denominator));
+            }
+            return evaluation.enclose(dividend).divide(divisorBounds);
+        }
+
+        private static void checkInvertible(final Fraction divisorValue) {
+            if (divisorValue.numerator.signum() == 0) {
+                throw new IllegalArgumentException("divisor must be invertible but was 0");
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/** This package provides lazy expressions over number types */
+@NullMarked
+package io.github.ltennstedt.irrational.core.expression;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,421 @@
+package io.github.ltennstedt.irrational.core.internal;
+
+/**
+ * Kernels over double arrays which are shared by the double vectors, matrices and packed complex arrays
+ *
+ * <p>This class is the scalar implementation. A multi-release jar additionally contains an implementation for Java 21
+ * and later which uses explicit SIMD lanes of the incubating Vector API. It is chosen once when this class is
+ * initialized if the module jdk.incubator.vector is resolved, e.g. by {@code --add-modules jdk.incubator.vector}, and
+ * the system property {@value #SCALAR_PROPERTY} is not true. Reductions of both implementations sum in different
+ * orders, so that their results may differ in the last bits. Arguments are not validated.
+ */
+public class DoubleKernels {
+    /** Name of the system property which forces the scalar implementation */
+    public static final String SCALAR_PROPERTY = "io.github.ltennstedt.irrational.scalarKernels";
+
+    /** Implementation which is chosen at class initialization */
+    public static final DoubleKernels INSTANCE = load();
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final String VECTORIZED_CLASS =
+            "io.github.ltennstedt.irrational.core.internal.VectorizedDoubleKernels";
+
+    /** No arguments constructor */
+    protected DoubleKernels() {
+        // only subclasses and the loader instantiate
+    }
+
+    /**
+     * Returns a new instance of the scalar implementation
+     *
+     * @return scalar implementation
+     */
+    public static DoubleKernels scalar() {
+        return new DoubleKernels();
+    }
+
+    /**
+     * Indicates if this uses explicit SIMD lanes
+     *
+     * @return boolean
+     */
+    public boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Returns the dot product of the ranges of a and b
+     *
+     * @param a a
+     * @param aOffset offset in a
+     * @param b b
+     * @param bOffset offset in b
+     * @param length length of the ranges
+     * @return dot product
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public double dot(final double[] a, final int aOffset, final double[] b, final int bOffset, final int length) {
+        var sum0 = 0D;
+        var sum1 = 0D;
+        var sum2 = 0D;
+        var sum3 = 0D;
+        final var end = length & ~3;
+        var i = 0;
+        for (; i < end; i += 4) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+            sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum0 + sum1 + (sum2 + sum3);
+    }
+
+    /**
+     * Adds factor * x to y in place on the ranges, i.e. axpy
+     *
+     * @param factor factor
+     * @param x x
+     * @param xOffset offset in x
+     * @param y y
+     * @param yOffset offset in y
+     * @param length length of the ranges
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void axpy(
+            final double factor,
+            final double[] x,
+            final int xOffset,
+            final double[] y,
+            final int yOffset,
+            final int length) {
+        for (var i = 0; i < length; i++) {
+            y[yOffset + i] += factor * x[xOffset + i];
+        }
+    }
+
+    /**
+     * Adds the product of the row-major blocks A with rows x depth and B with depth x columns to the row-major block C
+     * with rows x columns in place, i.e. the micro-kernel of a matrix multiplication
+     *
+     * <p>Every entry of C is accumulated as c + a0 * b0 + a1 * b1 + ... in the order of depth, so that the result does
+     * not depend on the implementation or on how a caller blocks rows and columns.
+     *
+     * @param a a
+     * @param aOffset offset of the first entry of A
+     * @param aStride distance between rows of A
+     * @param b b
+     * @param bOffset offset of the first entry of B
+     * @param bStride distance between rows of B
+     * @param c c
+     * @param cOffset offset of the first entry of C
+     * @param cStride distance between rows of C
+     * @param rows number of rows of A and C
+     * @param columns number of columns of B and C
+     * @param depth number of columns of A and rows of B
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void multiplyAdd(
+            final double[] a,
+            final int aOffset,
+            final int aStride,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int cStride,
+            final int rows,
+            final int columns,
+            final int depth) {
+        final var tileRows = rows & ~3;
+        final var tileColumns = columns & ~3;
+        for (var i = 0; i < tileRows; i += 4) {
+            for (var j = 0; j < tileColumns; j += 4) {
+                multiplyAddTile(
+                        a,
+                        aOffset + i * aStride,
+                        aStride,
+                        b,
+                        bOffset + j,
+                        bStride,
+                        c,
+                        cOffset + i * cStride + j,
+                        cStride,
+                        depth);
+            }
+            for (var row = i; row < i + 4; row++) {
+                multiplyAddRow(
+                        a,
+                        aOffset + row * aStride,
+                        b,
+                        bOffset + tileColumns,
+                        bStride,
+                        c,
+                        cOffset + row * cStride + tileColumns,
+                        columns - tileColumns,
+                        depth);
+            }
+        }
+        for (var row = tileRows; row < rows; row++) {
+            multiplyAddRow(a, aOffset + row * aStride, b, bOffset, bStride, c, cOffset + row * cStride, columns, depth);
+        }
+    }
+
+    /**
+     * Writes factor * x + y into result
+     *
+     * @param factor factor
+     * @param x x
+     * @param y y
+     * @param result result with the length of x and y
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void addScaled(final double factor, final double[] x, final double[] y, final double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = factor * x[i] + y[i];
+        }
+    }
+
+    /**
+     * Writes a + b into result
+     *
+     * @param a a
+     * @param b b
+     * @param result result with the length of a and b
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void add(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Writes a - b into result
+     *
+     * @param a a
+     * @param b b
+     * @param result result with the length of a and b
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void subtract(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * Writes the element-wise product of a and b into result
+     *
+     * @param a a
+     * @param b b
+     * @param result result with the length of a and b
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void multiply(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * Writes factor * a into result
+     *
+     * @param factor factor
+     * @param a a
+     * @param result result with the length of a
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void scale(final double factor, final double[] a, final double[] result) {
+        for (var i = 0; i < result.length; i++) {
+            result[i] = factor * a[i];
+        }
+    }
+
+    /**
+     * Multiplies the interleaved complex numbers of a in place with those of b or their conjugates
+     *
+     * @param a interleaved real and imaginary parts
+     * @param b interleaved real and imaginary parts with the length of a
+     * @param conjugate if b is conjugated
+     */
+    public void multiplyComplex(final double[] a, final double[] b, final boolean conjugate) {
+        multiplyComplex(a, b, conjugate, 0);
+    }
+
+    /**
+     * Multiplies the interleaved complex numbers of a in place with those of b or their conjugates from the index on
+     *
+     * @param a interleaved real and imaginary parts
+     * @param b interleaved real and imaginary parts with the length of a
+     * @param conjugate if b is conjugated
+     * @param from even index of the first real part
+     */
+    protected void multiplyComplex(final double[] a, final double[] b, final boolean conjugate, final int from) {
+        if (conjugate) {
+            for (var i = from; i < a.length; i += 2) {
+                final var real = a[i] * b[i] + a[i + 1] * b[i + 1];
+                final var imaginary = a[i + 1] * b[i] - a[i] * b[i + 1];
+                a[i] = real;
+                a[i + 1] = imaginary;
+            }
+        } else {
+            for (var i = from; i < a.length; i += 2) {
+                final var real = a[i] * b[i] - a[i + 1] * b[i + 1];
+                final var imaginary = a[i] * b[i + 1] + a[i + 1] * b[i];
+                a[i] = real;
+                a[i + 1] = imaginary;
+            }
+        }
+    }
+
+    /**
+     * Adds (scaleReal + scaleImaginary * i) * b to a in place on interleaved complex numbers
+     *
+     * @param scaleReal real part of the scale
+     * @param scaleImaginary imaginary part of the scale
+     * @param b interleaved real and imaginary parts with the length of a
+     * @param a interleaved real and imaginary parts
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public void addScaledComplex(
+            final double scaleReal, final double scaleImaginary, final double[] b, final double[] a) {
+        addScaledComplex(scaleReal, scaleImaginary, b, a, 0);
+    }
+
+    /**
+     * Adds (scaleReal + scaleImaginary * i) * b to a in place on interleaved complex numbers from the index on
+     *
+     * @param scaleReal real part of the scale
+     * @param scaleImaginary imaginary part of the scale
+     * @param b interleaved real and imaginary parts with the length of a
+     * @param a interleaved real and imaginary parts
+     * @param from even index of the first real part
+     */
+    protected void addScaledComplex(
+            final double scaleReal, final double scaleImaginary, final double[] b, final double[] a, final int from) {
+        for (var i = from; i < a.length; i += 2) {
+            a[i] += scaleReal * b[i] - scaleImaginary * b[i + 1];
+            a[i + 1] += scaleReal * b[i + 1] + scaleImaginary * b[i];
+        }
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static void multiplyAddTile(
+            final double[] a,
+            final int aOffset,
+            final int aStride,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int cStride,
+            final int depth) {
+        final var c1 = cOffset + cStride;
+        final var c2 = c1 + cStride;
+        final var c3 = c2 + cStride;
+        var c00 = c[cOffset];
+        var c01 = c[cOffset + 1];
+        var c02 = c[cOffset + 2];
+        var c03 = c[cOffset + 3];
+        var c10 = c[c1];
+        var c11 = c[c1 + 1];
+        var c12 = c[c1 + 2];
+        var c13 = c[c1 + 3];
+        var c20 = c[c2];
+        var c21 = c[c2 + 1];
+        var c22 = c[c2 + 2];
+        var c23 = c[c2 + 3];
+        var c30 = c[c3];
+        var c31 = c[c3 + 1];
+        var c32 = c[c3 + 2];
+        var c33 = c[c3 + 3];
+        final var a1 = aOffset + aStride;
+        final var a2 = a1 + aStride;
+        final var a3 = a2 + aStride;
+        for (var p = 0; p < depth; p++) {
+            final var bRow = bOffset + p * bStride;
+            final var b0 = b[bRow];
+            final var b1 = b[bRow + 1];
+            final var b2 = b[bRow + 2];
+            final var b3 = b[bRow + 3];
+            final var x0 = a[aOffset + p];
+            c00 += x0 * b0;
+            c01 += x0 * b1;
+            c02 += x0 * b2;
+            c03 += x0 * b3;
+            final var x1 = a[a1 + p];
+            c10 += x1 * b0;
+            c11 += x1 * b1;
+            c12 += x1 * b2;
+            c13 += x1 * b3;
+            final var x2 = a[a2 + p];
+            c20 += x2 * b0;
+            c21 += x2 * b1;
+            c22 += x2 * b2;
+            c23 += x2 * b3;
+            final var x3 = a[a3 + p];
+            c30 += x3 * b0;
+            c31 += x3 * b1;
+            c32 += x3 * b2;
+            c33 += x3 * b3;
+        }
+        c[cOffset] = c00;
+        c[cOffset + 1] = c01;
+        c[cOffset + 2] = c02;
+        c[cOffset + 3] = c03;
+        c[c1] = c10;
+        c[c1 + 1] = c11;
+        c[c1 + 2] = c12;
+        c[c1 + 3] = c13;
+        c[c2] = c20;
+        c[c2 + 1] = c21;
+        c[c2 + 2] = c22;
+        c[c2 + 3] = c23;
+        c[c3] = c30;
+        c[c3 + 1] = c31;
+        c[c3 + 2] = c32;
+        c[c3 + 3] = c33;
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static void multiplyAddRow(
+            final double[] a,
+            final int aOffset,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int columns,
+            final int depth) {
+        for (var p = 0; p < depth; p++) {
+            final var factor = a[aOffset + p];
+            final var bRow = bOffset + p * bStride;
+            for (var j = 0; j < columns; j++) {
+                c[cOffset + j] += factor * b[bRow + j];
+            }
+        }
+    }
+
+    private static DoubleKernels load() {
+        if (Boolean.getBoolean(SCALAR_PROPERTY)) {
+            return new DoubleKernels();
+        }
+        final var vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE);
+        if (vectorModule.isEmpty()) {
+            return new DoubleKernels();
+        }
+        try {
+            DoubleKernels.class.getModule().addReads(vectorModule.get());
+            return (DoubleKernels) Class.forName(VECTORIZED_CLASS).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return new DoubleKernels();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/** This package provides internal implementations which are not exported */
+@NullMarked
+package io.github.ltennstedt.irrational.core.internal;
+
+import org.jspecify.annotations.NullMarked;
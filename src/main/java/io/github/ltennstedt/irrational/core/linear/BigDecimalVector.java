@@ -0,0 +1,332 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable vector of {@link BigDecimal} which is backed by a flat array
+ *
+ * <p>All operations without {@link MathContext} are exact. Operations with {@link MathContext} compute the exact
+ * result and round it only once at the end. Instances are created by {@link #of(BigDecimal...)} which copies its
+ * argument or by a {@link Builder} which hands over its array without copying. Like {@link BigDecimal} equals takes
+ * the scale into account.
+ */
+public final class BigDecimalVector {
+    private final BigDecimal[] coordinates;
+
+    private BigDecimalVector(final BigDecimal[] coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param coordinates coordinates
+     * @return BigDecimalVector
+     * @throws NullPointerException when coordinates or one of its coordinates is null
+     */
+    public static BigDecimalVector of(final BigDecimal... coordinates) {
+        requireNonNull(coordinates, "coordinates");
+        final var copy = coordinates.clone();
+        for (final var coordinate : copy) {
+            requireNonNull(coordinate, "coordinate");
+        }
+        return new BigDecimalVector(copy);
+    }
+
+    /**
+     * Returns the zero vector of the size
+     *
+     * @param size size
+     * @return zero vector
+     * @throws IllegalArgumentException when size is negative
+     */
+    public static BigDecimalVector zero(final int size) {
+        return builder(size).build();
+    }
+
+    /**
+     * Returns a {@link Builder} for a vector of the size whose coordinates are initialized with 0
+     *
+     * @param size size
+     * @return {@link Builder}
+     * @throws IllegalArgumentException when size is negative
+     */
+    public static Builder builder(final int size) {
+        Dimensions.checkSize("size", size);
+        return new Builder(size);
+    }
+
+    /**
+     * Returns the number of coordinates
+     *
+     * @return size
+     */
+    public int size() {
+        return coordinates.length;
+    }
+
+    /**
+     * Returns the coordinate at the index
+     *
+     * @param index index
+     * @return coordinate
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public BigDecimal get(final int index) {
+        Dimensions.checkIndex("index", index, coordinates.length);
+        return coordinates[index];
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     * @throws IllegalArgumentException when summand does not have the size of this
+     */
+    public BigDecimalVector add(final BigDecimalVector summand) {
+        final var b = checkSameSize(summand, "summand");
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i].add(b[i]);
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     * @throws IllegalArgumentException when subtrahend does not have the size of this
+     */
+    public BigDecimalVector subtract(final BigDecimalVector subtrahend) {
+        final var b = checkSameSize(subtrahend, "subtrahend");
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i].subtract(b[i]);
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns the element-wise product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return element-wise product
+     * @throws NullPointerException when multiplier is null
+     * @throws IllegalArgumentException when multiplier does not have the size of this
+     */
+    public BigDecimalVector multiply(final BigDecimalVector multiplier) {
+        final var b = checkSameSize(multiplier, "multiplier");
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i].multiply(b[i]);
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns the product of this and the scalar
+     *
+     * @param scalar scalar
+     * @return product
+     * @throws NullPointerException when scalar is null
+     */
+    public BigDecimalVector scale(final BigDecimal scalar) {
+        requireNonNull(scalar, "scalar");
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = scalar.multiply(a[i]);
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns the negated vector
+     *
+     * @return negated vector
+     */
+    public BigDecimalVector negate() {
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i].negate();
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns the exact dot product of this and other
+     *
+     * @param other other
+     * @return dot product
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public BigDecimal dot(final BigDecimalVector other) {
+        final var b = checkSameSize(other, "other");
+        final var a = coordinates;
+        var sum = BigDecimal.ZERO;
+        for (var i = 0; i < a.length; i++) {
+            sum = sum.add(a[i].multiply(b[i]));
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the dot product of this and other which is rounded once
+     *
+     * @param other other
+     * @param mathContext {@link MathContext}
+     * @return dot product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public BigDecimal dot(final BigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return dot(other).round(mathContext);
+    }
+
+    /**
+     * Returns the Euclidean norm which is rounded once
+     *
+     * @param mathContext {@link MathContext}
+     * @return Euclidean norm
+     * @throws NullPointerException when mathContext is null
+     * @throws ArithmeticException when the precision of mathContext is 0 and the norm is not a terminating decimal
+     */
+    public BigDecimal norm(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return dot(this).sqrt(mathContext);
+    }
+
+    /**
+     * Returns this with all coordinates rounded
+     *
+     * @param mathContext {@link MathContext}
+     * @return rounded vector
+     * @throws NullPointerException when mathContext is null
+     */
+    public BigDecimalVector round(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        final var a = coordinates;
+        final var result = new BigDecimal[a.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = a[i].round(mathContext);
+        }
+        return new BigDecimalVector(result);
+    }
+
+    /**
+     * Returns this as {@link DoubleVector}
+     *
+     * @return {@link DoubleVector}
+     */
+    public DoubleVector toDoubleVector() {
+        final var builder = DoubleVector.builder(coordinates.length);
+        for (var i = 0; i < coordinates.length; i++) {
+            builder.set(i, coordinates[i].doubleValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a copy of the coordinates
+     *
+     * @return coordinates
+     */
+    public BigDecimal[] toArray() {
+        return coordinates.clone();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj || obj instanceof BigDecimalVector other && Arrays.equals(coordinates, other.coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return "BigDecimalVector" + Arrays.toString(coordinates);
+    }
+
+    private BigDecimal[] checkSameSize(final BigDecimalVector other, final String name) {
+        requireNonNull(other, name);
+        if (other.coordinates.length != coordinates.length) {
+            throw new IllegalArgumentException(
+                    name + " must have size " + coordinates.length + " but had size " + other.coordinates.length);
+        }
+        return other.coordinates;
+    }
+
+    /**
+     * Builder of {@link BigDecimalVector}
+     *
+     * <p>{@link #build()} hands the array over to the vector without copying it, so that a builder can only build
+     * once. This class is not thread-safe.
+     */
+    public static final class Builder {
+        private BigDecimal @Nullable [] coordinates;
+
+        private Builder(final int size) {
+            final var array = new BigDecimal[size];
+            Arrays.fill(array, BigDecimal.ZERO);
+            coordinates = array;
+        }
+
+        /**
+         * Sets the coordinate at the index
+         *
+         * @param index index
+         * @param coordinate coordinate
+         * @return this
+         * @throws NullPointerException when coordinate is null
+         * @throws IndexOutOfBoundsException when index is out of bounds
+         * @throws IllegalStateException when this has already been built
+         */
+        public Builder set(final int index, final BigDecimal coordinate) {
+            requireNonNull(coordinate, "coordinate");
+            final var array = checkNotBuilt();
+            Dimensions.checkIndex("index", index, array.length);
+            array[index] = coordinate;
+            return this;
+        }
+
+        /**
+         * Builds the vector
+         *
+         * @return {@link BigDecimalVector}
+         * @throws IllegalStateException when this has already been built
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        public BigDecimalVector build() {
+            final var array = checkNotBuilt();
+            coordinates = null;
+            return new BigDecimalVector(array);
+        }
+
+        private BigDecimal[] checkNotBuilt() {
+            final var array = coordinates;
+            if (array == null) {
+                throw new IllegalStateException("builder must not be used after build");
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+/** Validation of sizes and indices of vectors and matrices */
+final class Dimensions {
+    /** No arguments constructor */
+    private Dimensions() {}
+
+    /**
+     * Checks that the size is not negative
+     *
+     * @param name name of the size
+     * @param size size
+     * @throws IllegalArgumentException when size is negative
+     */
+    static void checkSize(final String name, final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(name + " must not be negative but was " + size);
+        }
+    }
+
+    /**
+     * Checks that the numbers of rows and columns are not negative and returns the number of entries
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return number of entries
+     * @throws IllegalArgumentException when rows or columns is negative or the number of entries exceeds
+     *     {@link Integer#MAX_VALUE}
+     */
+    static int checkEntries(final int rows, final int columns) {
+        checkSize("rows", rows);
+        checkSize("columns", columns);
+        final var entries = (long) rows * columns;
+        if (entries > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "rows * columns must not be greater than " + Integer.MAX_VALUE + " but was " + entries);
+        }
+        return (int) entries;
+    }
+
+    /**
+     * Checks that the index is between 0 inclusive and size exclusive
+     *
+     * @param name name of the index
+     * @param index index
+     * @param size size
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    static void checkIndex(final String name, final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    name + " must be between 0 and " + (size - 1) + " but was " + index);
+        }
+    }
+}
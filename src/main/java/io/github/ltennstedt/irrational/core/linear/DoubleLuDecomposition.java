@@ -0,0 +1,285 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.internal.DoubleKernels;
+
+/**
+ * Immutable LU decomposition with partial pivoting of a square {@link DoubleMatrix}, i.e. P * A = L * U
+ *
+ * <p>The factors are computed in place in a single row-major array in panels of {@value #PANEL} columns. Only the
+ * panels are eliminated row by row. The remaining columns are updated once per panel by the blocked matrix
+ * multiplication of {@link DoubleMatrix}, which also partitions the rows of large updates among several workers. The
+ * solves substitute along the rows of the factors and of the right-hand sides, so that nothing is transposed. A
+ * matrix is singular when a pivot is exactly 0.
+ */
+public final class DoubleLuDecomposition {
+    private static final int PANEL = 64;
+
+    private final int size;
+
+    private final double[] lu;
+
+    private final int[] permutation;
+
+    private final boolean oddPermutation;
+
+    private final boolean singular;
+
+    /**
+     * Decomposes the row-major entries of a square matrix in place
+     *
+     * @param size number of rows and columns
+     * @param entries entries which are overwritten by the factors
+     */
+    DoubleLuDecomposition(final int size, final double[] entries) {
+        this.size = size;
+        lu = entries;
+        permutation = new int[size];
+        for (var i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        var swaps = 0;
+        var zeroPivot = false;
+        final var scratch = new double[Math.min(PANEL, size) * size];
+        for (var k0 = 0; k0 < size; k0 += PANEL) {
+            final var k1 = Math.min(k0 + PANEL, size);
+            for (var k = k0; k < k1; k++) {
+                final var pivotRow = pivotRow(k);
+                if (lu[pivotRow * size + k] == 0D) {
+                    zeroPivot = true;
+                    continue;
+                }
+                if (pivotRow != k) {
+                    swapRows(pivotRow, k);
+                    swaps++;
+                }
+                eliminate(k, k1);
+            }
+            updateTrailing(k0, k1, scratch);
+        }
+        oddPermutation = (swaps & 1) == 1;
+        singular = zeroPivot;
+    }
+
+    /**
+     * Returns the number of rows and columns of the decomposed matrix
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if the decomposed matrix is singular, i.e. if a pivot is 0
+     *
+     * @return boolean
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Returns the determinant, i.e. the signed product of the diagonal of U
+     *
+     * @return determinant
+     */
+    public double determinant() {
+        var result = oddPermutation ? -1D : 1D;
+        for (var i = 0; i < size; i++) {
+            result *= lu[i * size + i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the unit lower triangular factor L
+     *
+     * @return L
+     */
+    public DoubleMatrix lower() {
+        final var builder = DoubleMatrix.builder(size, size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < i; j++) {
+                builder.set(i, j, lu[i * size + j]);
+            }
+            builder.set(i, i, 1D);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the upper triangular factor U
+     *
+     * @return U
+     */
+    public DoubleMatrix upper() {
+        final var builder = DoubleMatrix.builder(size, size);
+        for (var i = 0; i < size; i++) {
+            for (var j = i; j < size; j++) {
+                builder.set(i, j, lu[i * size + j]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the permutation whose element at an index is the row of the decomposed matrix which is the row at the
+     * index of P * A
+     *
+     * @return permutation
+     */
+    public int[] permutation() {
+        return permutation.clone();
+    }
+
+    /**
+     * Returns the solution x of A * x = b
+     *
+     * @param b right-hand side
+     * @return solution
+     * @throws NullPointerException when b is null
+     * @throws IllegalArgumentException when b does not have the size of this
+     * @throws IllegalStateException when the decomposed matrix is singular
+     */
+    public DoubleVector solve(final DoubleVector b) {
+        requireNonNull(b, "b");
+        if (b.size() != size) {
+            throw new IllegalArgumentException("b must have size " + size + " but had size " + b.size());
+        }
+        checkNotSingular();
+        final var kernels = DoubleKernels.INSTANCE;
+        final var values = b.array();
+        final var x = new double[size];
+        for (var i = 0; i < size; i++) {
+            x[i] = values[permutation[i]] - kernels.dot(lu, i * size, x, 0, i);
+        }
+        for (var i = size - 1; i >= 0; i--) {
+            final var offset = i * size + i;
+            x[i] = (x[i] - kernels.dot(lu, offset + 1, x, i + 1, size - i - 1)) / lu[offset];
+        }
+        return DoubleVector.wrap(x);
+    }
+
+    /**
+     * Returns the solution X of A * X = B
+     *
+     * @param b right-hand sides as columns
+     * @return solutions as columns
+     * @throws NullPointerException when b is null
+     * @throws IllegalArgumentException when b does not have the number of rows of this
+     * @throws IllegalStateException when the decomposed matrix is singular
+     */
+    public DoubleMatrix solve(final DoubleMatrix b) {
+        requireNonNull(b, "b");
+        if (b.rowCount() != size) {
+            throw new IllegalArgumentException("b must have " + size + " rows but had " + b.rowCount() + " rows");
+        }
+        checkNotSingular();
+        final var columns = b.columnCount();
+        final var values = b.array();
+        final var x = new double[values.length];
+        for (var i = 0; i < size; i++) {
+            System.arraycopy(values, permutation[i] * columns, x, i * columns, columns);
+        }
+        substitute(x, columns);
+        return DoubleMatrix.wrap(size, columns, x);
+    }
+
+    /**
+     * Returns the inverse of the decomposed matrix
+     *
+     * @return inverse
+     * @throws IllegalStateException when the decomposed matrix is singular
+     */
+    public DoubleMatrix inverse() {
+        return solve(DoubleMatrix.identity(size));
+    }
+
+    private void substitute(final double[] x, final int columns) {
+        final var kernels = DoubleKernels.INSTANCE;
+        RowPartition.forEach(columns, (long) size * size, (from, to) -> {
+            final var width = to - from;
+            for (var i = 0; i < size; i++) {
+                for (var p = 0; p < i; p++) {
+                    kernels.axpy(-lu[i * size + p], x, p * columns + from, x, i * columns + from, width);
+                }
+            }
+            for (var i = size - 1; i >= 0; i--) {
+                for (var p = i + 1; p < size; p++) {
+                    kernels.axpy(-lu[i * size + p], x, p * columns + from, x, i * columns + from, width);
+                }
+                final var pivot = lu[i * size + i];
+                for (var j = i * columns + from; j < i * columns + to; j++) {
+                    x[j] /= pivot;
+                }
+            }
+        });
+    }
+
+    private int pivotRow(final int k) {
+        var result = k;
+        var max = Math.abs(lu[k * size + k]);
+        for (var i = k + 1; i < size; i++) {
+            final var candidate = Math.abs(lu[i * size + k]);
+            if (candidate > max) {
+                max = candidate;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private void swapRows(final int row1, final int row2) {
+        final var offset1 = row1 * size;
+        final var offset2 = row2 * size;
+        for (var j = 0; j < size; j++) {
+            final var entry = lu[offset1 + j];
+            lu[offset1 + j] = lu[offset2 + j];
+            lu[offset2 + j] = entry;
+        }
+        final var index = permutation[row1];
+        permutation[row1] = permutation[row2];
+        permutation[row2] = index;
+    }
+
+    private void eliminate(final int k, final int panelEnd) {
+        final var pivotOffset = k * size + k;
+        final var pivot = lu[pivotOffset];
+        for (var i = k + 1; i < size; i++) {
+            final var offset = i * size + k;
+            final var factor = lu[offset] / pivot;
+            lu[offset] = factor;
+            DoubleKernels.INSTANCE.axpy(-factor, lu, pivotOffset + 1, lu, offset + 1, panelEnd - k - 1);
+        }
+    }
+
+    private void updateTrailing(final int k0, final int k1, final double[] scratch) {
+        final var remaining = size - k1;
+        if (remaining == 0) {
+            return;
+        }
+        final var kernels = DoubleKernels.INSTANCE;
+        for (var i = k0 + 1; i < k1; i++) {
+            for (var p = k0; p < i; p++) {
+                kernels.axpy(-lu[i * size + p], lu, p * size + k1, lu, i * size + k1, remaining);
+            }
+        }
+        final var panel = k1 - k0;
+        for (var i = 0; i < remaining; i++) {
+            final var offset = (k1 + i) * size + k0;
+            for (var p = 0; p < panel; p++) {
+                scratch[i * panel + p] = -lu[offset + p];
+            }
+        }
+        DoubleMatrix.multiplyAdd(
+                scratch, 0, panel, lu, k0 * size + k1, size, lu, k1 * size + k1, size, remaining, remaining, panel);
+    }
+
+    private void checkNotSingular() {
+        if (singular) {
+            throw new IllegalStateException("decomposed matrix must not be singular");
+        }
+    }
+}
@@ -0,0 +1,504 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.internal.DoubleKernels;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable matrix of doubles which is backed by a flat double array in row-major order
+ *
+ * <p>{@link #multiply(DoubleMatrix)} blocks the depth and the columns, so that the panels of the multiplier stay in
+ * the cache, and delegates the blocks to a register-tiled micro-kernel which uses explicit SIMD lanes on Java 21 and
+ * later when the module jdk.incubator.vector is resolved. Every entry of a product is nevertheless summed in the order
+ * of the depth, so that products do not depend on the platform. Operations with at least {@value #PARALLEL_THRESHOLD}
+ * multiply-adds partition their rows among the workers of the common {@link java.util.concurrent.ForkJoinPool}.
+ * Instances are created by {@link #of(double[][])} which copies its argument or by a {@link Builder} which hands over
+ * its array without copying.
+ */
+public final class DoubleMatrix {
+    /** Minimum number of multiply-adds of an operation from which its rows are partitioned among several workers */
+    public static final long PARALLEL_THRESHOLD = RowPartition.PARALLEL_THRESHOLD;
+
+    private static final int DEPTH_BLOCK = 128;
+
+    private static final int COLUMN_BLOCK = 512;
+
+    private static final int TRANSPOSE_BLOCK = 32;
+
+    private final int rows;
+
+    private final int columns;
+
+    private final double[] entries;
+
+    private DoubleMatrix(final int rows, final int columns, final double[] entries) {
+        this.rows = rows;
+        this.columns = columns;
+        this.entries = entries;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param rows rows which must all have the same size
+     * @return DoubleMatrix
+     * @throws NullPointerException when rows or one of its rows is null
+     * @throws IllegalArgumentException when the rows do not have the same size
+     */
+    public static DoubleMatrix of(final double[]... rows) {
+        requireNonNull(rows, "rows");
+        final var columns = rows.length == 0 ? 0 : requireNonNull(rows[0], "row").length;
+        final var entries = new double[Dimensions.checkEntries(rows.length, columns)];
+        for (var i = 0; i < rows.length; i++) {
+            final var row = requireNonNull(rows[i], "row");
+            if (row.length != columns) {
+                throw new IllegalArgumentException(
+                        "row " + i + " must have size " + columns + " but had size " + row.length);
+            }
+            System.arraycopy(row, 0, entries, i * columns, columns);
+        }
+        return new DoubleMatrix(rows.length, columns, entries);
+    }
+
+    /**
+     * Returns the zero matrix with the number of rows and columns
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return zero matrix
+     * @throws IllegalArgumentException when rows or columns is negative or the number of entries exceeds
+     *     {@link Integer#MAX_VALUE}
+     */
+    public static DoubleMatrix zero(final int rows, final int columns) {
+        return new DoubleMatrix(rows, columns, new double[Dimensions.checkEntries(rows, columns)]);
+    }
+
+    /**
+     * Returns the identity matrix of the size
+     *
+     * @param size number of rows and columns
+     * @return identity matrix
+     * @throws IllegalArgumentException when size is negative or the number of entries exceeds {@link Integer#MAX_VALUE}
+     */
+    public static DoubleMatrix identity(final int size) {
+        final var entries = new double[Dimensions.checkEntries(size, size)];
+        for (var i = 0; i < size; i++) {
+            entries[i * size + i] = 1D;
+        }
+        return new DoubleMatrix(size, size, entries);
+    }
+
+    /**
+     * Returns a {@link Builder} for a matrix with the number of rows and columns whose entries are initialized with 0
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return {@link Builder}
+     * @throws IllegalArgumentException when rows or columns is negative or the number of entries exceeds
+     *     {@link Integer#MAX_VALUE}
+     */
+    public static Builder builder(final int rows, final int columns) {
+        return new Builder(rows, columns, new double[Dimensions.checkEntries(rows, columns)]);
+    }
+
+    /**
+     * Returns a matrix which takes over the row-major array without copying it
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param entries entries which must not be modified afterwards
+     * @return DoubleMatrix
+     */
+    static DoubleMatrix wrap(final int rows, final int columns, final double[] entries) {
+        return new DoubleMatrix(rows, columns, entries);
+    }
+
+    /**
+     * Returns the number of rows
+     *
+     * @return number of rows
+     */
+    public int rowCount() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns
+     *
+     * @return number of columns
+     */
+    public int columnCount() {
+        return columns;
+    }
+
+    /**
+     * Indicates if the number of rows equals the number of columns
+     *
+     * @return boolean
+     */
+    public boolean isSquare() {
+        return rows == columns;
+    }
+
+    /**
+     * Returns the entry at the row and column
+     *
+     * @param row row index
+     * @param column column index
+     * @return entry
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public double get(final int row, final int column) {
+        Dimensions.checkIndex("row", row, rows);
+        Dimensions.checkIndex("column", column, columns);
+        return entries[row * columns + column];
+    }
+
+    /**
+     * Returns the row at the index
+     *
+     * @param index row index
+     * @return row
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public DoubleVector row(final int index) {
+        Dimensions.checkIndex("index", index, rows);
+        return DoubleVector.wrap(Arrays.copyOfRange(entries, index * columns, (index + 1) * columns));
+    }
+
+    /**
+     * Returns the column at the index
+     *
+     * @param index column index
+     * @return column
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public DoubleVector column(final int index) {
+        Dimensions.checkIndex("index", index, columns);
+        final var result = new double[rows];
+        for (var i = 0; i < rows; i++) {
+            result[i] = entries[i * columns + index];
+        }
+        return DoubleVector.wrap(result);
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     * @throws IllegalArgumentException when summand does not have the shape of this
+     */
+    public DoubleMatrix add(final DoubleMatrix summand) {
+        final var b = checkSameShape(summand, "summand");
+        final var result = new double[entries.length];
+        DoubleKernels.INSTANCE.add(entries, b, result);
+        return new DoubleMatrix(rows, columns, result);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     * @throws IllegalArgumentException when subtrahend does not have the shape of this
+     */
+    public DoubleMatrix subtract(final DoubleMatrix subtrahend) {
+        final var b = checkSameShape(subtrahend, "subtrahend");
+        final var result = new double[entries.length];
+        DoubleKernels.INSTANCE.subtract(entries, b, result);
+        return new DoubleMatrix(rows, columns, result);
+    }
+
+    /**
+     * Returns the product of this and the scalar
+     *
+     * @param scalar scalar
+     * @return product
+     */
+    public DoubleMatrix scale(final double scalar) {
+        final var result = new double[entries.length];
+        DoubleKernels.INSTANCE.scale(scalar, entries, result);
+        return new DoubleMatrix(rows, columns, result);
+    }
+
+    /**
+     * Returns the negated matrix
+     *
+     * @return negated matrix
+     */
+    public DoubleMatrix negate() {
+        return scale(-1D);
+    }
+
+    /**
+     * Returns the transposed matrix which is copied in square blocks
+     *
+     * @return transposed matrix
+     */
+    public DoubleMatrix transpose() {
+        final var result = new double[entries.length];
+        for (var i0 = 0; i0 < rows; i0 += TRANSPOSE_BLOCK) {
+            final var iEnd = Math.min(i0 + TRANSPOSE_BLOCK, rows);
+            for (var j0 = 0; j0 < columns; j0 += TRANSPOSE_BLOCK) {
+                final var jEnd = Math.min(j0 + TRANSPOSE_BLOCK, columns);
+                for (var i = i0; i < iEnd; i++) {
+                    for (var j = j0; j < jEnd; j++) {
+                        result[j * rows + i] = entries[i * columns + j];
+                    }
+                }
+            }
+        }
+        return new DoubleMatrix(columns, rows, result);
+    }
+
+    /**
+     * Returns the product of this and the vector
+     *
+     * @param vector vector
+     * @return product
+     * @throws NullPointerException when vector is null
+     * @throws IllegalArgumentException when the size of vector is not the number of columns of this
+     */
+    public DoubleVector multiply(final DoubleVector vector) {
+        requireNonNull(vector, "vector");
+        if (vector.size() != columns) {
+            throw new IllegalArgumentException(
+                    "vector must have size " + columns + " but had size " + vector.size());
+        }
+        final var x = vector.array();
+        final var result = new double[rows];
+        RowPartition.forEach(rows, columns, (from, to) -> {
+            for (var i = from; i < to; i++) {
+                result[i] = DoubleKernels.INSTANCE.dot(entries, i * columns, x, 0, columns);
+            }
+        });
+        return DoubleVector.wrap(result);
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * <p>The depth is split into blocks of {@value #DEPTH_BLOCK} and the columns into blocks of
+     * {@value #COLUMN_BLOCK}, so that a panel of the multiplier fits into the cache while it is multiplied with all
+     * rows of a partition.
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     * @throws IllegalArgumentException when the number of rows of multiplier is not the number of columns of this
+     */
+    public DoubleMatrix multiply(final DoubleMatrix multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        if (multiplier.rows != columns) {
+            throw new IllegalArgumentException(
+                    "multiplier must have " + columns + " rows but had " + multiplier.rows + " rows");
+        }
+        final var resultColumns = multiplier.columns;
+        final var result = new double[Dimensions.checkEntries(rows, resultColumns)];
+        multiplyAdd(
+                entries,
+                0,
+                columns,
+                multiplier.entries,
+                0,
+                resultColumns,
+                result,
+                0,
+                resultColumns,
+                rows,
+                resultColumns,
+                columns);
+        return new DoubleMatrix(rows, resultColumns, result);
+    }
+
+    /**
+     * Returns the LU decomposition with partial pivoting
+     *
+     * @return {@link DoubleLuDecomposition}
+     * @throws IllegalStateException when this is not square
+     */
+    public DoubleLuDecomposition lu() {
+        if (!isSquare()) {
+            throw new IllegalStateException(
+                    "this must be square but had " + rows + " rows and " + columns + " columns");
+        }
+        return new DoubleLuDecomposition(rows, entries.clone());
+    }
+
+    /**
+     * Returns the determinant which is computed by the LU decomposition
+     *
+     * @return determinant
+     * @throws IllegalStateException when this is not square
+     */
+    public double determinant() {
+        return lu().determinant();
+    }
+
+    /**
+     * Returns the backing row-major array without copying it
+     *
+     * @return entries which must not be modified
+     */
+    double[] array() {
+        return entries;
+    }
+
+    /**
+     * Returns a copy of the rows
+     *
+     * @return rows
+     */
+    public double[][] toArray() {
+        final var result = new double[rows][];
+        for (var i = 0; i < rows; i++) {
+            result[i] = Arrays.copyOfRange(entries, i * columns, (i + 1) * columns);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj
+                || obj instanceof DoubleMatrix other
+                        && rows == other.rows
+                        && columns == other.columns
+                        && Arrays.equals(entries, other.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + columns) + Arrays.hashCode(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleMatrix" + Arrays.deepToString(toArray());
+    }
+
+    /**
+     * Adds the product of the blocks A and B to the block C in place, blocked by depth and columns and partitioned by
+     * rows
+     *
+     * @param a a
+     * @param aOffset offset of the first entry of A
+     * @param aStride distance between rows of A
+     * @param b b
+     * @param bOffset offset of the first entry of B
+     * @param bStride distance between rows of B
+     * @param c c
+     * @param cOffset offset of the first entry of C
+     * @param cStride distance between rows of C
+     * @param rowCount number of rows of A and C
+     * @param columnCount number of columns of B and C
+     * @param depth number of columns of A and rows of B
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    static void multiplyAdd(
+            final double[] a,
+            final int aOffset,
+            final int aStride,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int cStride,
+            final int rowCount,
+            final int columnCount,
+            final int depth) {
+        RowPartition.forEach(rowCount, (long) columnCount * depth, (from, to) -> {
+            for (var j0 = 0; j0 < columnCount; j0 += COLUMN_BLOCK) {
+                final var columnBlock = Math.min(COLUMN_BLOCK, columnCount - j0);
+                for (var p0 = 0; p0 < depth; p0 += DEPTH_BLOCK) {
+                    DoubleKernels.INSTANCE.multiplyAdd(
+                            a,
+                            aOffset + from * aStride + p0,
+                            aStride,
+                            b,
+                            bOffset + p0 * bStride + j0,
+                            bStride,
+                            c,
+                            cOffset + from * cStride + j0,
+                            cStride,
+                            to - from,
+                            columnBlock,
+                            Math.min(DEPTH_BLOCK, depth - p0));
+                }
+            }
+        });
+    }
+
+    private double[] checkSameShape(final DoubleMatrix other, final String name) {
+        requireNonNull(other, name);
+        if (other.rows != rows || other.columns != columns) {
+            throw new IllegalArgumentException(name + " must have " + rows + " rows and " + columns
+                    + " columns but had " + other.rows + " rows and " + other.columns + " columns");
+        }
+        return other.entries;
+    }
+
+    /**
+     * Builder of {@link DoubleMatrix}
+     *
+     * <p>{@link #build()} hands the array over to the matrix without copying it, so that a builder can only build
+     * once. This class is not thread-safe.
+     */
+    public static final class Builder {
+        private final int rows;
+
+        private final int columns;
+
+        private double @Nullable [] entries;
+
+        private Builder(final int rows, final int columns, final double[] entries) {
+            this.rows = rows;
+            this.columns = columns;
+            this.entries = entries;
+        }
+
+        /**
+         * Sets the entry at the row and column
+         *
+         * @param row row index
+         * @param column column index
+         * @param entry entry
+         * @return this
+         * @throws IndexOutOfBoundsException when row or column is out of bounds
+         * @throws IllegalStateException when this has already been built
+         */
+        public Builder set(final int row, final int column, final double entry) {
+            final var array = checkNotBuilt();
+            Dimensions.checkIndex("row", row, rows);
+            Dimensions.checkIndex("column", column, columns);
+            array[row * columns + column] = entry;
+            return this;
+        }
+
+        /**
+         * Builds the matrix
+         *
+         * @return {@link DoubleMatrix}
+         * @throws IllegalStateException when this has already been built
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        public DoubleMatrix build() {
+            final var array = checkNotBuilt();
+            entries = null;
+            return new DoubleMatrix(rows, columns, array);
+        }
+
+        private double[] checkNotBuilt() {
+            final var array = entries;
+            if (array == null) {
+                throw new IllegalStateException("builder must not be used after build");
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.internal.DoubleKernels;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable vector of doubles which is backed by a flat double array
+ *
+ * <p>The operations delegate to kernels over the backing arrays which use explicit SIMD lanes on Java 21 and later
+ * when the module jdk.incubator.vector is resolved. Reductions like {@link #dot(DoubleVector)} sum with several
+ * independent accumulators, so that their results may differ in the last bits from a strictly sequential summation
+ * and between platforms. Instances are created by {@link #of(double...)} which copies its argument or by a
+ * {@link Builder} which hands over its array without copying.
+ */
+public final class DoubleVector {
+    private final double[] coordinates;
+
+    private DoubleVector(final double[] coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param coordinates coordinates
+     * @return DoubleVector
+     * @throws NullPointerException when coordinates is null
+     */
+    public static DoubleVector of(final double... coordinates) {
+        requireNonNull(coordinates, "coordinates");
+        return new DoubleVector(coordinates.clone());
+    }
+
+    /**
+     * Returns the zero vector of the size
+     *
+     * @param size size
+     * @return zero vector
+     * @throws IllegalArgumentException when size is negative
+     */
+    public static DoubleVector zero(final int size) {
+        Dimensions.checkSize("size", size);
+        return new DoubleVector(new double[size]);
+    }
+
+    /**
+     * Returns a {@link Builder} for a vector of the size whose coordinates are initialized with 0
+     *
+     * @param size size
+     * @return {@link Builder}
+     * @throws IllegalArgumentException when size is negative
+     */
+    public static Builder builder(final int size) {
+        Dimensions.checkSize("size", size);
+        return new Builder(size);
+    }
+
+    /**
+     * Returns a vector which takes over the array without copying it
+     *
+     * @param coordinates coordinates which must not be modified afterwards
+     * @return DoubleVector
+     */
+    static DoubleVector wrap(final double[] coordinates) {
+        return new DoubleVector(coordinates);
+    }
+
+    /**
+     * Returns the number of coordinates
+     *
+     * @return size
+     */
+    public int size() {
+        return coordinates.length;
+    }
+
+    /**
+     * Returns the coordinate at the index
+     *
+     * @param index index
+     * @return coordinate
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double get(final int index) {
+        Dimensions.checkIndex("index", index, coordinates.length);
+        return coordinates[index];
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     * @throws IllegalArgumentException when summand does not have the size of this
+     */
+    public DoubleVector add(final DoubleVector summand) {
+        final var b = checkSameSize(summand, "summand");
+        final var result = new double[coordinates.length];
+        DoubleKernels.INSTANCE.add(coordinates, b, result);
+        return new DoubleVector(result);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     * @throws IllegalArgumentException when subtrahend does not have the size of this
+     */
+    public DoubleVector subtract(final DoubleVector subtrahend) {
+        final var b = checkSameSize(subtrahend, "subtrahend");
+        final var result = new double[coordinates.length];
+        DoubleKernels.INSTANCE.subtract(coordinates, b, result);
+        return new DoubleVector(result);
+    }
+
+    /**
+     * Returns the element-wise product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return element-wise product
+     * @throws NullPointerException when multiplier is null
+     * @throws IllegalArgumentException when multiplier does not have the size of this
+     */
+    public DoubleVector multiply(final DoubleVector multiplier) {
+        final var b = checkSameSize(multiplier, "multiplier");
+        final var result = new double[coordinates.length];
+        DoubleKernels.INSTANCE.multiply(coordinates, b, result);
+        return new DoubleVector(result);
+    }
+
+    /**
+     * Returns the product of this and the scalar
+     *
+     * @param scalar scalar
+     * @return product
+     */
+    public DoubleVector scale(final double scalar) {
+        final var result = new double[coordinates.length];
+        DoubleKernels.INSTANCE.scale(scalar, coordinates, result);
+        return new DoubleVector(result);
+    }
+
+    /**
+     * Returns the negated vector
+     *
+     * @return negated vector
+     */
+    public DoubleVector negate() {
+        return scale(-1D);
+    }
+
+    /**
+     * Returns factor * summand + this, i.e. axpy, without an intermediate vector
+     *
+     * @param factor factor
+     * @param summand summand
+     * @return factor * summand + this
+     * @throws NullPointerException when summand is null
+     * @throws IllegalArgumentException when summand does not have the size of this
+     */
+    public DoubleVector addScaled(final double factor, final DoubleVector summand) {
+        final var b = checkSameSize(summand, "summand");
+        final var result = new double[coordinates.length];
+        DoubleKernels.INSTANCE.addScaled(factor, b, coordinates, result);
+        return new DoubleVector(result);
+    }
+
+    /**
+     * Returns the dot product of this and other
+     *
+     * @param other other
+     * @return dot product
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when other does not have the size of this
+     */
+    public double dot(final DoubleVector other) {
+        final var b = checkSameSize(other, "other");
+        return DoubleKernels.INSTANCE.dot(coordinates, 0, b, 0, coordinates.length);
+    }
+
+    /**
+     * Returns the Euclidean norm
+     *
+     * <p>The sum of squares is computed with {@link #dot(DoubleVector)}. Only when it overflows or underflows the
+     * coordinates are scaled by the maximum absolute value in a second pass.
+     *
+     * @return Euclidean norm
+     */
+    public double norm() {
+        final var sumOfSquares = dot(this);
+        if (sumOfSquares >= Double.MIN_NORMAL && sumOfSquares < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sumOfSquares);
+        }
+        if (Double.isNaN(sumOfSquares)) {
+            return Double.NaN;
+        }
+        final var max = maxNorm();
+        if (max == 0D || Double.isInfinite(max)) {
+            return max;
+        }
+        var sum = 0D;
+        for (final var coordinate : coordinates) {
+            final var scaled = coordinate / max;
+            sum += scaled * scaled;
+        }
+        return max * Math.sqrt(sum);
+    }
+
+    /**
+     * Returns the maximum norm, i.e. the maximum absolute value of the coordinates
+     *
+     * @return maximum norm
+     */
+    public double maxNorm() {
+        var max = 0D;
+        for (final var coordinate : coordinates) {
+            max = Math.max(max, Math.abs(coordinate));
+        }
+        return max;
+    }
+
+    /**
+     * Returns the backing array without copying it
+     *
+     * @return coordinates which must not be modified
+     */
+    double[] array() {
+        return coordinates;
+    }
+
+    /**
+     * Returns a copy of the coordinates
+     *
+     * @return coordinates
+     */
+    public double[] toArray() {
+        return coordinates.clone();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj || obj instanceof DoubleVector other && Arrays.equals(coordinates, other.coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleVector" + Arrays.toString(coordinates);
+    }
+
+    private double[] checkSameSize(final DoubleVector other, final String name) {
+        requireNonNull(other, name);
+        if (other.coordinates.length != coordinates.length) {
+            throw new IllegalArgumentException(
+                    name + " must have size " + coordinates.length + " but had size " + other.coordinates.length);
+        }
+        return other.coordinates;
+    }
+
+    /**
+     * Builder of {@link DoubleVector}
+     *
+     * <p>{@link #build()} hands the array over to the vector without copying it, so that a builder can only build
+     * once. This class is not thread-safe.
+     */
+    public static final class Builder {
+        private double @Nullable [] coordinates;
+
+        private Builder(final int size) {
+            coordinates = new double[size];
+        }
+
+        /**
+         * Sets the coordinate at the index
+         *
+         * @param index index
+         * @param coordinate coordinate
+         * @return this
+         * @throws IndexOutOfBoundsException when index is out of bounds
+         * @throws IllegalStateException when this has already been built
+         */
+        public Builder set(final int index, final double coordinate) {
+            final var array = checkNotBuilt();
+            Dimensions.checkIndex("index", index, array.length);
+            array[index] = coordinate;
+            return this;
+        }
+
+        /**
+         * Builds the vector
+         *
+         * @return {@link DoubleVector}
+         * @throws IllegalStateException when this has already been built
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        public DoubleVector build() {
+            final var array = checkNotBuilt();
+            coordinates = null;
+            return new DoubleVector(array);
+        }
+
+        private double[] checkNotBuilt() {
+            final var array = coordinates;
+            if (array == null) {
+                throw new IllegalStateException("builder must not be used after build");
+            }
+            return array;
+        }
+    }
+}
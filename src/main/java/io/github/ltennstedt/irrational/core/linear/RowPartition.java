@@ -0,0 +1,55 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/** Partitioning of row ranges among the workers of the common {@link ForkJoinPool} */
+final class RowPartition {
+    /** Minimum number of multiply-adds of a whole operation from which its rows are partitioned */
+    static final long PARALLEL_THRESHOLD = 1L << 20;
+
+    /** No arguments constructor */
+    private RowPartition() {}
+
+    /**
+     * Applies the range to disjoint row ranges which cover all rows
+     *
+     * <p>The rows are only partitioned when the operation has at least {@link #PARALLEL_THRESHOLD} multiply-adds and
+     * the common {@link ForkJoinPool} has more than one worker. Every range but the last starts and ends at a multiple
+     * of 4, so that the register tiles of the kernels are not split, and has at least {@link #PARALLEL_THRESHOLD}
+     * multiply-adds.
+     *
+     * @param rows number of rows
+     * @param operationsPerRow number of multiply-adds per row
+     * @param range range
+     */
+    static void forEach(final int rows, final long operationsPerRow, final RowRange range) {
+        final var parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (parallelism < 2 || rows < 8 || rows * operationsPerRow < PARALLEL_THRESHOLD) {
+            range.apply(0, rows);
+            return;
+        }
+        final var minimumRows = (int) Math.min(rows, (PARALLEL_THRESHOLD + operationsPerRow - 1) / operationsPerRow);
+        final var rowsPerTask = Math.max(4, (Math.max(minimumRows, ceilDivide(rows, 4 * parallelism)) + 3) & ~3);
+        final var tasks = ceilDivide(rows, rowsPerTask);
+        IntStream.range(0, tasks)
+                .parallel()
+                .forEach(task -> range.apply(task * rowsPerTask, Math.min(rows, (task + 1) * rowsPerTask)));
+    }
+
+    private static int ceilDivide(final int dividend, final int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /** Operation on a range of rows */
+    @FunctionalInterface
+    interface RowRange {
+        /**
+         * Applies the operation to the rows from inclusive to exclusive
+         *
+         * @param from first row
+         * @param to row after the last row
+         */
+        void apply(int from, int to);
+    }
+}
@@ -0,0 +1,5 @@
+/** This package provides vectors and matrices */
+@NullMarked
+package io.github.ltennstedt.irrational.core.linear;
+
+import org.jspecify.annotations.NullMarked;
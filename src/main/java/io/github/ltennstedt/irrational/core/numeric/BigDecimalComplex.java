@@ -0,0 +1,314 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Immutable implementation of a complex number based on {@link BigDecimal}, i.e. real + imaginary * i
+ *
+ * <p>Methods without {@link MathContext} are exact. Methods with {@link MathContext} compute exact intermediate
+ * results and round every part of the result only once, so that the same {@link MathContext} can be shared by a
+ * whole computation without accumulating rounding errors per step. Products of operands with at least
+ * {@link #GAUSS_MULTIPLICATION_THRESHOLD} digits use three instead of four multiplications. Like {@link BigDecimal}
+ * equals takes the scale into account.
+ *
+ * @param real real part
+ * @param imaginary imaginary part
+ */
+public record BigDecimalComplex(BigDecimal real, BigDecimal imaginary) {
+    /** 0 */
+    public static final BigDecimalComplex ZERO = new BigDecimalComplex(BigDecimal.ZERO, BigDecimal.ZERO);
+
+    /** 1 */
+    public static final BigDecimalComplex ONE = new BigDecimalComplex(BigDecimal.ONE, BigDecimal.ZERO);
+
+    /** i */
+    public static final BigDecimalComplex I = new BigDecimalComplex(BigDecimal.ZERO, BigDecimal.ONE);
+
+    /** Minimum precision of all parts of both factors for which the Gauss multiplication is used */
+    public static final int GAUSS_MULTIPLICATION_THRESHOLD = 256;
+
+    private static final int GUARD_DIGITS = 3;
+
+    /**
+     * All arguments constructor
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public BigDecimalComplex {
+        requireNonNull(real, "real");
+        requireNonNull(imaginary, "imaginary");
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @return BigDecimalComplex
+     * @throws NullPointerException when real is null
+     */
+    public static BigDecimalComplex of(final BigDecimal real) {
+        return new BigDecimalComplex(real, BigDecimal.ZERO);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @return BigDecimalComplex
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public static BigDecimalComplex of(final BigDecimal real, final BigDecimal imaginary) {
+        return new BigDecimalComplex(real, imaginary);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return BigDecimalComplex
+     * @throws NullPointerException when value is null
+     * @throws NumberFormatException when a part of value is infinite or NaN
+     */
+    public static BigDecimalComplex of(final DoubleComplex value) {
+        requireNonNull(value, "value");
+        return new BigDecimalComplex(new BigDecimal(value.real()), new BigDecimal(value.imaginary()));
+    }
+
+    /**
+     * Indicates if this is 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return real.signum() == 0 && imaginary.signum() == 0;
+    }
+
+    /**
+     * Indicates if the imaginary part is 0
+     *
+     * @return boolean
+     */
+    public boolean isReal() {
+        return imaginary.signum() == 0;
+    }
+
+    /**
+     * Returns the negated number
+     *
+     * @return negated number
+     */
+    public BigDecimalComplex negate() {
+        return new BigDecimalComplex(real.negate(), imaginary.negate());
+    }
+
+    /**
+     * Returns the complex conjugate
+     *
+     * @return conjugate
+     */
+    public BigDecimalComplex conjugate() {
+        return new BigDecimalComplex(real, imaginary.negate());
+    }
+
+    /**
+     * Returns the exact norm, i.e. real^2 + imaginary^2
+     *
+     * @return norm
+     */
+    public BigDecimal norm() {
+        return real.multiply(real).add(imaginary.multiply(imaginary));
+    }
+
+    /**
+     * Returns the absolute value which is rounded once
+     *
+     * @param mathContext {@link MathContext}
+     * @return absolute value
+     * @throws NullPointerException when mathContext is null
+     * @throws ArithmeticException when the precision of mathContext is 0 and the absolute value is not a terminating
+     *     decimal
+     */
+    public BigDecimal abs(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return norm().sqrt(mathContext);
+    }
+
+    /**
+     * Returns the exact sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public BigDecimalComplex add(final BigDecimalComplex summand) {
+        requireNonNull(summand, "summand");
+        return new BigDecimalComplex(real.add(summand.real), imaginary.add(summand.imaginary));
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @param mathContext {@link MathContext}
+     * @return sum
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public BigDecimalComplex add(final BigDecimalComplex summand, final MathContext mathContext) {
+        requireNonNull(summand, "summand");
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalComplex(
+                real.add(summand.real, mathContext), imaginary.add(summand.imaginary, mathContext));
+    }
+
+    /**
+     * Returns the exact difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public BigDecimalComplex subtract(final BigDecimalComplex subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new BigDecimalComplex(real.subtract(subtrahend.real), imaginary.subtract(subtrahend.imaginary));
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @param mathContext {@link MathContext}
+     * @return difference
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public BigDecimalComplex subtract(final BigDecimalComplex subtrahend, final MathContext mathContext) {
+        requireNonNull(subtrahend, "subtrahend");
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalComplex(
+                real.subtract(subtrahend.real, mathContext), imaginary.subtract(subtrahend.imaginary, mathContext));
+    }
+
+    /**
+     * Returns the exact product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public BigDecimalComplex multiply(final BigDecimalComplex multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return multiplyParts(multiplier.real, multiplier.imaginary);
+    }
+
+    /**
+     * Returns the product of this and the multiplier whose parts are rounded once
+     *
+     * @param multiplier multiplier
+     * @param mathContext {@link MathContext}
+     * @return product
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public BigDecimalComplex multiply(final BigDecimalComplex multiplier, final MathContext mathContext) {
+        requireNonNull(multiplier, "multiplier");
+        requireNonNull(mathContext, "mathContext");
+        return multiplyParts(multiplier.real, multiplier.imaginary).round(mathContext);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * <p>The numerator is the exact product of this and the conjugate of the divisor. Both of its parts are multiplied
+     * with the reciprocal of the norm of the divisor which is computed only once with {@value #GUARD_DIGITS} guard
+     * digits, so that a part may differ from the correctly rounded quotient in the last digit. When the precision of
+     * mathContext is 0 both parts are divided exactly.
+     *
+     * @param divisor divisor
+     * @param mathContext {@link MathContext}
+     * @return quotient
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when the precision of mathContext is 0 and the quotient is not a terminating
+     *     decimal
+     */
+    public BigDecimalComplex divide(final BigDecimalComplex divisor, final MathContext mathContext) {
+        requireNonNull(divisor, "divisor");
+        requireNonNull(mathContext, "mathContext");
+        if (divisor.isZero()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        final var numerator = multiplyParts(divisor.real, divisor.imaginary.negate());
+        final var norm = divisor.norm();
+        if (mathContext.getPrecision() == 0) {
+            return new BigDecimalComplex(numerator.real.divide(norm), numerator.imaginary.divide(norm));
+        }
+        final var reciprocal = BigDecimal.ONE.divide(
+                norm, new MathContext(mathContext.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN));
+        return new BigDecimalComplex(
+                numerator.real.multiply(reciprocal, mathContext),
+                numerator.imaginary.multiply(reciprocal, mathContext));
+    }
+
+    /**
+     * Returns the inverted number
+     *
+     * @param mathContext {@link MathContext}
+     * @return inverted number
+     * @throws NullPointerException when mathContext is null
+     * @throws IllegalStateException when this is 0
+     * @throws ArithmeticException when the precision of mathContext is 0 and the inverted number is not a terminating
+     *     decimal
+     */
+    public BigDecimalComplex invert(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        if (isZero()) {
+            throw new IllegalStateException("this must be invertible but was " + this);
+        }
+        return ONE.divide(this, mathContext);
+    }
+
+    /**
+     * Returns this with both parts rounded
+     *
+     * @param mathContext {@link MathContext}
+     * @return rounded number
+     * @throws NullPointerException when mathContext is null
+     */
+    public BigDecimalComplex round(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return new BigDecimalComplex(real.round(mathContext), imaginary.round(mathContext));
+    }
+
+    /**
+     * Returns this as {@link DoubleComplex}
+     *
+     * @return {@link DoubleComplex}
+     */
+    public DoubleComplex toDoubleComplex() {
+        return DoubleComplex.of(real.doubleValue(), imaginary.doubleValue());
+    }
+
+    private BigDecimalComplex multiplyParts(final BigDecimal otherReal, final BigDecimal otherImaginary) {
+        if (isGaussMultiplication(otherReal, otherImaginary)) {
+            final var k1 = otherReal.multiply(real.add(imaginary));
+            final var k2 = real.multiply(otherImaginary.subtract(otherReal));
+            final var k3 = imaginary.multiply(otherReal.add(otherImaginary));
+            return new BigDecimalComplex(k1.subtract(k3), k1.add(k2));
+        }
+        return new BigDecimalComplex(
+                real.multiply(otherReal).subtract(imaginary.multiply(otherImaginary)),
+                real.multiply(otherImaginary).add(imaginary.multiply(otherReal)));
+    }
+
+    private boolean isGaussMultiplication(final BigDecimal otherReal, final BigDecimal otherImaginary) {
+        return real.precision() >= GAUSS_MULTIPLICATION_THRESHOLD
+                && imaginary.precision() >= GAUSS_MULTIPLICATION_THRESHOLD
+                && otherReal.precision() >= GAUSS_MULTIPLICATION_THRESHOLD
+                && otherImaginary.precision() >= GAUSS_MULTIPLICATION_THRESHOLD;
+    }
+}
@@ -2,19 +2,25 @@ package io.github.ltennstedt.irrational.core.numeric;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import io.github.ltennstedt.irrational.core.util.Longs;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Immutable implementation of a rational number based on BigInteger
  *
- * @param numerator numerator
- * @param denominator denominator
+ * <p>Numerator and denominator are always coprime and the denominator is always positive. The hash code is computed
+ * lazily and cached.
  */
-public record BigRational(BigInteger numerator, BigInteger denominator) implements Rational<BigRational> {
+public final class BigRational implements Rational<BigRational> {
     /** Comparator */
     public static final Comparator<BigRational> COMPARATOR = Comparable::compareTo;
 
@@ -24,25 +30,43 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
     /** 1 */
     public static final BigRational ONE = new BigRational(BigInteger.ONE, BigInteger.ONE);
 
+    private final BigInteger numerator;
+    private final BigInteger denominator;
+
+    /** Cached hash code which is 0 until it has been computed */
+    private int hash;
+
     /**
      * All arguments constructor
      *
      * @param numerator numerator
      * @param denominator denominator
+     * @throws NullPointerException when one of the arguments is null
      * @throws IllegalArgumentException when denominator is 0
      * @see #of(BigInteger)
      * @see #of(BigInteger, BigInteger)
      */
-    public BigRational {
-        if (denominator.equals(BigInteger.ZERO)) {
-            throw new IllegalArgumentException("denominator must not be 0 but was " + denominator);
-        }
-        final var gcd = numerator.gcd(denominator);
-        numerator = numerator.divide(gcd);
-        denominator = denominator.divide(gcd);
-        if (denominator.signum() < 0) {
-            numerator = numerator.negate();
-            denominator = denominator.negate();
+    public BigRational(final BigInteger numerator, final BigInteger denominator) {
+        this(numerator, denominator, signedGcd(numerator, denominator));
+    }
+
+    /**
+     * Constructor which divides numerator and denominator by the divisor
+     *
+     * <p>Callers which already know that numerator and denominator are coprime pass 1 or -1 as divisor to skip the
+     * computation of the greatest common divisor.
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @param divisor greatest common divisor with the sign of the denominator
+     */
+    private BigRational(final BigInteger numerator, final BigInteger denominator, final BigInteger divisor) {
+        if (divisor.equals(BigInteger.ONE)) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        } else {
+            this.numerator = numerator.divide(divisor);
+            this.denominator = denominator.divide(divisor);
         }
     }
 
@@ -74,6 +98,116 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         return new BigRational(numerator, denominator);
     }
 
+    /**
+     * Static factory method for numerator and positive denominator which are known to be coprime
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     * @return BigRational
+     */
+    static BigRational ofCoprime(final BigInteger numerator, final BigInteger denominator) {
+        return new BigRational(numerator, denominator, BigInteger.ONE);
+    }
+
+    /**
+     * Returns the dot product of a and b, i.e. the sum of the products of their elements
+     *
+     * <p>The products are summed up over their least common denominator and reduced only once at the end.
+     *
+     * @param a a
+     * @param b b
+     * @return dot product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when a and b do not have the same size
+     */
+    public static BigRational dot(final Iterable<BigRational> a, final Iterable<BigRational> b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        return dot(BigInteger.ZERO, BigInteger.ONE, a.iterator(), b.iterator());
+    }
+
+    /**
+     * Returns the dot product of a and b, i.e. the sum of the products of their elements
+     *
+     * <p>The products are summed up over their least common denominator and reduced only once at the end.
+     *
+     * @param a a
+     * @param b b
+     * @return dot product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when a and b do not have the same length
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public static BigRational dot(final BigRational[] a, final BigRational[] b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        if (a.length != b.length) {
+            throw new IllegalArgumentException(
+                    "a and b must have the same length but were " + a.length + " and " + b.length);
+        }
+        return dot(
+                BigInteger.ZERO,
+                BigInteger.ONE,
+                Arrays.asList(a).iterator(),
+                Arrays.asList(b).iterator());
+    }
+
+    /**
+     * Returns initialNumerator / initialDenominator plus the dot product of a and b
+     *
+     * @param initialNumerator initial numerator
+     * @param initialDenominator positive initial denominator
+     * @param a a
+     * @param b b
+     * @return dot product
+     * @throws IllegalArgumentException when a and b do not have the same size
+     */
+    static BigRational dot(
+            final BigInteger initialNumerator,
+            final BigInteger initialDenominator,
+            final Iterator<BigRational> a,
+            final Iterator<BigRational> b) {
+        var sumNumerator = initialNumerator;
+        var sumDenominator = initialDenominator;
+        while (a.hasNext() && b.hasNext()) {
+            final var x = a.next();
+            final var y = b.next();
+            final var productNumerator = x.numerator.multiply(y.numerator);
+            final var productDenominator = x.denominator.multiply(y.denominator);
+            if (productDenominator.equals(sumDenominator)) {
+                sumNumerator = sumNumerator.add(productNumerator);
+            } else {
+                final var gcd = BigIntegers.gcd(sumDenominator, productDenominator);
+                sumNumerator = sumNumerator
+                        .multiply(productDenominator.divide(gcd))
+                        .add(productNumerator.multiply(sumDenominator.divide(gcd)));
+                sumDenominator = sumDenominator.multiply(productDenominator.divide(gcd));
+            }
+        }
+        if (a.hasNext() || b.hasNext()) {
+            throw new IllegalArgumentException("a and b must have the same size");
+        }
+        return of(sumNumerator, sumDenominator);
+    }
+
+    /**
+     * Returns the numerator
+     *
+     * @return numerator
+     */
+    public BigInteger numerator() {
+        return numerator;
+    }
+
+    /**
+     * Returns the denominator
+     *
+     * @return denominator
+     */
+    public BigInteger denominator() {
+        return denominator;
+    }
+
     @Override
     public boolean isInvertible() {
         return !numerator.equals(BigInteger.ZERO);
@@ -132,6 +266,65 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
                 denominator.multiply(summand.denominator));
     }
 
+    @Override
+    public BigRational add(final long summand) {
+        return add(BigInteger.valueOf(summand));
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * <p>The result is not reduced because numerator plus a multiple of the denominator is coprime to the denominator.
+     */
+    @Override
+    public BigRational add(final BigInteger summand) {
+        requireNonNull(summand, "summand");
+        return ofCoprime(numerator.add(summand.multiply(denominator)), denominator);
+    }
+
+    /**
+     * Returns the sum of this and the summand without converting the summand to {@link BigRational}
+     *
+     * <p>When this fits into long, the sum is computed over the least common multiple g * (d1 / g) * (d2 / g) of the
+     * denominators with g = gcd(d1, d2). The numerator n1 * (d2 / g) + n2 * (d1 / g) is coprime to d1 / g and d2 / g,
+     * so that it is only reduced by its greatest common divisor with g. Only a numerator which overflows is promoted
+     * to {@link BigInteger}.
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public BigRational add(final LongRational summand) {
+        requireNonNull(summand, "summand");
+        if (summand.isInteger()) {
+            return add(summand.numerator());
+        }
+        if (fitsIntoLong()) {
+            final var thisNumerator = numerator.longValue();
+            final var thisDenominator = denominator.longValue();
+            final var gcd = Longs.gcd(thisDenominator, summand.denominator());
+            final var thisFactor = summand.denominator() / gcd;
+            final var otherFactor = thisDenominator / gcd;
+            final var low1 = thisNumerator * thisFactor;
+            final var low = low1 + summand.numerator() * otherFactor;
+            final var carry = Long.compareUnsigned(low, low1) < 0 ? 1L : 0L;
+            final var high = Math.multiplyHigh(thisNumerator, thisFactor)
+                    + Math.multiplyHigh(summand.numerator(), otherFactor)
+                    + carry;
+            if (high == low >> 63) {
+                final var divisor = Longs.gcd(low, gcd);
+                return ofCoprime(BigInteger.valueOf(low / divisor), product(thisDenominator / divisor, thisFactor));
+            }
+            final var sum = product(thisNumerator, thisFactor).add(product(summand.numerator(), otherFactor));
+            final var divisor = Longs.gcd(sum.mod(BigInteger.valueOf(gcd)).longValue(), gcd);
+            return ofCoprime(sum.divide(BigInteger.valueOf(divisor)), product(thisDenominator / divisor, thisFactor));
+        }
+        final var otherDenominator = BigInteger.valueOf(summand.denominator());
+        return of(
+                numerator.multiply(otherDenominator).add(denominator.multiply(BigInteger.valueOf(summand.numerator()))),
+                denominator.multiply(otherDenominator));
+    }
+
     @Override
     public BigRational subtract(final BigRational subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
@@ -140,12 +333,91 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
                 denominator.multiply(subtrahend.denominator));
     }
 
+    @Override
+    public BigRational subtract(final long subtrahend) {
+        return subtract(BigInteger.valueOf(subtrahend));
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * <p>The result is not reduced because numerator minus a multiple of the denominator is coprime to the
+     * denominator.
+     */
+    @Override
+    public BigRational subtract(final BigInteger subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return ofCoprime(numerator.subtract(subtrahend.multiply(denominator)), denominator);
+    }
+
     @Override
     public BigRational multiply(final BigRational multiplier) {
         requireNonNull(multiplier, "multiplier");
         return of(numerator.multiply(multiplier.numerator), denominator.multiply(multiplier.denominator));
     }
 
+    @Override
+    public BigRational multiply(final long multiplier) {
+        return multiply(BigInteger.valueOf(multiplier));
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * <p>Only the greatest common divisor of multiplier and denominator is cancelled because the result is coprime
+     * afterwards.
+     */
+    @Override
+    public BigRational multiply(final BigInteger multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        final var gcd = BigIntegers.gcd(multiplier, denominator);
+        return ofCoprime(numerator.multiply(multiplier.divide(gcd)), denominator.divide(gcd));
+    }
+
+    /**
+     * Returns the product of this and the multiplier without converting the multiplier to {@link BigRational}
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public BigRational multiply(final LongRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        if (multiplier.isInteger()) {
+            return multiply(multiplier.numerator());
+        }
+        if (fitsIntoLong()) {
+            final var thisNumerator = numerator.longValue();
+            final var thisDenominator = denominator.longValue();
+            final var gcd1 = Longs.gcd(thisNumerator, multiplier.denominator());
+            final var gcd2 = Longs.gcd(multiplier.numerator(), thisDenominator);
+            return of(
+                    product(thisNumerator / gcd1, multiplier.numerator() / gcd2),
+                    product(thisDenominator / gcd2, multiplier.denominator() / gcd1));
+        }
+        return of(
+                numerator.multiply(BigInteger.valueOf(multiplier.numerator())),
+                denominator.multiply(BigInteger.valueOf(multiplier.denominator())));
+    }
+
+    /**
+     * Returns the product of this and the multiplier plus the summand
+     *
+     * <p>The result is computed over the common denominator and reduced only once.
+     */
+    @Override
+    public BigRational multiplyAdd(final BigRational multiplier, final BigRational summand) {
+        requireNonNull(multiplier, "multiplier");
+        requireNonNull(summand, "summand");
+        final var productDenominator = denominator.multiply(multiplier.denominator);
+        return of(
+                numerator
+                        .multiply(multiplier.numerator)
+                        .multiply(summand.denominator)
+                        .add(summand.numerator.multiply(productDenominator)),
+                productDenominator.multiply(summand.denominator));
+    }
+
     @Override
     public BigRational divide(final BigRational divisor) {
         requireNonNull(divisor, "divisor");
@@ -155,17 +427,106 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         return of(numerator.multiply(divisor.denominator), denominator.multiply(divisor.numerator));
     }
 
+    @Override
+    public BigRational divide(final long divisor) {
+        return divide(BigInteger.valueOf(divisor));
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * <p>Only the greatest common divisor of numerator and divisor is cancelled because the result is coprime
+     * afterwards.
+     */
+    @Override
+    public BigRational divide(final BigInteger divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.signum() == 0) {
+            throw new IllegalArgumentException("divisor must not be 0 but was " + divisor);
+        }
+        final var gcd = BigIntegers.gcd(numerator, divisor);
+        final var resultNumerator = numerator.divide(gcd);
+        final var resultDenominator = denominator.multiply(divisor.divide(gcd));
+        return divisor.signum() < 0
+                ? ofCoprime(resultNumerator.negate(), resultDenominator.negate())
+                : ofCoprime(resultNumerator, resultDenominator);
+    }
+
     @Override
     public BigRational invert() {
         if (isNotInvertible()) {
             throw new IllegalStateException("this must be invertible but was " + this);
         }
-        return of(denominator, numerator);
+        return new BigRational(denominator, numerator, BigInteger.valueOf(numerator.signum()));
     }
 
+    /**
+     * Returns this by the power of exponent
+     *
+     * <p>Negative exponents invert this. The result is not reduced because the powers of coprime numerator and
+     * denominator are coprime.
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when exponent is negative and this is not invertible
+     * @throws ArithmeticException when the result exceeds the supported range of BigInteger
+     */
     @Override
     public BigRational power(final int exponent) {
-        return of(numerator.pow(exponent), denominator.pow(exponent));
+        return power((long) exponent);
+    }
+
+    /**
+     * Returns this by the power of exponent
+     *
+     * <p>Negative exponents invert this. The result is not reduced because the powers of coprime numerator and
+     * denominator are coprime. Exponents whose absolute value exceeds {@link Integer#MAX_VALUE} are only supported for
+     * -1, 0 and 1 because the result exceeds the supported range of BigInteger otherwise.
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when exponent is negative and this is not invertible
+     * @throws ArithmeticException when the result exceeds the supported range of BigInteger
+     */
+    public BigRational power(final long exponent) {
+        if (exponent == 0L) {
+            return ONE;
+        }
+        final var base = exponent < 0L ? invert() : this;
+        if (base.hasTrivialPowers()) {
+            return base.trivialPower((exponent & 1L) != 0L);
+        }
+        if (exponent < -Integer.MAX_VALUE || exponent > Integer.MAX_VALUE) {
+            throw new ArithmeticException(
+                    "absolute value of exponent must be at most " + Integer.MAX_VALUE + " but was " + exponent);
+        }
+        final var absoluteExponent = (int) Math.abs(exponent);
+        return new BigRational(
+                base.numerator.pow(absoluteExponent), base.denominator.pow(absoluteExponent), BigInteger.ONE);
+    }
+
+    /**
+     * Returns this by the power of exponent
+     *
+     * <p>Negative exponents invert this. Exponents outside the range of long are only supported for -1, 0 and 1.
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws NullPointerException when exponent is null
+     * @throws IllegalStateException when exponent is negative and this is not invertible
+     * @throws ArithmeticException when the result exceeds the supported range of BigInteger
+     */
+    public BigRational power(final BigInteger exponent) {
+        requireNonNull(exponent, "exponent");
+        if (exponent.bitLength() < Long.SIZE) {
+            return power(exponent.longValue());
+        }
+        final var base = exponent.signum() < 0 ? invert() : this;
+        if (base.hasTrivialPowers()) {
+            return base.trivialPower(exponent.testBit(0));
+        }
+        throw new ArithmeticException(
+                "absolute value of exponent must be at most " + Integer.MAX_VALUE + " but was " + exponent);
     }
 
     @Override
@@ -195,6 +556,112 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         return subtract(ONE);
     }
 
+    /**
+     * Returns the greatest integer less than or equal to this
+     *
+     * @return floor
+     */
+    public BigInteger floor() {
+        return round(RoundingMode.FLOOR);
+    }
+
+    /**
+     * Returns the least integer greater than or equal to this
+     *
+     * @return ceiling
+     */
+    public BigInteger ceil() {
+        return round(RoundingMode.CEILING);
+    }
+
+    /**
+     * Returns this rounded to an integer
+     *
+     * @param roundingMode {@link RoundingMode}
+     * @return rounded integer
+     * @throws NullPointerException when roundingMode is null
+     * @throws ArithmeticException when roundingMode is {@link RoundingMode#UNNECESSARY} and this is not an integer
+     */
+    public BigInteger round(final RoundingMode roundingMode) {
+        requireNonNull(roundingMode, "roundingMode");
+        if (isInteger()) {
+            return numerator;
+        }
+        final var quotientAndRemainder = numerator.divideAndRemainder(denominator);
+        final var quotient = quotientAndRemainder[0];
+        final var half = quotientAndRemainder[1].abs().shiftLeft(1).compareTo(denominator);
+        return Roundings.isAwayFromZero(roundingMode, signum(), half, quotient.testBit(0))
+                ? quotient.add(BigInteger.valueOf(signum()))
+                : quotient;
+    }
+
+    /**
+     * Returns the integer part, i.e. this truncated towards 0
+     *
+     * @return integer part
+     */
+    public BigInteger integerPart() {
+        return isInteger() ? numerator : numerator.divide(denominator);
+    }
+
+    /**
+     * Returns the fractional part, i.e. this minus its integer part, which has the sign of this
+     *
+     * <p>The result is not reduced because the remainder is coprime to the denominator.
+     */
+    @Override
+    public BigRational fractionalPart() {
+        return isInteger() ? ZERO : new BigRational(numerator.remainder(denominator), denominator, BigInteger.ONE);
+    }
+
+    @Override
+    public BigRational[] divideAndRemainder(final BigRational divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        final var quotient = numerator.multiply(divisor.denominator).divide(denominator.multiply(divisor.numerator));
+        return new BigRational[] {of(quotient), subtract(divisor.multiply(quotient))};
+    }
+
+    @Override
+    public boolean isPerfectSquare() {
+        return BigIntegers.isPerfectSquare(numerator) && BigIntegers.isPerfectSquare(denominator);
+    }
+
+    /**
+     * Returns the real nth root when it is rational
+     *
+     * <p>The result is not reduced because the roots of coprime numerator and denominator are coprime.
+     *
+     * @param n positive degree of the root
+     * @return {@link Optional} of the root which is empty when the root is irrational or n is even and this is
+     *     negative
+     * @throws IllegalArgumentException when n is not positive
+     */
+    @Override
+    public Optional<BigRational> nthRootExact(final int n) {
+        Roots.checkDegree(n);
+        if (numerator.signum() < 0 && n % 2 == 0) {
+            return Optional.empty();
+        }
+        final var numeratorRoot = BigIntegers.exactRoot(numerator.abs(), n);
+        if (numeratorRoot.isEmpty()) {
+            return Optional.empty();
+        }
+        final var denominatorRoot = BigIntegers.exactRoot(denominator, n);
+        if (denominatorRoot.isEmpty()) {
+            return Optional.empty();
+        }
+        final var root = numerator.signum() < 0 ? numeratorRoot.get().negate() : numeratorRoot.get();
+        return Optional.of(ofCoprime(root, denominatorRoot.get()));
+    }
+
+    @Override
+    public BigDecimal nthRoot(final int n, final MathContext mathContext) {
+        return Roots.root(this, numerator, denominator, n, mathContext);
+    }
+
     @Override
     public BigDecimal toBigDecimal(final int scale, final RoundingMode roundingMode) {
         requireNonNull(roundingMode, "roundingMode");
@@ -213,6 +680,16 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         return new BigDecimal(numerator).divide(new BigDecimal(denominator), mathContext);
     }
 
+    /**
+     * Returns this as {@link LongRational}
+     *
+     * @return {@link LongRational}
+     * @throws ArithmeticException when numerator or denominator does not fit into long
+     */
+    public LongRational toLongRational() {
+        return LongRational.of(numerator.longValueExact(), denominator.longValueExact());
+    }
+
     /**
      * Compares this to other
      *
@@ -223,4 +700,88 @@ public record BigRational(BigInteger numerator, BigInteger denominator) implemen
         requireNonNull(other, "other");
         return numerator.multiply(other.denominator).compareTo(denominator.multiply(other.numerator));
     }
+
+    /**
+     * Compares this to other without converting other to {@link BigRational}
+     *
+     * <p>No objects are allocated when numerator and denominator of this fit into long.
+     *
+     * @param other other
+     * @return int
+     * @throws NullPointerException when other is null
+     */
+    public int compareTo(final LongRational other) {
+        requireNonNull(other, "other");
+        if (fitsIntoLong()) {
+            return Longs.compareProducts(
+                    numerator.longValue(), other.denominator(), other.numerator(), denominator.longValue());
+        }
+        final var signum = numerator.signum();
+        if (signum != other.signum()) {
+            return signum > other.signum() ? 1 : -1;
+        }
+        return numerator
+                .multiply(BigInteger.valueOf(other.denominator()))
+                .compareTo(denominator.multiply(BigInteger.valueOf(other.numerator())));
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj
+                || obj instanceof BigRational other
+                        && (hash == 0 || other.hash == 0 || hash == other.hash)
+                        && numerator.equals(other.numerator)
+                        && denominator.equals(other.denominator);
+    }
+
+    /**
+     * Returns the hash code
+     *
+     * <p>The hash code is computed with {@link BigIntegers#hash(BigInteger, BigInteger)} on the first call and cached,
+     * so that lookups in hash tables do not walk the magnitudes of numerator and denominator again.
+     */
+    @Override
+    public int hashCode() {
+        var result = hash;
+        if (result == 0) {
+            result = (int) BigIntegers.hash(numerator, denominator);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BigRational[numerator=" + numerator + ", denominator=" + denominator + "]";
+    }
+
+    private static BigInteger signedGcd(final BigInteger numerator, final BigInteger denominator) {
+        requireNonNull(numerator, "numerator");
+        requireNonNull(denominator, "denominator");
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("denominator must not be 0 but was " + denominator);
+        }
+        final var gcd = BigIntegers.gcd(numerator, denominator);
+        return denominator.signum() < 0 ? gcd.negate() : gcd;
+    }
+
+    private boolean hasTrivialPowers() {
+        return denominator.equals(BigInteger.ONE) && numerator.abs().compareTo(BigInteger.ONE) <= 0;
+    }
+
+    private BigRational trivialPower(final boolean odd) {
+        return odd || numerator.signum() >= 0 ? this : ONE;
+    }
+
+    private boolean fitsIntoLong() {
+        return numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE;
+    }
+
+    private static BigInteger product(final long a, final long b) {
+        final var high = Math.multiplyHigh(a, b);
+        final var low = a * b;
+        return high == low >> 63
+                ? BigInteger.valueOf(low)
+                : BigInteger.valueOf(a).multiply(BigInteger.valueOf(b));
+    }
 }
@@ -0,0 +1,230 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable implementation of a complex number based on double, i.e. real + imaginary * i
+ *
+ * <p>Arithmetic follows IEEE 754, so results are rounded and may overflow to infinity. Thus this is not a
+ * {@link Numeric}. Arrays of complex numbers without one object per element are provided by
+ * {@link io.github.ltennstedt.irrational.core.collection.DoubleComplexArray}.
+ *
+ * @param real real part
+ * @param imaginary imaginary part
+ */
+public record DoubleComplex(double real, double imaginary) {
+    /** 0 */
+    public static final DoubleComplex ZERO = new DoubleComplex(0D, 0D);
+
+    /** 1 */
+    public static final DoubleComplex ONE = new DoubleComplex(1D, 0D);
+
+    /** i */
+    public static final DoubleComplex I = new DoubleComplex(0D, 1D);
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @return DoubleComplex
+     */
+    public static DoubleComplex of(final double real) {
+        return new DoubleComplex(real, 0D);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @return DoubleComplex
+     */
+    public static DoubleComplex of(final double real, final double imaginary) {
+        return new DoubleComplex(real, imaginary);
+    }
+
+    /**
+     * Static factory method for polar coordinates
+     *
+     * @param magnitude magnitude
+     * @param argument argument in radians
+     * @return DoubleComplex
+     */
+    public static DoubleComplex ofPolar(final double magnitude, final double argument) {
+        return new DoubleComplex(magnitude * Math.cos(argument), magnitude * Math.sin(argument));
+    }
+
+    /**
+     * Indicates if this is 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return real == 0D && imaginary == 0D;
+    }
+
+    /**
+     * Indicates if the imaginary part is 0
+     *
+     * @return boolean
+     */
+    public boolean isReal() {
+        return imaginary == 0D;
+    }
+
+    /**
+     * Returns the negated number
+     *
+     * @return negated number
+     */
+    public DoubleComplex negate() {
+        return new DoubleComplex(-real, -imaginary);
+    }
+
+    /**
+     * Returns the complex conjugate
+     *
+     * @return conjugate
+     */
+    public DoubleComplex conjugate() {
+        return new DoubleComplex(real, -imaginary);
+    }
+
+    /**
+     * Returns the absolute value without intermediate overflow or underflow
+     *
+     * @return absolute value
+     */
+    public double abs() {
+        return Math.hypot(real, imaginary);
+    }
+
+    /**
+     * Returns the norm, i.e. real^2 + imaginary^2
+     *
+     * @return norm
+     */
+    public double norm() {
+        return real * real + imaginary * imaginary;
+    }
+
+    /**
+     * Returns the argument in radians between -pi and pi
+     *
+     * @return argument
+     */
+    public double argument() {
+        return Math.atan2(imaginary, real);
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public DoubleComplex add(final DoubleComplex summand) {
+        requireNonNull(summand, "summand");
+        return new DoubleComplex(real + summand.real, imaginary + summand.imaginary);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public DoubleComplex subtract(final DoubleComplex subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new DoubleComplex(real - subtrahend.real, imaginary - subtrahend.imaginary);
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public DoubleComplex multiply(final DoubleComplex multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return new DoubleComplex(
+                real * multiplier.real - imaginary * multiplier.imaginary,
+                real * multiplier.imaginary + imaginary * multiplier.real);
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     */
+    public DoubleComplex multiply(final double multiplier) {
+        return new DoubleComplex(real * multiplier, imaginary * multiplier);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * <p>Smith's algorithm scales by the larger part of the divisor, so that the norm of the divisor is not computed and
+     * cannot overflow.
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    public DoubleComplex divide(final DoubleComplex divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isZero()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        if (Math.abs(divisor.real) >= Math.abs(divisor.imaginary)) {
+            final var ratio = divisor.imaginary / divisor.real;
+            final var denominator = divisor.real + divisor.imaginary * ratio;
+            return new DoubleComplex(
+                    (real + imaginary * ratio) / denominator, (imaginary - real * ratio) / denominator);
+        }
+        final var ratio = divisor.real / divisor.imaginary;
+        final var denominator = divisor.real * ratio + divisor.imaginary;
+        return new DoubleComplex((real * ratio + imaginary) / denominator, (imaginary * ratio - real) / denominator);
+    }
+
+    /**
+     * Returns the inverted number
+     *
+     * @return inverted number
+     * @throws IllegalStateException when this is 0
+     */
+    public DoubleComplex invert() {
+        if (isZero()) {
+            throw new IllegalStateException("this must be invertible but was " + this);
+        }
+        return ONE.divide(this);
+    }
+
+    /**
+     * Returns this by the power of exponent by repeated squaring
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when exponent is negative and this is 0
+     */
+    public DoubleComplex power(final int exponent) {
+        var base = exponent < 0 ? invert() : this;
+        var remaining = Math.abs((long) exponent);
+        var result = ONE;
+        while (remaining > 0L) {
+            if ((remaining & 1L) != 0L) {
+                result = result.multiply(base);
+            }
+            remaining >>= 1;
+            if (remaining > 0L) {
+                base = base.multiply(base);
+            }
+        }
+        return result;
+    }
+}
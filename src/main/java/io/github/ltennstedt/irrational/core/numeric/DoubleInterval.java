@@ -0,0 +1,293 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable closed interval of doubles which encloses an exact real number, i.e. [lower, upper]
+ *
+ * <p>Arithmetic rounds the lower bound down and the upper bound up by one ulp, so the result always encloses the
+ * exact result of the enclosed numbers. Bounds may be infinite when the exact result is unbounded or does not fit into
+ * a double. Thus an interval certifies the sign of a number or the result of a comparison with a fraction of the cost
+ * of exact arithmetic whenever it does not contain the decision point, and exact arithmetic is only necessary when it
+ * does.
+ *
+ * @param lower lower bound
+ * @param upper upper bound
+ */
+public record DoubleInterval(double lower, double upper) {
+    /** [-Infinity, Infinity] */
+    public static final DoubleInterval ENTIRE = new DoubleInterval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    /** [0, 0] */
+    public static final DoubleInterval ZERO = new DoubleInterval(0D, 0D);
+
+    /** Number of ulps by which quotients of rounded numerators and denominators are widened */
+    private static final int ENCLOSURE_ULPS = 8;
+
+    /** Number of leading bits of numerator and denominator which are converted to double */
+    private static final int LEADING_BITS = 62;
+
+    /**
+     * All arguments constructor
+     *
+     * @param lower lower bound
+     * @param upper upper bound
+     * @throws IllegalArgumentException when the bounds do not enclose a real number
+     * @see #of(double)
+     * @see #of(double, double)
+     */
+    public DoubleInterval {
+        if (!(lower <= upper) || lower == Double.POSITIVE_INFINITY || upper == Double.NEGATIVE_INFINITY) {
+            throw new IllegalArgumentException(
+                    "bounds must enclose a real number but lower was " + lower + " and upper was " + upper);
+        }
+    }
+
+    /**
+     * Static factory method for the interval which only contains value
+     *
+     * @param value value
+     * @return DoubleInterval
+     * @throws IllegalArgumentException when value is not finite
+     */
+    public static DoubleInterval of(final double value) {
+        return new DoubleInterval(value, value);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param lower lower bound
+     * @param upper upper bound
+     * @return DoubleInterval
+     * @throws IllegalArgumentException when the bounds do not enclose a real number
+     */
+    public static DoubleInterval of(final double lower, final double upper) {
+        return new DoubleInterval(lower, upper);
+    }
+
+    /**
+     * Static factory method for an interval which encloses rational
+     *
+     * @param rational rational number
+     * @return DoubleInterval
+     * @throws NullPointerException when rational is null
+     */
+    public static DoubleInterval of(final LongRational rational) {
+        requireNonNull(rational, "rational");
+        if (rational.numerator() == 0L) {
+            return ZERO;
+        }
+        return enclose(
+                Math.abs((double) rational.numerator()), rational.denominator(), 0L, rational.numerator() < 0L);
+    }
+
+    /**
+     * Static factory method for an interval which encloses rational
+     *
+     * @param rational rational number
+     * @return DoubleInterval
+     * @throws NullPointerException when rational is null
+     */
+    public static DoubleInterval of(final BigRational rational) {
+        requireNonNull(rational, "rational");
+        return enclose(rational.numerator(), rational.denominator(), 0L);
+    }
+
+    /**
+     * Static factory method for an interval which encloses rational
+     *
+     * @param rational rational number
+     * @return DoubleInterval
+     * @throws NullPointerException when rational is null
+     */
+    public static DoubleInterval of(final DyadicRational rational) {
+        requireNonNull(rational, "rational");
+        return enclose(rational.mantissa(), BigInteger.ONE, rational.exponent());
+    }
+
+    /**
+     * Indicates if every number in this is greater than 0
+     *
+     * @return boolean
+     */
+    public boolean isPositive() {
+        return lower > 0D;
+    }
+
+    /**
+     * Indicates if every number in this is less than 0
+     *
+     * @return boolean
+     */
+    public boolean isNegative() {
+        return upper < 0D;
+    }
+
+    /**
+     * Indicates if this only contains 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return lower == 0D && upper == 0D;
+    }
+
+    /**
+     * Indicates if this contains value
+     *
+     * @param value value
+     * @return boolean
+     */
+    public boolean contains(final double value) {
+        return lower <= value && value <= upper;
+    }
+
+    /**
+     * Returns the width, i.e. upper - lower rounded up
+     *
+     * @return width
+     */
+    public double width() {
+        return Math.nextUp(upper - lower);
+    }
+
+    /**
+     * Returns the negated interval
+     *
+     * @return negated interval
+     */
+    public DoubleInterval negate() {
+        return new DoubleInterval(-upper, -lower);
+    }
+
+    /**
+     * Returns an interval which encloses every sum of a number in this and a number in the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public DoubleInterval add(final DoubleInterval summand) {
+        requireNonNull(summand, "summand");
+        return new DoubleInterval(Math.nextDown(lower + summand.lower), Math.nextUp(upper + summand.upper));
+    }
+
+    /**
+     * Returns an interval which encloses every difference of a number in this and a number in the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public DoubleInterval subtract(final DoubleInterval subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return new DoubleInterval(Math.nextDown(lower - subtrahend.upper), Math.nextUp(upper - subtrahend.lower));
+    }
+
+    /**
+     * Returns an interval which encloses every product of a number in this and a number in the multiplier
+     *
+     * <p>A product of 0 and an infinite bound is 0 because infinite bounds stand for unbounded numbers.
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public DoubleInterval multiply(final DoubleInterval multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        final var p1 = productOfBounds(lower, multiplier.lower);
+        final var p2 = productOfBounds(lower, multiplier.upper);
+        final var p3 = productOfBounds(upper, multiplier.lower);
+        final var p4 = productOfBounds(upper, multiplier.upper);
+        return new DoubleInterval(
+                Math.nextDown(Math.min(Math.min(p1, p2), Math.min(p3, p4))),
+                Math.nextUp(Math.max(Math.max(p1, p2), Math.max(p3, p4))));
+    }
+
+    /**
+     * Returns an interval which encloses every quotient of a number in this and a number in the divisor
+     *
+     * @param divisor divisor
+     * @return quotient which is {@link #ENTIRE} when divisor contains 0
+     * @throws NullPointerException when divisor is null
+     */
+    public DoubleInterval divide(final DoubleInterval divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.contains(0D)) {
+            return ENTIRE;
+        }
+        final var q1 = lower / divisor.lower;
+        final var q2 = lower / divisor.upper;
+        final var q3 = upper / divisor.lower;
+        final var q4 = upper / divisor.upper;
+        if (Double.isNaN(q1) || Double.isNaN(q2) || Double.isNaN(q3) || Double.isNaN(q4)) {
+            return ENTIRE;
+        }
+        return new DoubleInterval(
+                Math.nextDown(Math.min(Math.min(q1, q2), Math.min(q3, q4))),
+                Math.nextUp(Math.max(Math.max(q1, q2), Math.max(q3, q4))));
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleInterval[" + lower + ", " + upper + "]";
+    }
+
+    private static double productOfBounds(final double a, final double b) {
+        return a == 0D || b == 0D ? 0D : a * b;
+    }
+
+    /**
+     * Encloses numerator / denominator * 2^exponent by converting the leading bits of the absolute values to double
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     * @param exponent exponent
+     * @return DoubleInterval
+     */
+    private static DoubleInterval enclose(
+            final BigInteger numerator, final BigInteger denominator, final long exponent) {
+        if (numerator.signum() == 0) {
+            return ZERO;
+        }
+        final var magnitude = numerator.abs();
+        final var numeratorShift = Math.max(0, magnitude.bitLength() - LEADING_BITS);
+        final var denominatorShift = Math.max(0, denominator.bitLength() - LEADING_BITS);
+        return enclose(
+                magnitude.shiftRight(numeratorShift).doubleValue(),
+                denominator.shiftRight(denominatorShift).doubleValue(),
+                exponent + numeratorShift - denominatorShift,
+                numerator.signum() < 0);
+    }
+
+    /**
+     * Encloses a / b * 2^exponent
+     *
+     * <p>a and b are at most rounded twice, i.e. by truncation to their leading bits and by conversion to double, so
+     * the relative error of the quotient is less than 3.01 * 2^-53, which {@link #ENCLOSURE_ULPS} ulps cover even
+     * below a power of 2. Scaling by the power of 2 is exact unless the result is subnormal or overflows, which is
+     * covered by another ulp.
+     *
+     * @param a positive numerator
+     * @param b positive denominator
+     * @param exponent exponent
+     * @param negative whether the enclosed number is negative
+     * @return DoubleInterval
+     */
+    private static DoubleInterval enclose(final double a, final double b, final long exponent, final boolean negative) {
+        final var quotient = a / b;
+        var low = quotient;
+        var high = quotient;
+        for (var i = 0; i < ENCLOSURE_ULPS; i++) {
+            low = Math.nextDown(low);
+            high = Math.nextUp(high);
+        }
+        final var scale = (int) Math.max(Math.min(exponent, 4 * Double.MAX_EXPONENT), 4 * Double.MIN_EXPONENT);
+        low = Math.max(Math.nextDown(Math.scalb(low, scale)), 0D);
+        high = Math.nextUp(Math.scalb(high, scale));
+        return negative ? new DoubleInterval(-high, -low) : new DoubleInterval(low, high);
+    }
+}
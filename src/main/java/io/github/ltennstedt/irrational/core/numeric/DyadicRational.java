@@ -0,0 +1,453 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.Comparator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable implementation of a dyadic rational number, i.e. mantissa * 2^exponent
+ *
+ * <p>The mantissa is always odd unless this is 0, in which case the exponent is 0. Thus the representation is unique
+ * and arithmetic needs shifts instead of greatest common divisors. Dyadic rational numbers are closed under addition,
+ * subtraction and multiplication but not under division, so this is not a {@link Numeric}.
+ */
+public final class DyadicRational implements Comparable<DyadicRational> {
+    /** Comparator */
+    public static final Comparator<DyadicRational> COMPARATOR = Comparable::compareTo;
+
+    /** 0 */
+    public static final DyadicRational ZERO = new DyadicRational(BigInteger.ZERO, 0);
+
+    /** 1 */
+    public static final DyadicRational ONE = new DyadicRational(BigInteger.ONE, 0);
+
+    private static final int SIGNIFICAND_BITS = 52;
+
+    private final BigInteger mantissa;
+    private final int exponent;
+
+    private DyadicRational(final BigInteger mantissa, final int exponent) {
+        this.mantissa = mantissa;
+        this.exponent = exponent;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param mantissa mantissa
+     * @return DyadicRational
+     */
+    public static DyadicRational of(final long mantissa) {
+        return of(mantissa, 0);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param mantissa mantissa
+     * @param exponent exponent
+     * @return DyadicRational
+     * @throws ArithmeticException when the exponent overflows
+     */
+    public static DyadicRational of(final long mantissa, final int exponent) {
+        if (mantissa == 0L) {
+            return ZERO;
+        }
+        final var trailingZeros = Long.numberOfTrailingZeros(mantissa);
+        return create(BigInteger.valueOf(mantissa >> trailingZeros), Math.addExact(exponent, trailingZeros));
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param mantissa mantissa
+     * @return DyadicRational
+     * @throws NullPointerException when mantissa is null
+     */
+    public static DyadicRational of(final BigInteger mantissa) {
+        return of(mantissa, 0);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param mantissa mantissa
+     * @param exponent exponent
+     * @return DyadicRational
+     * @throws NullPointerException when mantissa is null
+     * @throws ArithmeticException when the exponent overflows
+     */
+    public static DyadicRational of(final BigInteger mantissa, final int exponent) {
+        requireNonNull(mantissa, "mantissa");
+        if (mantissa.signum() == 0) {
+            return ZERO;
+        }
+        final var trailingZeros = mantissa.getLowestSetBit();
+        return create(mantissa.shiftRight(trailingZeros), Math.addExact(exponent, trailingZeros));
+    }
+
+    /**
+     * Static factory method which converts value losslessly
+     *
+     * @param value value
+     * @return DyadicRational
+     * @throws IllegalArgumentException when value is not finite
+     */
+    public static DyadicRational of(final double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("value must be finite but was " + value);
+        }
+        if (value == 0D) {
+            return ZERO;
+        }
+        final var bits = Double.doubleToRawLongBits(value);
+        final var biasedExponent = (int) (bits >>> SIGNIFICAND_BITS & 0x7FFL);
+        final var fraction = bits & (1L << SIGNIFICAND_BITS) - 1L;
+        final var significand = biasedExponent == 0 ? fraction : fraction | 1L << SIGNIFICAND_BITS;
+        final var exponent = Math.max(biasedExponent, 1) - Double.MAX_EXPONENT - SIGNIFICAND_BITS;
+        return of(bits < 0L ? -significand : significand, exponent);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param rational rational number
+     * @return DyadicRational
+     * @throws NullPointerException when rational is null
+     * @throws IllegalArgumentException when rational is not dyadic
+     */
+    public static DyadicRational of(final LongRational rational) {
+        requireNonNull(rational, "rational");
+        if (rational.isNotDyadic()) {
+            throw new IllegalArgumentException("rational must be dyadic but was " + rational);
+        }
+        return of(rational.numerator(), -Long.numberOfTrailingZeros(rational.denominator()));
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param rational rational number
+     * @return DyadicRational
+     * @throws NullPointerException when rational is null
+     * @throws IllegalArgumentException when rational is not dyadic
+     */
+    public static DyadicRational of(final BigRational rational) {
+        requireNonNull(rational, "rational");
+        if (rational.isNotDyadic()) {
+            throw new IllegalArgumentException("rational must be dyadic but was " + rational);
+        }
+        return of(rational.numerator(), -rational.denominator().getLowestSetBit());
+    }
+
+    private static DyadicRational create(final BigInteger mantissa, final int exponent) {
+        return exponent == 0 && mantissa.equals(BigInteger.ONE) ? ONE : new DyadicRational(mantissa, exponent);
+    }
+
+    /**
+     * Returns the mantissa
+     *
+     * @return mantissa
+     */
+    public BigInteger mantissa() {
+        return mantissa;
+    }
+
+    /**
+     * Returns the exponent
+     *
+     * @return exponent
+     */
+    public int exponent() {
+        return exponent;
+    }
+
+    /**
+     * Indicates if this is an element of the ring of integers
+     *
+     * @return boolean
+     */
+    public boolean isInteger() {
+        return exponent >= 0;
+    }
+
+    /**
+     * Indicates if this is 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return mantissa.signum() == 0;
+    }
+
+    /**
+     * Indicates if this is 1
+     *
+     * @return boolean
+     */
+    public boolean isOne() {
+        return exponent == 0 && mantissa.equals(BigInteger.ONE);
+    }
+
+    /**
+     * Returns the signum
+     *
+     * @return signum
+     */
+    public int signum() {
+        return mantissa.signum();
+    }
+
+    /**
+     * Returns the negated number
+     *
+     * @return negated number
+     */
+    public DyadicRational negate() {
+        return isZero() ? ZERO : create(mantissa.negate(), exponent);
+    }
+
+    /**
+     * Returns the absolute value
+     *
+     * @return absolute value
+     */
+    public DyadicRational abs() {
+        return signum() < 0 ? negate() : this;
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * <p>The mantissa with the greater exponent is shifted onto the smaller exponent before both are added.
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public DyadicRational add(final DyadicRational summand) {
+        requireNonNull(summand, "summand");
+        if (summand.isZero()) {
+            return this;
+        }
+        if (isZero()) {
+            return summand;
+        }
+        if (exponent <= summand.exponent) {
+            final var shift = Math.subtractExact(summand.exponent, exponent);
+            return of(mantissa.add(summand.mantissa.shiftLeft(shift)), exponent);
+        }
+        final var shift = Math.subtractExact(exponent, summand.exponent);
+        return of(mantissa.shiftLeft(shift).add(summand.mantissa), summand.exponent);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public DyadicRational subtract(final DyadicRational subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return add(subtrahend.negate());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * <p>The product of two odd mantissas is odd, so the result needs no normalization.
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     * @throws ArithmeticException when the exponent overflows
+     */
+    public DyadicRational multiply(final DyadicRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        if (isZero() || multiplier.isZero()) {
+            return ZERO;
+        }
+        return create(mantissa.multiply(multiplier.mantissa), Math.addExact(exponent, multiplier.exponent));
+    }
+
+    /**
+     * Returns this * 2^n
+     *
+     * @param n n
+     * @return shifted number
+     * @throws ArithmeticException when the exponent overflows
+     */
+    public DyadicRational shiftLeft(final int n) {
+        return isZero() ? ZERO : create(mantissa, Math.addExact(exponent, n));
+    }
+
+    /**
+     * Returns this / 2^n
+     *
+     * @param n n
+     * @return shifted number
+     * @throws ArithmeticException when the exponent overflows
+     */
+    public DyadicRational shiftRight(final int n) {
+        return isZero() ? ZERO : create(mantissa, Math.subtractExact(exponent, n));
+    }
+
+    /**
+     * Returns this by the power of exponent
+     *
+     * @param exponent non-negative exponent
+     * @return power
+     * @throws IllegalArgumentException when exponent is negative
+     * @throws ArithmeticException when the exponent of the result overflows
+     */
+    public DyadicRational power(final int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative but was " + exponent);
+        }
+        if (exponent == 0) {
+            return ONE;
+        }
+        if (isZero()) {
+            return ZERO;
+        }
+        return create(mantissa.pow(exponent), Math.multiplyExact(this.exponent, exponent));
+    }
+
+    /**
+     * Returns the minimum
+     *
+     * @param other other
+     * @return minimum
+     * @throws NullPointerException when other is null
+     */
+    public DyadicRational min(final DyadicRational other) {
+        requireNonNull(other, "other");
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    /**
+     * Returns the maximum
+     *
+     * @param other other
+     * @return maximum
+     * @throws NullPointerException when other is null
+     */
+    public DyadicRational max(final DyadicRational other) {
+        requireNonNull(other, "other");
+        return compareTo(other) >= 0 ? this : other;
+    }
+
+    /**
+     * Returns this as {@link LongRational}
+     *
+     * @return {@link LongRational}
+     * @throws ArithmeticException when numerator or denominator does not fit into long
+     */
+    public LongRational toLongRational() {
+        if (exponent >= 0) {
+            if ((long) mantissa.bitLength() + exponent >= Long.SIZE) {
+                throw new ArithmeticException("numerator must fit into long but was " + mantissa.shiftLeft(exponent));
+            }
+            return LongRational.of(mantissa.longValue() << exponent);
+        }
+        if (exponent <= 1 - Long.SIZE) {
+            throw new ArithmeticException("denominator must fit into long but was 2^" + -exponent);
+        }
+        return LongRational.of(mantissa.longValueExact(), 1L << -exponent);
+    }
+
+    /**
+     * Returns this as {@link BigRational}
+     *
+     * @return {@link BigRational}
+     */
+    public BigRational toBigRational() {
+        if (exponent >= 0) {
+            return BigRational.of(mantissa.shiftLeft(exponent));
+        }
+        return BigRational.ofCoprime(mantissa, BigInteger.ONE.shiftLeft(-exponent));
+    }
+
+    /**
+     * Returns this as double which is rounded to the nearest double when this is not representable
+     *
+     * <p>The mantissa is rounded half to even only once to the number of bits which are available at the magnitude of
+     * this, including subnormal doubles, so that the final scaling is exact.
+     *
+     * @return double
+     */
+    public double toDouble() {
+        if (mantissa.signum() == 0) {
+            return 0D;
+        }
+        final var magnitude = mantissa.abs();
+        final var length = magnitude.bitLength();
+        final var available = length + (long) exponent - (Double.MIN_EXPONENT - SIGNIFICAND_BITS);
+        if (available < 0L) {
+            return mantissa.signum() < 0 ? -0D : 0D;
+        }
+        if (length + (long) exponent > Double.MAX_EXPONENT + 1L) {
+            return mantissa.signum() < 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        final var shift = length - (int) Math.min(SIGNIFICAND_BITS + 1L, available);
+        if (shift <= 0) {
+            return Math.scalb(mantissa.doubleValue(), exponent);
+        }
+        var rounded = magnitude.shiftRight(shift);
+        final var sticky = magnitude.getLowestSetBit() < shift - 1;
+        if (magnitude.testBit(shift - 1) && (sticky || rounded.testBit(0))) {
+            rounded = rounded.add(BigInteger.ONE);
+        }
+        final var result = Math.scalb(rounded.doubleValue(), exponent + shift);
+        return mantissa.signum() < 0 ? -result : result;
+    }
+
+    /**
+     * Compares this to other
+     *
+     * <p>Only numbers with the same sign and the same bit length of their values are compared by shifting.
+     *
+     * @return int
+     */
+    @Override
+    public int compareTo(final DyadicRational other) {
+        requireNonNull(other, "other");
+        final var signum = signum();
+        if (signum != other.signum()) {
+            return signum > other.signum() ? 1 : -1;
+        }
+        if (signum == 0) {
+            return 0;
+        }
+        final var magnitude = Long.compare(
+                (long) mantissa.bitLength() + exponent, (long) other.mantissa.bitLength() + other.exponent);
+        if (magnitude != 0) {
+            return signum * magnitude;
+        }
+        if (exponent <= other.exponent) {
+            return mantissa.compareTo(other.mantissa.shiftLeft(other.exponent - exponent));
+        }
+        return mantissa.shiftLeft(exponent - other.exponent).compareTo(other.mantissa);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj
+                || obj instanceof DyadicRational other
+                        && exponent == other.exponent
+                        && mantissa.equals(other.mantissa);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * mantissa.hashCode() + exponent;
+    }
+
+    @Override
+    public String toString() {
+        return "DyadicRational[mantissa=" + mantissa + ", exponent=" + exponent + "]";
+    }
+}
@@ -0,0 +1,447 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.util.Longs;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Comparator;
+
+/**
+ * Immutable implementation of a decimal number based on long, i.e. unscaledValue / 10^scale
+ *
+ * <p>The denominator is fixed by the scale, so that no greatest common divisor is computed and no intermediate
+ * objects are allocated unless an intermediate product does not fit into long. Like {@link BigDecimal} equals takes
+ * the scale into account whereas compareTo does not.
+ *
+ * @param unscaledValue unscaled value
+ * @param scale scale between 0 and {@link #MAX_SCALE}
+ */
+public record LongDecimal(long unscaledValue, int scale) implements Numeric<LongDecimal>, Comparable<LongDecimal> {
+    /** Comparator */
+    public static final Comparator<LongDecimal> COMPARATOR = Comparable::compareTo;
+
+    /** Maximum scale */
+    public static final int MAX_SCALE = 18;
+
+    /** 0 */
+    public static final LongDecimal ZERO = new LongDecimal(0L, 0);
+
+    /** 1 */
+    public static final LongDecimal ONE = new LongDecimal(1L, 0);
+
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    /**
+     * All arguments constructor
+     *
+     * @param unscaledValue unscaled value
+     * @param scale scale
+     * @throws IllegalArgumentException when scale is negative or greater than {@link #MAX_SCALE}
+     * @see #of(long)
+     * @see #of(long, int)
+     */
+    public LongDecimal {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE + " but was " + scale);
+        }
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return LongDecimal
+     */
+    public static LongDecimal of(final long value) {
+        return of(value, 0);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param unscaledValue unscaled value
+     * @param scale scale
+     * @return LongDecimal
+     * @throws IllegalArgumentException when scale is negative or greater than {@link #MAX_SCALE}
+     */
+    public static LongDecimal of(final long unscaledValue, final int scale) {
+        if (scale == 0) {
+            if (unscaledValue == 0L) {
+                return ZERO;
+            }
+            if (unscaledValue == 1L) {
+                return ONE;
+            }
+        }
+        return new LongDecimal(unscaledValue, scale);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return LongDecimal
+     * @throws NullPointerException when value is null
+     * @throws IllegalArgumentException when the scale of value is negative or greater than {@link #MAX_SCALE}
+     * @throws ArithmeticException when the unscaled value of value does not fit into long
+     */
+    public static LongDecimal of(final BigDecimal value) {
+        requireNonNull(value, "value");
+        return of(value.unscaledValue().longValueExact(), value.scale());
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return unscaledValue != 0L;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return unscaledValue % POWERS_OF_TEN[scale] == 0L;
+    }
+
+    @Override
+    public boolean isZero() {
+        return unscaledValue == 0L;
+    }
+
+    @Override
+    public boolean isOne() {
+        return unscaledValue == POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Returns the signum
+     *
+     * @return signum
+     */
+    public int signum() {
+        return Long.signum(unscaledValue);
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongDecimal negate() {
+        return of(Math.negateExact(unscaledValue), scale);
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongDecimal abs() {
+        return unscaledValue < 0L ? negate() : this;
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * <p>The scale of the sum is the maximum of both scales.
+     *
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongDecimal add(final LongDecimal summand) {
+        requireNonNull(summand, "summand");
+        if (scale == summand.scale) {
+            return of(Math.addExact(unscaledValue, summand.unscaledValue), scale);
+        }
+        final var sumScale = Math.max(scale, summand.scale);
+        return of(Math.addExact(upscale(sumScale), summand.upscale(sumScale)), sumScale);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * <p>The scale of the difference is the maximum of both scales.
+     *
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongDecimal subtract(final LongDecimal subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        if (scale == subtrahend.scale) {
+            return of(Math.subtractExact(unscaledValue, subtrahend.unscaledValue), scale);
+        }
+        final var differenceScale = Math.max(scale, subtrahend.scale);
+        return of(
+                Math.subtractExact(upscale(differenceScale), subtrahend.upscale(differenceScale)), differenceScale);
+    }
+
+    /**
+     * Returns the exact product of this and the multiplier
+     *
+     * <p>The scale of the product is the sum of both scales.
+     *
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     * @throws IllegalArgumentException when the sum of both scales is greater than {@link #MAX_SCALE}
+     * @see #multiply(LongDecimal, RoundingMode)
+     */
+    @Override
+    public LongDecimal multiply(final LongDecimal multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return of(Math.multiplyExact(unscaledValue, multiplier.unscaledValue), scale + multiplier.scale);
+    }
+
+    /**
+     * Returns the product of this and the multiplier rounded to the scale of this
+     *
+     * <p>No intermediate objects are allocated unless the exact product does not fit into long.
+     *
+     * @param multiplier multiplier
+     * @param roundingMode {@link RoundingMode}
+     * @return product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws ArithmeticException when the result does not fit into long or roundingMode is
+     *     {@link RoundingMode#UNNECESSARY} and rounding is necessary
+     */
+    public LongDecimal multiply(final LongDecimal multiplier, final RoundingMode roundingMode) {
+        requireNonNull(multiplier, "multiplier");
+        requireNonNull(roundingMode, "roundingMode");
+        return of(
+                multiplyAndDivide(
+                        unscaledValue, multiplier.unscaledValue, POWERS_OF_TEN[multiplier.scale], roundingMode),
+                scale);
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public LongDecimal multiply(final long multiplier) {
+        return of(Math.multiplyExact(unscaledValue, multiplier), scale);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor with the scale of this
+     *
+     * @throws ArithmeticException when the result does not fit into long or the quotient cannot be represented with
+     *     the scale of this
+     * @see #divide(LongDecimal, RoundingMode)
+     */
+    @Override
+    public LongDecimal divide(final LongDecimal divisor) {
+        return divide(divisor, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor rounded to the scale of this
+     *
+     * <p>No intermediate objects are allocated unless the scaled dividend does not fit into long.
+     *
+     * @param divisor divisor
+     * @param roundingMode {@link RoundingMode}
+     * @return quotient
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when divisor is not invertible
+     * @throws ArithmeticException when the result does not fit into long or roundingMode is
+     *     {@link RoundingMode#UNNECESSARY} and rounding is necessary
+     */
+    public LongDecimal divide(final LongDecimal divisor, final RoundingMode roundingMode) {
+        requireNonNull(divisor, "divisor");
+        requireNonNull(roundingMode, "roundingMode");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        return of(
+                multiplyAndDivide(unscaledValue, POWERS_OF_TEN[divisor.scale], divisor.unscaledValue, roundingMode),
+                scale);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor rounded to the scale of this
+     *
+     * @param divisor divisor
+     * @param roundingMode {@link RoundingMode}
+     * @return quotient
+     * @throws NullPointerException when roundingMode is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when an arithmetic overflow occurs or roundingMode is
+     *     {@link RoundingMode#UNNECESSARY} and rounding is necessary
+     */
+    public LongDecimal divide(final long divisor, final RoundingMode roundingMode) {
+        requireNonNull(roundingMode, "roundingMode");
+        if (divisor == 0L) {
+            throw new IllegalArgumentException("divisor must not be 0 but was " + divisor);
+        }
+        return of(Roundings.divide(unscaledValue, divisor, roundingMode), scale);
+    }
+
+    /**
+     * Returns the inverted number with the scale of this
+     *
+     * @throws ArithmeticException when the result does not fit into long or the inverted number cannot be
+     *     represented with the scale of this
+     */
+    @Override
+    public LongDecimal invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("this must be invertible but was " + this);
+        }
+        return of(
+                multiplyAndDivide(
+                        POWERS_OF_TEN[scale], POWERS_OF_TEN[scale], unscaledValue, RoundingMode.UNNECESSARY),
+                scale);
+    }
+
+    /**
+     * Returns the exact power of this whose scale is the product of the scale of this and the absolute exponent
+     *
+     * <p>Negative exponents invert this first. The power is computed by repeated squaring.
+     *
+     * @throws IllegalStateException when exponent is negative and this is not invertible
+     * @throws IllegalArgumentException when the scale of the result is greater than {@link #MAX_SCALE}
+     * @throws ArithmeticException when an arithmetic overflow occurs or the inverted number cannot be represented
+     *     with the scale of this
+     */
+    @Override
+    public LongDecimal power(final int exponent) {
+        if (exponent < 0) {
+            return invert().power(Math.negateExact(exponent));
+        }
+        final var powerScale = (long) scale * exponent;
+        if (powerScale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE + " but was " + powerScale);
+        }
+        var power = 1L;
+        var base = unscaledValue;
+        for (var e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                power = Math.multiplyExact(power, base);
+            }
+            if (e > 1) {
+                base = Math.multiplyExact(base, base);
+            }
+        }
+        return of(power, (int) powerScale);
+    }
+
+    /**
+     * Returns this with the new scale
+     *
+     * @param newScale new scale
+     * @param roundingMode {@link RoundingMode}
+     * @return LongDecimal
+     * @throws NullPointerException when roundingMode is null
+     * @throws IllegalArgumentException when newScale is negative or greater than {@link #MAX_SCALE}
+     * @throws ArithmeticException when an arithmetic overflow occurs or roundingMode is
+     *     {@link RoundingMode#UNNECESSARY} and rounding is necessary
+     */
+    public LongDecimal setScale(final int newScale, final RoundingMode roundingMode) {
+        requireNonNull(roundingMode, "roundingMode");
+        if (newScale < 0 || newScale > MAX_SCALE) {
+            throw new IllegalArgumentException("newScale must be between 0 and " + MAX_SCALE + " but was " + newScale);
+        }
+        if (newScale >= scale) {
+            return of(upscale(newScale), newScale);
+        }
+        return of(Roundings.divide(unscaledValue, POWERS_OF_TEN[scale - newScale], roundingMode), newScale);
+    }
+
+    /**
+     * Returns the minimum
+     *
+     * @param other other
+     * @return minimum
+     * @throws NullPointerException when other is null
+     */
+    public LongDecimal min(final LongDecimal other) {
+        requireNonNull(other, "other");
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    /**
+     * Returns the maximum
+     *
+     * @param other other
+     * @return maximum
+     * @throws NullPointerException when other is null
+     */
+    public LongDecimal max(final LongDecimal other) {
+        requireNonNull(other, "other");
+        return compareTo(other) >= 0 ? this : other;
+    }
+
+    /**
+     * Returns this as {@link LongRational}
+     *
+     * @return {@link LongRational}
+     */
+    public LongRational toLongRational() {
+        return LongRational.of(unscaledValue, POWERS_OF_TEN[scale]);
+    }
+
+    /**
+     * Returns this as {@link BigDecimal}
+     *
+     * @return {@link BigDecimal}
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * Compares this to other
+     *
+     * <p>The values are compared by their exact cross products, so that no rescaling can overflow.
+     *
+     * @return int
+     */
+    @Override
+    public int compareTo(final LongDecimal other) {
+        requireNonNull(other, "other");
+        if (scale == other.scale) {
+            return Long.compare(unscaledValue, other.unscaledValue);
+        }
+        return Longs.compareProducts(
+                unscaledValue, POWERS_OF_TEN[other.scale], other.unscaledValue, POWERS_OF_TEN[scale]);
+    }
+
+    private long upscale(final int newScale) {
+        return Math.multiplyExact(unscaledValue, POWERS_OF_TEN[newScale - scale]);
+    }
+
+    private static long multiplyAndDivide(
+            final long a, final long b, final long divisor, final RoundingMode roundingMode) {
+        final var high = Math.multiplyHigh(a, b);
+        final var low = a * b;
+        if (high == low >> 63) {
+            return Roundings.divide(low, divisor, roundingMode);
+        }
+        final var quotientAndRemainder =
+                BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).divideAndRemainder(BigInteger.valueOf(divisor));
+        final var quotient = quotientAndRemainder[0];
+        final var remainder = quotientAndRemainder[1];
+        if (remainder.signum() == 0) {
+            return quotient.longValueExact();
+        }
+        final var signum = Long.signum(a) * Long.signum(b) * Long.signum(divisor);
+        final var half = remainder.abs().shiftLeft(1).compareTo(BigInteger.valueOf(divisor).abs());
+        return Roundings.isAwayFromZero(roundingMode, signum, half, quotient.testBit(0))
+                ? quotient.add(BigInteger.valueOf(signum)).longValueExact()
+                : quotient.longValueExact();
+    }
+}
@@ -0,0 +1,307 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.util.Longs;
+import java.math.BigInteger;
+
+/**
+ * Immutable implementation of a Gaussian integer based on long, i.e. real + imaginary * i
+ *
+ * <p>Products are computed with 128-bit intermediates, so that an overflow only occurs when the result does not fit
+ * into long. Gaussian integers are a Euclidean domain with the norm as Euclidean function, so
+ * {@link #divideAndRemainder(LongGaussianInteger)} rounds the quotient to the nearest Gaussian integer and
+ * {@link #gcd(LongGaussianInteger)} uses the Euclidean algorithm. Only the units 1, -1, i and -i are invertible and
+ * {@link #divide(LongGaussianInteger)} is exact.
+ *
+ * @param real real part
+ * @param imaginary imaginary part
+ */
+public record LongGaussianInteger(long real, long imaginary) implements Numeric<LongGaussianInteger> {
+    /** 0 */
+    public static final LongGaussianInteger ZERO = new LongGaussianInteger(0L, 0L);
+
+    /** 1 */
+    public static final LongGaussianInteger ONE = new LongGaussianInteger(1L, 0L);
+
+    /** i */
+    public static final LongGaussianInteger I = new LongGaussianInteger(0L, 1L);
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @return LongGaussianInteger
+     */
+    public static LongGaussianInteger of(final long real) {
+        return of(real, 0L);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @return LongGaussianInteger
+     */
+    public static LongGaussianInteger of(final long real, final long imaginary) {
+        if (imaginary == 0L) {
+            if (real == 0L) {
+                return ZERO;
+            }
+            if (real == 1L) {
+                return ONE;
+            }
+        }
+        if (real == 0L && imaginary == 1L) {
+            return I;
+        }
+        return new LongGaussianInteger(real, imaginary);
+    }
+
+    /**
+     * Indicates if this is a unit, i.e. 1, -1, i or -i
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean isInvertible() {
+        return real == 0L ? Math.abs(imaginary) == 1L : imaginary == 0L && Math.abs(real) == 1L;
+    }
+
+    /**
+     * Returns true because Gaussian integers are the ring of integers of the Gaussian rationals
+     *
+     * @return true
+     */
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+
+    @Override
+    public boolean isZero() {
+        return real == 0L && imaginary == 0L;
+    }
+
+    @Override
+    public boolean isOne() {
+        return real == 1L && imaginary == 0L;
+    }
+
+    /**
+     * Indicates if the imaginary part is 0
+     *
+     * @return boolean
+     */
+    public boolean isReal() {
+        return imaginary == 0L;
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianInteger negate() {
+        return of(Math.negateExact(real), Math.negateExact(imaginary));
+    }
+
+    /**
+     * Returns the associate of this in the first quadrant, i.e. with positive real part and non-negative imaginary
+     * part unless this is 0
+     *
+     * @return normalized associate
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianInteger abs() {
+        if (isZero() || real > 0L && imaginary >= 0L) {
+            return this;
+        }
+        if (real <= 0L && imaginary > 0L) {
+            return of(imaginary, Math.negateExact(real));
+        }
+        if (real < 0L) {
+            return negate();
+        }
+        return of(Math.negateExact(imaginary), real);
+    }
+
+    /**
+     * Returns the complex conjugate
+     *
+     * @return conjugate
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public LongGaussianInteger conjugate() {
+        return of(real, Math.negateExact(imaginary));
+    }
+
+    /**
+     * Returns the norm, i.e. real^2 + imaginary^2
+     *
+     * @return norm
+     * @throws ArithmeticException when the norm does not fit into long
+     */
+    public long norm() {
+        return Longs.sumOfProductsExact(real, real, imaginary, imaginary);
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianInteger add(final LongGaussianInteger summand) {
+        requireNonNull(summand, "summand");
+        return of(Math.addExact(real, summand.real), Math.addExact(imaginary, summand.imaginary));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianInteger subtract(final LongGaussianInteger subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return of(Math.subtractExact(real, subtrahend.real), Math.subtractExact(imaginary, subtrahend.imaginary));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianInteger multiply(final LongGaussianInteger multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return of(
+                Longs.differenceOfProductsExact(real, multiplier.real, imaginary, multiplier.imaginary),
+                Longs.sumOfProductsExact(real, multiplier.imaginary, imaginary, multiplier.real));
+    }
+
+    /**
+     * Returns the exact quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when divisor does not divide this or an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianInteger divide(final LongGaussianInteger divisor) {
+        final var quotientAndRemainder = divideAndRemainder(divisor);
+        if (!quotientAndRemainder[1].isZero()) {
+            throw new ArithmeticException("divisor must divide this but was " + divisor);
+        }
+        return quotientAndRemainder[0];
+    }
+
+    /**
+     * Returns the quotient rounded to the nearest Gaussian integer and the remainder
+     *
+     * <p>The norm of the remainder is at most half the norm of the divisor. When all parts fit into int the division
+     * is computed with long arithmetic only.
+     *
+     * @param divisor divisor
+     * @return array of quotient and remainder
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when the quotient does not fit into long
+     */
+    public LongGaussianInteger[] divideAndRemainder(final LongGaussianInteger divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isZero()) {
+            throw new IllegalArgumentException("divisor must not be 0 but was " + divisor);
+        }
+        if (isSmall(real) && isSmall(imaginary) && isSmall(divisor.real) && isSmall(divisor.imaginary)) {
+            final var norm = divisor.real * divisor.real + divisor.imaginary * divisor.imaginary;
+            final var quotient = of(
+                    roundedQuotient(real * divisor.real + imaginary * divisor.imaginary, norm),
+                    roundedQuotient(imaginary * divisor.real - real * divisor.imaginary, norm));
+            return new LongGaussianInteger[] {quotient, subtract(quotient.multiply(divisor))};
+        }
+        return bigDivideAndRemainder(divisor);
+    }
+
+    /**
+     * Returns the greatest common divisor as associate in the first quadrant
+     *
+     * @param other other
+     * @return greatest common divisor
+     * @throws NullPointerException when other is null
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public LongGaussianInteger gcd(final LongGaussianInteger other) {
+        requireNonNull(other, "other");
+        var a = this;
+        var b = other;
+        while (!b.isZero()) {
+            final var remainder = a.divideAndRemainder(b)[1];
+            a = b;
+            b = remainder;
+        }
+        return a.abs();
+    }
+
+    /**
+     * Returns the inverted number which is the conjugate of the unit this
+     *
+     * @return inverted number
+     * @throws IllegalStateException when this is not a unit
+     */
+    @Override
+    public LongGaussianInteger invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("this must be invertible but was " + this);
+        }
+        return conjugate();
+    }
+
+    /**
+     * Returns this by the power of exponent
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when exponent is negative and this is not a unit
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianInteger power(final int exponent) {
+        var base = exponent < 0 ? invert() : this;
+        var remaining = Math.abs((long) exponent);
+        var result = ONE;
+        while (remaining > 0L) {
+            if ((remaining & 1L) != 0L) {
+                result = result.multiply(base);
+            }
+            remaining >>= 1;
+            if (remaining > 0L) {
+                base = base.multiply(base);
+            }
+        }
+        return result;
+    }
+
+    private LongGaussianInteger[] bigDivideAndRemainder(final LongGaussianInteger divisor) {
+        final var a = BigInteger.valueOf(real);
+        final var b = BigInteger.valueOf(imaginary);
+        final var c = BigInteger.valueOf(divisor.real);
+        final var d = BigInteger.valueOf(divisor.imaginary);
+        final var norm = c.multiply(c).add(d.multiply(d));
+        final var quotientReal = roundedQuotient(a.multiply(c).add(b.multiply(d)), norm);
+        final var quotientImaginary = roundedQuotient(b.multiply(c).subtract(a.multiply(d)), norm);
+        final var remainderReal = a.subtract(quotientReal.multiply(c)).add(quotientImaginary.multiply(d));
+        final var remainderImaginary = b.subtract(quotientReal.multiply(d)).subtract(quotientImaginary.multiply(c));
+        return new LongGaussianInteger[] {
+            of(quotientReal.longValueExact(), quotientImaginary.longValueExact()),
+            of(remainderReal.longValueExact(), remainderImaginary.longValueExact())
+        };
+    }
+
+    private static boolean isSmall(final long value) {
+        return value > Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    private static long roundedQuotient(final long dividend, final long divisor) {
+        final var quotient = Math.floorDiv(dividend, divisor);
+        final var remainder = dividend - quotient * divisor;
+        return remainder >= divisor - remainder ? quotient + 1L : quotient;
+    }
+
+    private static BigInteger roundedQuotient(final BigInteger dividend, final BigInteger divisor) {
+        final var quotientAndRemainder = dividend.shiftLeft(1).add(divisor).divideAndRemainder(divisor.shiftLeft(1));
+        return quotientAndRemainder[1].signum() < 0
+                ? quotientAndRemainder[0].subtract(BigInteger.ONE)
+                : quotientAndRemainder[0];
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.util.Longs;
+
+/**
+ * Immutable implementation of a Gaussian rational based on long, i.e. (real + imaginary * i) / denominator
+ *
+ * <p>Real and imaginary part share one positive denominator and real, imaginary and denominator are coprime. Thus
+ * every operation reduces only once with the greatest common divisor of three numbers instead of reducing real and
+ * imaginary part separately, and products are computed with 128-bit intermediates.
+ *
+ * @param real numerator of the real part
+ * @param imaginary numerator of the imaginary part
+ * @param denominator common denominator
+ */
+public record LongGaussianRational(long real, long imaginary, long denominator)
+        implements Numeric<LongGaussianRational> {
+    /** 0 */
+    public static final LongGaussianRational ZERO = new LongGaussianRational(0L, 0L, 1L);
+
+    /** 1 */
+    public static final LongGaussianRational ONE = new LongGaussianRational(1L, 0L, 1L);
+
+    /** i */
+    public static final LongGaussianRational I = new LongGaussianRational(0L, 1L, 1L);
+
+    /**
+     * All arguments constructor
+     *
+     * @param real numerator of the real part
+     * @param imaginary numerator of the imaginary part
+     * @param denominator common denominator
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     * @see #of(long, long)
+     * @see #of(long, long, long)
+     */
+    public LongGaussianRational {
+        if (denominator == 0L) {
+            throw new IllegalArgumentException("denominator must not be 0 but was " + denominator);
+        }
+        final var gcd = Longs.gcd(Longs.gcd(real, imaginary), denominator);
+        real /= gcd;
+        imaginary /= gcd;
+        denominator /= gcd;
+        if (denominator < 0L) {
+            real = Math.negateExact(real);
+            imaginary = Math.negateExact(imaginary);
+            denominator = Math.negateExact(denominator);
+        }
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @return LongGaussianRational
+     */
+    public static LongGaussianRational of(final long real, final long imaginary) {
+        return of(real, imaginary, 1L);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real numerator of the real part
+     * @param imaginary numerator of the imaginary part
+     * @param denominator common denominator
+     * @return LongGaussianRational
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public static LongGaussianRational of(final long real, final long imaginary, final long denominator) {
+        if (denominator != 0L) {
+            if (imaginary == 0L && real == 0L) {
+                return ZERO;
+            }
+            if (imaginary == 0L && real == denominator) {
+                return ONE;
+            }
+            if (real == 0L && imaginary == denominator) {
+                return I;
+            }
+        }
+        return new LongGaussianRational(real, imaginary, denominator);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param value value
+     * @return LongGaussianRational
+     * @throws NullPointerException when value is null
+     */
+    public static LongGaussianRational of(final LongGaussianInteger value) {
+        requireNonNull(value, "value");
+        return of(value.real(), value.imaginary());
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     * @return LongGaussianRational
+     * @throws NullPointerException when one of the arguments is null
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public static LongGaussianRational of(final LongRational real, final LongRational imaginary) {
+        requireNonNull(real, "real");
+        requireNonNull(imaginary, "imaginary");
+        final var gcd = Longs.gcd(real.denominator(), imaginary.denominator());
+        return of(
+                Math.multiplyExact(real.numerator(), imaginary.denominator() / gcd),
+                Math.multiplyExact(imaginary.numerator(), real.denominator() / gcd),
+                Math.multiplyExact(real.denominator(), imaginary.denominator() / gcd));
+    }
+
+    /**
+     * Returns the real part
+     *
+     * @return real part
+     */
+    public LongRational realPart() {
+        return LongRational.of(real, denominator);
+    }
+
+    /**
+     * Returns the imaginary part
+     *
+     * @return imaginary part
+     */
+    public LongRational imaginaryPart() {
+        return LongRational.of(imaginary, denominator);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return !isZero();
+    }
+
+    @Override
+    public boolean isInteger() {
+        return denominator == 1L;
+    }
+
+    @Override
+    public boolean isZero() {
+        return real == 0L && imaginary == 0L;
+    }
+
+    @Override
+    public boolean isOne() {
+        return real == 1L && imaginary == 0L && denominator == 1L;
+    }
+
+    /**
+     * Indicates if the imaginary part is 0
+     *
+     * @return boolean
+     */
+    public boolean isReal() {
+        return imaginary == 0L;
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianRational negate() {
+        return of(Math.negateExact(real), Math.negateExact(imaginary), denominator);
+    }
+
+    /**
+     * Returns the associate of this in the first quadrant, i.e. with positive real part and non-negative imaginary
+     * part unless this is 0
+     *
+     * @return normalized associate
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianRational abs() {
+        if (isZero() || real > 0L && imaginary >= 0L) {
+            return this;
+        }
+        if (real <= 0L && imaginary > 0L) {
+            return of(imaginary, Math.negateExact(real), denominator);
+        }
+        if (real < 0L) {
+            return negate();
+        }
+        return of(Math.negateExact(imaginary), real, denominator);
+    }
+
+    /**
+     * Returns the complex conjugate
+     *
+     * @return conjugate
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public LongGaussianRational conjugate() {
+        return of(real, Math.negateExact(imaginary), denominator);
+    }
+
+    /**
+     * Returns the norm, i.e. the square of the absolute value
+     *
+     * @return norm
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    public LongRational norm() {
+        return LongRational.of(normNumerator(), Math.multiplyExact(denominator, denominator));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianRational add(final LongGaussianRational summand) {
+        requireNonNull(summand, "summand");
+        final var gcd = Longs.gcd(denominator, summand.denominator);
+        final var factor = summand.denominator / gcd;
+        final var summandFactor = denominator / gcd;
+        return of(
+                Longs.sumOfProductsExact(real, factor, summand.real, summandFactor),
+                Longs.sumOfProductsExact(imaginary, factor, summand.imaginary, summandFactor),
+                Math.multiplyExact(denominator, factor));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianRational subtract(final LongGaussianRational subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        final var gcd = Longs.gcd(denominator, subtrahend.denominator);
+        final var factor = subtrahend.denominator / gcd;
+        final var subtrahendFactor = denominator / gcd;
+        return of(
+                Longs.differenceOfProductsExact(real, factor, subtrahend.real, subtrahendFactor),
+                Longs.differenceOfProductsExact(imaginary, factor, subtrahend.imaginary, subtrahendFactor),
+                Math.multiplyExact(denominator, factor));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianRational multiply(final LongGaussianRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return of(
+                Longs.differenceOfProductsExact(real, multiplier.real, imaginary, multiplier.imaginary),
+                Longs.sumOfProductsExact(real, multiplier.imaginary, imaginary, multiplier.real),
+                Math.multiplyExact(denominator, multiplier.denominator));
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * <p>The quotient is this * conjugate(divisor) / norm(divisor). Only the common factor of both denominators is
+     * cancelled in advance and the result is reduced once.
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is not invertible
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianRational divide(final LongGaussianRational divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        final var gcd = Longs.gcd(denominator, divisor.denominator);
+        final var factor = divisor.denominator / gcd;
+        return of(
+                Math.multiplyExact(Longs.sumOfProductsExact(real, divisor.real, imaginary, divisor.imaginary), factor),
+                Math.multiplyExact(
+                        Longs.differenceOfProductsExact(imaginary, divisor.real, real, divisor.imaginary), factor),
+                Math.multiplyExact(denominator / gcd, divisor.normNumerator()));
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongGaussianRational invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("this must be invertible but was " + this);
+        }
+        return of(
+                Math.multiplyExact(real, denominator),
+                Math.negateExact(Math.multiplyExact(imaginary, denominator)),
+                normNumerator());
+    }
+
+    /**
+     * Returns this by the power of exponent
+     *
+     * @param exponent exponent
+     * @return power
+     * @throws IllegalStateException when exponent is negative and this is not invertible
+     * @throws ArithmeticException when an arithmetic overflow occurs
+     */
+    @Override
+    public LongGaussianRational power(final int exponent) {
+        var base = exponent < 0 ? invert() : this;
+        var remaining = Math.abs((long) exponent);
+        var result = ONE;
+        while (remaining > 0L) {
+            if ((remaining & 1L) != 0L) {
+                result = result.multiply(base);
+            }
+            remaining >>= 1;
+            if (remaining > 0L) {
+                base = base.multiply(base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns this as {@link LongGaussianInteger}
+     *
+     * @return {@link LongGaussianInteger}
+     * @throws IllegalStateException when this is not a Gaussian integer
+     */
+    public LongGaussianInteger toLongGaussianInteger() {
+        if (isNotInteger()) {
+            throw new IllegalStateException("this must be a Gaussian integer but was " + this);
+        }
+        return LongGaussianInteger.of(real, imaginary);
+    }
+
+    private long normNumerator() {
+        return Longs.sumOfProductsExact(real, real, imaginary, imaginary);
+    }
+}
@@ -4,9 +4,17 @@ import static java.util.Objects.requireNonNull;
 
 import io.github.ltennstedt.irrational.core.util.Longs;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Immutable implementation of a rational number based on long
@@ -77,6 +85,91 @@ public record LongRational(long numerator, long denominator) implements Rational
         return new LongRational(numerator, denominator);
     }
 
+    /**
+     * Returns the dot product of a and b, i.e. the sum of the products of their elements
+     *
+     * <p>The products are summed up over their least common denominator and reduced only once at the end. When an
+     * intermediate value overflows, the computation continues with BigInteger, so that an overflow only occurs when
+     * the result does not fit into long.
+     *
+     * @param a a
+     * @param b b
+     * @return dot product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when a and b do not have the same size
+     * @throws ArithmeticException when the result does not fit into long
+     */
+    public static LongRational dot(final Iterable<LongRational> a, final Iterable<LongRational> b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        return dot(a.iterator(), b.iterator());
+    }
+
+    /**
+     * Returns the dot product of a and b, i.e. the sum of the products of their elements
+     *
+     * <p>The products are summed up over their least common denominator and reduced only once at the end. When an
+     * intermediate value overflows, the computation continues with BigInteger, so that an overflow only occurs when
+     * the result does not fit into long.
+     *
+     * @param a a
+     * @param b b
+     * @return dot product
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when a and b do not have the same length
+     * @throws ArithmeticException when the result does not fit into long
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public static LongRational dot(final LongRational[] a, final LongRational[] b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        if (a.length != b.length) {
+            throw new IllegalArgumentException(
+                    "a and b must have the same length but were " + a.length + " and " + b.length);
+        }
+        return dot(Arrays.asList(a).iterator(), Arrays.asList(b).iterator());
+    }
+
+    private static LongRational dot(final Iterator<LongRational> a, final Iterator<LongRational> b) {
+        var sumNumerator = 0L;
+        var sumDenominator = 1L;
+        while (a.hasNext() && b.hasNext()) {
+            final var x = a.next();
+            final var y = b.next();
+            try {
+                final var gcd1 = Longs.gcd(x.numerator, y.denominator);
+                final var gcd2 = Longs.gcd(y.numerator, x.denominator);
+                final var productNumerator = Math.multiplyExact(x.numerator / gcd1, y.numerator / gcd2);
+                final var productDenominator = Math.multiplyExact(x.denominator / gcd2, y.denominator / gcd1);
+                final var gcd = Longs.gcd(sumDenominator, productDenominator);
+                final var nextNumerator = Math.addExact(
+                        Math.multiplyExact(sumNumerator, productDenominator / gcd),
+                        Math.multiplyExact(productNumerator, sumDenominator / gcd));
+                sumDenominator = Math.multiplyExact(sumDenominator, productDenominator / gcd);
+                sumNumerator = nextNumerator;
+            } catch (final ArithmeticException e) {
+                return BigRational.dot(
+                                BigInteger.valueOf(sumNumerator),
+                                BigInteger.valueOf(sumDenominator),
+                                toBigRationals(x, a),
+                                toBigRationals(y, b))
+                        .toLongRational();
+            }
+        }
+        if (a.hasNext() || b.hasNext()) {
+            throw new IllegalArgumentException("a and b must have the same size");
+        }
+        return of(sumNumerator, sumDenominator);
+    }
+
+    private static Iterator<BigRational> toBigRationals(final LongRational first, final Iterator<LongRational> rest) {
+        return Stream.concat(
+                        Stream.of(first),
+                        StreamSupport.stream(Spliterators.spliteratorUnknownSize(rest, Spliterator.ORDERED), false))
+                .map(LongRational::toBigRational)
+                .iterator();
+    }
+
     @Override
     public boolean isInvertible() {
         return numerator != 0L;
@@ -141,6 +234,31 @@ public record LongRational(long numerator, long denominator) implements Rational
                 Math.multiplyExact(denominator, summand.denominator));
     }
 
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongRational add(final long summand) {
+        return of(Math.addExact(numerator, Math.multiplyExact(summand, denominator)), denominator);
+    }
+
+    /** @throws ArithmeticException when summand does not fit into long or an arithmetic overflow occurs */
+    @Override
+    public LongRational add(final BigInteger summand) {
+        requireNonNull(summand, "summand");
+        return add(summand.longValueExact());
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public BigRational add(final BigRational summand) {
+        requireNonNull(summand, "summand");
+        return summand.add(this);
+    }
+
     /** @throws ArithmeticException when an arithmetic overflow occurs */
     @Override
     public LongRational subtract(final LongRational subtrahend) {
@@ -152,6 +270,19 @@ public record LongRational(long numerator, long denominator) implements Rational
                 Math.multiplyExact(denominator, subtrahend.denominator));
     }
 
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongRational subtract(final long subtrahend) {
+        return of(Math.subtractExact(numerator, Math.multiplyExact(subtrahend, denominator)), denominator);
+    }
+
+    /** @throws ArithmeticException when subtrahend does not fit into long or an arithmetic overflow occurs */
+    @Override
+    public LongRational subtract(final BigInteger subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return subtract(subtrahend.longValueExact());
+    }
+
     /** @throws ArithmeticException when an arithmetic overflow occurs */
     @Override
     public LongRational multiply(final LongRational multiplier) {
@@ -161,6 +292,63 @@ public record LongRational(long numerator, long denominator) implements Rational
                 Math.multiplyExact(denominator, multiplier.denominator));
     }
 
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongRational multiply(final long multiplier) {
+        final var gcd = Longs.gcd(multiplier, denominator);
+        return of(Math.multiplyExact(numerator, multiplier / gcd), denominator / gcd);
+    }
+
+    /** @throws ArithmeticException when multiplier does not fit into long or an arithmetic overflow occurs */
+    @Override
+    public LongRational multiply(final BigInteger multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return multiply(multiplier.longValueExact());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public BigRational multiply(final BigRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return multiplier.multiply(this);
+    }
+
+    /**
+     * Returns the product of this and the multiplier plus the summand
+     *
+     * <p>The product is cross-cancelled and added over the least common denominator without creating an intermediate
+     * LongRational. When an intermediate value overflows, the computation continues with BigInteger, so that an
+     * overflow only occurs when the result does not fit into long.
+     *
+     * @throws ArithmeticException when the result does not fit into long
+     */
+    @Override
+    public LongRational multiplyAdd(final LongRational multiplier, final LongRational summand) {
+        requireNonNull(multiplier, "multiplier");
+        requireNonNull(summand, "summand");
+        try {
+            final var gcd1 = Longs.gcd(numerator, multiplier.denominator);
+            final var gcd2 = Longs.gcd(multiplier.numerator, denominator);
+            final var productNumerator = Math.multiplyExact(numerator / gcd1, multiplier.numerator / gcd2);
+            final var productDenominator = Math.multiplyExact(denominator / gcd2, multiplier.denominator / gcd1);
+            final var gcd = Longs.gcd(productDenominator, summand.denominator);
+            return of(
+                    Math.addExact(
+                            Math.multiplyExact(productNumerator, summand.denominator / gcd),
+                            Math.multiplyExact(summand.numerator, productDenominator / gcd)),
+                    Math.multiplyExact(productDenominator, summand.denominator / gcd));
+        } catch (final ArithmeticException e) {
+            return toBigRational()
+                    .multiplyAdd(multiplier.toBigRational(), summand.toBigRational())
+                    .toLongRational();
+        }
+    }
+
     /** @throws ArithmeticException when an arithmetic overflow occurs */
     @Override
     public LongRational divide(final LongRational divisor) {
@@ -172,6 +360,23 @@ public record LongRational(long numerator, long denominator) implements Rational
                 Math.multiplyExact(numerator, divisor.denominator), Math.multiplyExact(denominator, divisor.numerator));
     }
 
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongRational divide(final long divisor) {
+        if (divisor == 0L) {
+            throw new IllegalArgumentException("divisor must not be 0 but was " + divisor);
+        }
+        final var gcd = Longs.gcd(numerator, divisor);
+        return of(numerator / gcd, Math.multiplyExact(denominator, divisor / gcd));
+    }
+
+    /** @throws ArithmeticException when divisor does not fit into long or an arithmetic overflow occurs */
+    @Override
+    public LongRational divide(final BigInteger divisor) {
+        requireNonNull(divisor, "divisor");
+        return divide(divisor.longValueExact());
+    }
+
     @Override
     public LongRational invert() {
         if (isNotInvertible()) {
@@ -215,6 +420,104 @@ public record LongRational(long numerator, long denominator) implements Rational
         return subtract(ONE);
     }
 
+    /**
+     * Returns the greatest integer less than or equal to this
+     *
+     * @return floor
+     */
+    public long floor() {
+        return Math.floorDiv(numerator, denominator);
+    }
+
+    /**
+     * Returns the least integer greater than or equal to this
+     *
+     * @return ceiling
+     */
+    public long ceil() {
+        return Math.floorMod(numerator, denominator) == 0L ? numerator / denominator : floor() + 1L;
+    }
+
+    /**
+     * Returns this rounded to an integer
+     *
+     * @param roundingMode {@link RoundingMode}
+     * @return rounded integer
+     * @throws NullPointerException when roundingMode is null
+     * @throws ArithmeticException when roundingMode is {@link RoundingMode#UNNECESSARY} and this is not an integer
+     */
+    public long round(final RoundingMode roundingMode) {
+        requireNonNull(roundingMode, "roundingMode");
+        final var quotient = numerator / denominator;
+        final var remainder = numerator % denominator;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        final var half = Long.compareUnsigned(2L * Math.abs(remainder), denominator);
+        return Roundings.isAwayFromZero(roundingMode, signum(), half, (quotient & 1L) != 0L)
+                ? quotient + signum()
+                : quotient;
+    }
+
+    /**
+     * Returns the integer part, i.e. this truncated towards 0
+     *
+     * @return integer part
+     */
+    public long integerPart() {
+        return numerator / denominator;
+    }
+
+    @Override
+    public LongRational fractionalPart() {
+        return of(numerator % denominator, denominator);
+    }
+
+    /** @throws ArithmeticException when an arithmetic overflow occurs */
+    @Override
+    public LongRational[] divideAndRemainder(final LongRational divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        final var gcd1 = Longs.gcd(numerator, divisor.numerator);
+        final var gcd2 = Longs.gcd(denominator, divisor.denominator);
+        final var quotient = Math.multiplyExact(numerator / gcd1, divisor.denominator / gcd2)
+                / Math.multiplyExact(denominator / gcd2, divisor.numerator / gcd1);
+        return new LongRational[] {of(quotient), subtract(divisor.multiply(quotient))};
+    }
+
+    @Override
+    public boolean isPerfectSquare() {
+        return Longs.isPerfectSquare(numerator) && Longs.isPerfectSquare(denominator);
+    }
+
+    @Override
+    public Optional<LongRational> nthRootExact(final int n) {
+        Roots.checkDegree(n);
+        if (numerator < 0L && n % 2 == 0) {
+            return Optional.empty();
+        }
+        if (numerator == Long.MIN_VALUE) {
+            return toBigRational().nthRootExact(n).map(BigRational::toLongRational);
+        }
+        final var numeratorRoot = Longs.exactRoot(Math.abs(numerator), n);
+        if (numeratorRoot.isEmpty()) {
+            return Optional.empty();
+        }
+        final var denominatorRoot = Longs.exactRoot(denominator, n);
+        if (denominatorRoot.isEmpty()) {
+            return Optional.empty();
+        }
+        final var root = numeratorRoot.getAsLong();
+        return Optional.of(of(numerator < 0L ? -root : root, denominatorRoot.getAsLong()));
+    }
+
+    @Override
+    public BigDecimal nthRoot(final int n, final MathContext mathContext) {
+        return Roots.root(this, BigInteger.valueOf(numerator), BigInteger.valueOf(denominator), n, mathContext);
+    }
+
     @Override
     public BigDecimal toBigDecimal(final int scale, final RoundingMode roundingMode) {
         requireNonNull(roundingMode, "roundingMode");
@@ -233,16 +536,35 @@ public record LongRational(long numerator, long denominator) implements Rational
         return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), mathContext);
     }
 
+    /**
+     * Returns this as {@link BigRational}
+     *
+     * @return {@link BigRational}
+     */
+    public BigRational toBigRational() {
+        return BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
     /**
      * Compares this to other
      *
      * @return int
-     * @throws ArithmeticException when an arithmetic overflow occurs
      */
     @Override
     public int compareTo(final LongRational other) {
         requireNonNull(other, "other");
-        return Long.compare(
-                Math.multiplyExact(numerator, other.denominator), Math.multiplyExact(other.numerator, denominator));
+        return Longs.compareProducts(numerator, other.denominator, other.numerator, denominator);
+    }
+
+    /**
+     * Compares this to other without converting this to {@link BigRational}
+     *
+     * @param other other
+     * @return int
+     * @throws NullPointerException when other is null
+     */
+    public int compareTo(final BigRational other) {
+        requireNonNull(other, "other");
+        return -other.compareTo(this);
     }
 }
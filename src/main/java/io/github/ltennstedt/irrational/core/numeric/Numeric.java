@@ -1,11 +1,14 @@
 package io.github.ltennstedt.irrational.core.numeric;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Base class for numbers
  *
  * @param <N> type of the number
  */
-public sealed interface Numeric<N extends Numeric<N>> permits Rational {
+public sealed interface Numeric<N extends Numeric<N>>
+        permits Rational, LongDecimal, LongGaussianInteger, LongGaussianRational {
     /**
      * Indicates if this is invertible
      *
@@ -93,6 +96,22 @@ public sealed interface Numeric<N extends Numeric<N>> permits Rational {
      */
     N multiply(N multiplier);
 
+    /**
+     * Returns the product of this and the multiplier plus the summand
+     *
+     * <p>Implementations compute the result without creating the intermediate product where possible.
+     *
+     * @param multiplier multiplier
+     * @param summand summand
+     * @return this * multiplier + summand
+     * @throws NullPointerException when one of the arguments is null
+     */
+    default N multiplyAdd(final N multiplier, final N summand) {
+        requireNonNull(multiplier, "multiplier");
+        requireNonNull(summand, "summand");
+        return multiply(multiplier).add(summand);
+    }
+
     /**
      * Returns the quotient of this and the divisor
      *
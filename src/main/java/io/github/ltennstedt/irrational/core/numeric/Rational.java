@@ -3,8 +3,10 @@ package io.github.ltennstedt.irrational.core.numeric;
 import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Optional;
 
 /**
  * Base class for rational numbers
@@ -77,6 +79,76 @@ public sealed interface Rational<R extends Rational<R>> extends Numeric<R>, Comp
         return !isPositive() && !isZero();
     }
 
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     */
+    R add(long summand);
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    R add(BigInteger summand);
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     */
+    R subtract(long subtrahend);
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    R subtract(BigInteger subtrahend);
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     */
+    R multiply(long multiplier);
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    R multiply(BigInteger multiplier);
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    R divide(long divisor);
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    R divide(BigInteger divisor);
+
     /**
      * Returns the signum
      *
@@ -138,6 +210,26 @@ public sealed interface Rational<R extends Rational<R>> extends Numeric<R>, Comp
      */
     R decrement();
 
+    /**
+     * Returns the fractional part, i.e. this minus its integer part, which has the sign of this
+     *
+     * @return fractional part
+     */
+    R fractionalPart();
+
+    /**
+     * Returns an array with the integer part of the quotient of this and the divisor followed by the remainder
+     *
+     * <p>Like {@link BigDecimal#divideAndRemainder(BigDecimal)} the quotient is truncated towards 0, so that the
+     * remainder has the sign of this.
+     *
+     * @param divisor divisor
+     * @return array of quotient and remainder
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is not invertible
+     */
+    R[] divideAndRemainder(R divisor);
+
     /**
      * Returns if this is greater than the other
      *
@@ -162,6 +254,74 @@ public sealed interface Rational<R extends Rational<R>> extends Numeric<R>, Comp
         return compareTo(other) >= 0;
     }
 
+    /**
+     * Indicates if this is the square of a rational number
+     *
+     * <p>Since numerator and denominator are coprime, this is the case if and only if both are squares. Cheap
+     * quadratic residue filters rule out most non-squares before any square root is computed.
+     *
+     * @return boolean
+     */
+    boolean isPerfectSquare();
+
+    /**
+     * Returns the square root when it is rational
+     *
+     * @return {@link Optional} of the square root which is empty when the square root is irrational or this is
+     *     negative
+     * @see #nthRootExact(int)
+     */
+    default Optional<R> sqrtExact() {
+        return nthRootExact(2);
+    }
+
+    /**
+     * Returns the real nth root when it is rational
+     *
+     * <p>Candidates are ruled out by residue filters before the integer roots of numerator and denominator are
+     * computed with Newton's iteration.
+     *
+     * @param n positive degree of the root
+     * @return {@link Optional} of the root which is empty when the root is irrational or n is even and this is
+     *     negative
+     * @throws IllegalArgumentException when n is not positive
+     */
+    Optional<R> nthRootExact(int n);
+
+    /**
+     * Returns the square root rounded according to mathContext
+     *
+     * @param mathContext {@link MathContext}
+     * @return square root
+     * @throws NullPointerException when mathContext is null
+     * @throws IllegalArgumentException when the precision of mathContext is 0
+     * @throws IllegalStateException when this is negative
+     * @throws ArithmeticException when the rounding mode of mathContext is {@link RoundingMode#UNNECESSARY} and the
+     *     square root is not exact
+     * @see #nthRoot(int, MathContext)
+     */
+    default BigDecimal sqrt(final MathContext mathContext) {
+        return nthRoot(2, mathContext);
+    }
+
+    /**
+     * Returns the real nth root rounded according to mathContext
+     *
+     * <p>Unlike {@link BigDecimal#sqrt(MathContext)} the result is correctly rounded in every {@link RoundingMode}
+     * because it is derived from the integer nth root of the scaled quotient, which is computed with Newton's
+     * iteration and precision doubling.
+     *
+     * @param n positive degree of the root
+     * @param mathContext {@link MathContext}
+     * @return nth root
+     * @throws NullPointerException when mathContext is null
+     * @throws IllegalArgumentException when n or the precision of mathContext is not positive
+     * @throws IllegalStateException when n is even and this is negative
+     * @throws ArithmeticException when the rounding mode of mathContext is {@link RoundingMode#UNNECESSARY} and the
+     *     root is not exact
+     */
+    BigDecimal nthRoot(int n, MathContext mathContext);
+
     /**
      * Returns this as {@link BigDecimal}
      *
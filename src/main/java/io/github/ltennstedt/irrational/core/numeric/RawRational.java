@@ -0,0 +1,354 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import java.math.BigInteger;
+import java.util.Comparator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable rational number based on BigInteger whose arithmetic does not reduce
+ *
+ * <p>Intended for pipelines which apply many operations and only need the canonical form at the end. Numerator and
+ * denominator are only divided by their greatest common divisor when one of them exceeds the normalization threshold
+ * or when {@link #normalize()} is called. The denominator is always positive. {@link #equals(Object)} compares values,
+ * so that fractions like 1/2 and 2/4 are equal, and {@link #hashCode()} is the hash code of the normalized value.
+ */
+public final class RawRational implements Comparable<RawRational> {
+    /** Comparator */
+    public static final Comparator<RawRational> COMPARATOR = Comparable::compareTo;
+
+    /** Default bit length of numerator or denominator above which results are normalized */
+    public static final int DEFAULT_NORMALIZATION_THRESHOLD = 1024;
+
+    private final BigInteger numerator;
+    private final BigInteger denominator;
+    private final int normalizationThreshold;
+    private @Nullable BigRational normalized;
+
+    private RawRational(
+            final BigInteger numerator,
+            final BigInteger denominator,
+            final int normalizationThreshold,
+            final @Nullable BigRational normalized) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.normalizationThreshold = normalizationThreshold;
+        this.normalized = normalized;
+    }
+
+    /**
+     * Static factory method with the {@link #DEFAULT_NORMALIZATION_THRESHOLD}
+     *
+     * @param value value
+     * @return RawRational
+     * @throws NullPointerException when value is null
+     */
+    public static RawRational of(final BigRational value) {
+        requireNonNull(value, "value");
+        return new RawRational(value.numerator(), value.denominator(), DEFAULT_NORMALIZATION_THRESHOLD, value);
+    }
+
+    /**
+     * Static factory method with the {@link #DEFAULT_NORMALIZATION_THRESHOLD}
+     *
+     * @param value value
+     * @return RawRational
+     * @throws NullPointerException when value is null
+     */
+    public static RawRational of(final LongRational value) {
+        requireNonNull(value, "value");
+        return new RawRational(
+                BigInteger.valueOf(value.numerator()),
+                BigInteger.valueOf(value.denominator()),
+                DEFAULT_NORMALIZATION_THRESHOLD,
+                null);
+    }
+
+    /**
+     * Static factory method with the {@link #DEFAULT_NORMALIZATION_THRESHOLD} which does not reduce
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @return RawRational
+     * @throws NullPointerException when one of the arguments is null
+     * @throws IllegalArgumentException when denominator is 0
+     */
+    public static RawRational of(final BigInteger numerator, final BigInteger denominator) {
+        requireNonNull(numerator, "numerator");
+        requireNonNull(denominator, "denominator");
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("denominator must not be 0 but was " + denominator);
+        }
+        return denominator.signum() < 0
+                ? new RawRational(numerator.negate(), denominator.negate(), DEFAULT_NORMALIZATION_THRESHOLD, null)
+                : new RawRational(numerator, denominator, DEFAULT_NORMALIZATION_THRESHOLD, null);
+    }
+
+    /**
+     * Returns the numerator which is not necessarily coprime to the denominator
+     *
+     * @return numerator
+     */
+    public BigInteger numerator() {
+        return numerator;
+    }
+
+    /**
+     * Returns the positive denominator which is not necessarily coprime to the numerator
+     *
+     * @return denominator
+     */
+    public BigInteger denominator() {
+        return denominator;
+    }
+
+    /**
+     * Returns the bit length of numerator or denominator above which results are normalized
+     *
+     * @return normalization threshold
+     */
+    public int normalizationThreshold() {
+        return normalizationThreshold;
+    }
+
+    /**
+     * Returns this with another normalization threshold
+     *
+     * @param newNormalizationThreshold bit length of numerator or denominator above which results are normalized
+     * @return RawRational
+     * @throws IllegalArgumentException when newNormalizationThreshold is not positive
+     */
+    public RawRational withNormalizationThreshold(final int newNormalizationThreshold) {
+        if (newNormalizationThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "newNormalizationThreshold must be positive but was " + newNormalizationThreshold);
+        }
+        return new RawRational(numerator, denominator, newNormalizationThreshold, normalized);
+    }
+
+    /**
+     * Returns the larger bit length of numerator and denominator, i.e. how far this has grown without reduction
+     *
+     * @return bit length
+     */
+    public int bitLength() {
+        return Math.max(numerator.bitLength(), denominator.bitLength());
+    }
+
+    /**
+     * Returns the canonical form of this
+     *
+     * <p>The result is computed once and cached.
+     *
+     * @return {@link BigRational}
+     */
+    public BigRational normalize() {
+        var result = normalized;
+        if (result == null) {
+            result = BigRational.of(numerator, denominator);
+            normalized = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns if this is 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return numerator.signum() == 0;
+    }
+
+    /**
+     * Returns the signum
+     *
+     * @return signum
+     */
+    public int signum() {
+        return numerator.signum();
+    }
+
+    /**
+     * Returns the negated value
+     *
+     * @return negated value
+     */
+    public RawRational negate() {
+        final var value = normalized;
+        return new RawRational(
+                numerator.negate(), denominator, normalizationThreshold, value == null ? null : value.negate());
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public RawRational add(final RawRational summand) {
+        requireNonNull(summand, "summand");
+        return add(summand.numerator, summand.denominator);
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public RawRational add(final BigRational summand) {
+        requireNonNull(summand, "summand");
+        return add(summand.numerator(), summand.denominator());
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public RawRational subtract(final RawRational subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return add(subtrahend.numerator.negate(), subtrahend.denominator);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public RawRational subtract(final BigRational subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return add(subtrahend.numerator().negate(), subtrahend.denominator());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public RawRational multiply(final RawRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return create(numerator.multiply(multiplier.numerator), denominator.multiply(multiplier.denominator));
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public RawRational multiply(final BigRational multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        return create(numerator.multiply(multiplier.numerator()), denominator.multiply(multiplier.denominator()));
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    public RawRational divide(final RawRational divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isZero()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        return divide(divisor.numerator, divisor.denominator);
+    }
+
+    /**
+     * Returns the quotient of this and the divisor
+     *
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    public RawRational divide(final BigRational divisor) {
+        requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but was " + divisor);
+        }
+        return divide(divisor.numerator(), divisor.denominator());
+    }
+
+    /**
+     * Compares this to other by cross multiplication without normalizing
+     *
+     * @return int
+     */
+    @Override
+    public int compareTo(final RawRational other) {
+        requireNonNull(other, "other");
+        return numerator.multiply(other.denominator).compareTo(denominator.multiply(other.numerator));
+    }
+
+    /**
+     * Returns if obj is a RawRational with the same value
+     *
+     * <p>Values are compared by cross multiplication, so neither this nor obj is normalized.
+     */
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj
+                || obj instanceof RawRational other
+                        && numerator.signum() == other.numerator.signum()
+                        && numerator.multiply(other.denominator).equals(denominator.multiply(other.numerator));
+    }
+
+    /** Returns the hash code of the normalized value */
+    @Override
+    public int hashCode() {
+        return normalize().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RawRational[numerator=" + numerator + ", denominator=" + denominator + "]";
+    }
+
+    private RawRational add(final BigInteger otherNumerator, final BigInteger otherDenominator) {
+        if (denominator.equals(otherDenominator)) {
+            return create(numerator.add(otherNumerator), denominator);
+        }
+        return create(
+                numerator.multiply(otherDenominator).add(otherNumerator.multiply(denominator)),
+                denominator.multiply(otherDenominator));
+    }
+
+    private RawRational divide(final BigInteger otherNumerator, final BigInteger otherDenominator) {
+        final var resultNumerator = numerator.multiply(otherDenominator);
+        final var resultDenominator = denominator.multiply(otherNumerator);
+        return resultDenominator.signum() < 0
+                ? create(resultNumerator.negate(), resultDenominator.negate())
+                : create(resultNumerator, resultDenominator);
+    }
+
+    /**
+     * Creates a RawRational with the normalization threshold of this and normalizes it when numerator or denominator
+     * exceed the threshold
+     */
+    private RawRational create(final BigInteger resultNumerator, final BigInteger resultDenominator) {
+        if (resultNumerator.bitLength() <= normalizationThreshold
+                && resultDenominator.bitLength() <= normalizationThreshold) {
+            return new RawRational(resultNumerator, resultDenominator, normalizationThreshold, null);
+        }
+        final var gcd = BigIntegers.gcd(resultNumerator, resultDenominator);
+        final var value = BigRational.ofCoprime(resultNumerator.divide(gcd), resultDenominator.divide(gcd));
+        return new RawRational(value.numerator(), value.denominator(), normalizationThreshold, value);
+    }
+}
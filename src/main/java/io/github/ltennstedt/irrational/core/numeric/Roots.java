@@ -0,0 +1,80 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/** Roots of rational numbers */
+final class Roots {
+    private static final double LOG10_2 = Math.log10(2D);
+
+    private Roots() {}
+
+    /**
+     * Checks the degree of a root
+     *
+     * @param n degree of the root
+     * @throws IllegalArgumentException when n is not positive
+     */
+    static void checkDegree(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive but was " + n);
+        }
+    }
+
+    /**
+     * Returns the nth root of numerator / denominator rounded according to mathContext
+     *
+     * <p>The quotient is scaled by 10^(nk) so that the integer nth root of its integer part has at least one digit
+     * more than the precision. Since floor(root(floor(y))) = floor(root(y)), that root is the truncated decimal root
+     * with k digits after the point. When the root is not exact a 1 is appended as sticky digit, so that rounding it
+     * to the precision rounds the exact root correctly in every {@link java.math.RoundingMode}.
+     *
+     * @param radicand radicand
+     * @param numerator numerator of the radicand
+     * @param denominator positive denominator of the radicand
+     * @param n degree of the root
+     * @param mathContext {@link MathContext}
+     * @return root
+     * @throws NullPointerException when mathContext is null
+     * @throws IllegalArgumentException when n or the precision of mathContext is not positive
+     * @throws IllegalStateException when n is even and the radicand is negative
+     * @throws ArithmeticException when the rounding mode of mathContext is
+     *     {@link java.math.RoundingMode#UNNECESSARY} and the root is not exact
+     */
+    static BigDecimal root(
+            final Rational<?> radicand,
+            final BigInteger numerator,
+            final BigInteger denominator,
+            final int n,
+            final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkDegree(n);
+        if (mathContext.getPrecision() == 0) {
+            throw new IllegalArgumentException("mathContext must have a positive precision but had precision 0");
+        }
+        if (numerator.signum() < 0 && n % 2 == 0) {
+            throw new IllegalStateException("this must not be negative but was " + radicand);
+        }
+        if (numerator.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        final var magnitude = numerator.abs();
+        final var bits = magnitude.bitLength() - denominator.bitLength() - 1;
+        final var scale = Math.toIntExact(mathContext.getPrecision() + 1L - (long) Math.floor(bits * LOG10_2 / n));
+        final var exponent = Math.multiplyExact(n, scale);
+        final var quotient = exponent >= 0
+                ? magnitude.multiply(BigInteger.TEN.pow(exponent)).divideAndRemainder(denominator)
+                : magnitude.divideAndRemainder(denominator.multiply(BigInteger.TEN.pow(-exponent)));
+        final var root = BigIntegers.root(quotient[0], n);
+        final var signed = numerator.signum() < 0 ? root.negate() : root;
+        if (quotient[1].signum() == 0 && root.pow(n).equals(quotient[0])) {
+            return new BigDecimal(signed, scale).stripTrailingZeros().round(mathContext);
+        }
+        final var sticky = signed.multiply(BigInteger.TEN).add(BigInteger.valueOf(signed.signum()));
+        return new BigDecimal(sticky, scale + 1).round(mathContext);
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import java.math.RoundingMode;
+
+/** Rounding of truncated integer quotients */
+final class Roundings {
+    private Roundings() {}
+
+    /**
+     * Indicates if the truncated quotient of a division with a nonzero remainder must be rounded away from 0
+     *
+     * @param roundingMode {@link RoundingMode}
+     * @param signum signum of the exact quotient
+     * @param half comparison of twice the absolute remainder with the absolute divisor
+     * @param odd if the truncated quotient is odd
+     * @return boolean
+     * @throws ArithmeticException when roundingMode is {@link RoundingMode#UNNECESSARY}
+     */
+    static boolean isAwayFromZero(
+            final RoundingMode roundingMode, final int signum, final int half, final boolean odd) {
+        return switch (roundingMode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> signum > 0;
+            case FLOOR -> signum < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || half == 0 && odd;
+            case UNNECESSARY ->
+                throw new ArithmeticException("roundingMode must not be UNNECESSARY when rounding is necessary");
+        };
+    }
+
+    /**
+     * Returns the quotient of dividend and divisor rounded to an integer
+     *
+     * @param dividend dividend
+     * @param divisor divisor which is not 0
+     * @param roundingMode {@link RoundingMode}
+     * @return rounded quotient
+     * @throws ArithmeticException when an arithmetic overflow occurs or roundingMode is
+     *     {@link RoundingMode#UNNECESSARY} and rounding is necessary
+     */
+    static long divide(final long dividend, final long divisor, final RoundingMode roundingMode) {
+        final var quotient = divisor == -1L ? Math.negateExact(dividend) : dividend / divisor;
+        final var remainder = dividend % divisor;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        final var signum = Long.signum(dividend) * Long.signum(divisor);
+        final var half = Long.compareUnsigned(2L * Math.abs(remainder), Math.abs(divisor));
+        return isAwayFromZero(roundingMode, signum, half, (quotient & 1L) != 0L) ? quotient + signum : quotient;
+    }
+}
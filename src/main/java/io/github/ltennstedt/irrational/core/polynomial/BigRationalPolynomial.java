@@ -0,0 +1,467 @@
+package io.github.ltennstedt.irrational.core.polynomial;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable polynomial with coefficients of {@link BigRational}
+ *
+ * <p>The polynomial is stored as integer coefficients over a single positive common denominator which is coprime to
+ * their content, so that arithmetic and evaluation run on {@link BigInteger} and a result is reduced only once. Points
+ * are evaluated with a homogeneous Horner scheme on numerator and denominator of the point, which needs one
+ * greatest common divisor per point instead of one per coefficient. Products of polynomials with at least
+ * {@link #KARATSUBA_THRESHOLD} coefficients use Karatsuba's algorithm. Coefficients are indexed by the power of x.
+ */
+public final class BigRationalPolynomial {
+    /** 0 */
+    public static final BigRationalPolynomial ZERO = new BigRationalPolynomial(new BigInteger[0], BigInteger.ONE);
+
+    /** 1 */
+    public static final BigRationalPolynomial ONE =
+            new BigRationalPolynomial(new BigInteger[] {BigInteger.ONE}, BigInteger.ONE);
+
+    /** x */
+    public static final BigRationalPolynomial X =
+            new BigRationalPolynomial(new BigInteger[] {BigInteger.ZERO, BigInteger.ONE}, BigInteger.ONE);
+
+    /** Minimum number of coefficients of both factors for which the Karatsuba multiplication is used */
+    public static final int KARATSUBA_THRESHOLD = 32;
+
+    private final BigInteger[] coefficients;
+
+    private final BigInteger denominator;
+
+    private BigRationalPolynomial(final BigInteger[] coefficients, final BigInteger denominator) {
+        this.coefficients = coefficients;
+        this.denominator = denominator;
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param coefficients coefficients starting with the constant term
+     * @return BigRationalPolynomial
+     * @throws NullPointerException when coefficients or one of its coefficients is null
+     */
+    public static BigRationalPolynomial of(final BigRational... coefficients) {
+        requireNonNull(coefficients, "coefficients");
+        var lcm = BigInteger.ONE;
+        for (final var coefficient : coefficients) {
+            final var denominator = requireNonNull(coefficient, "coefficient").denominator();
+            lcm = lcm.divide(BigIntegers.gcd(lcm, denominator)).multiply(denominator);
+        }
+        final var integers = new BigInteger[coefficients.length];
+        for (var i = 0; i < integers.length; i++) {
+            final var coefficient = coefficients[i];
+            integers[i] = coefficient.numerator().multiply(lcm.divide(coefficient.denominator()));
+        }
+        return normalized(integers, lcm);
+    }
+
+    /**
+     * Static factory method
+     *
+     * @param coefficients integer coefficients starting with the constant term
+     * @param denominator common denominator
+     * @return BigRationalPolynomial
+     * @throws NullPointerException when one of the arguments or one of the coefficients is null
+     * @throws IllegalArgumentException when denominator is 0
+     */
+    public static BigRationalPolynomial of(final BigInteger[] coefficients, final BigInteger denominator) {
+        requireNonNull(coefficients, "coefficients");
+        requireNonNull(denominator, "denominator");
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("denominator must not be 0 but was " + denominator);
+        }
+        final var copy = coefficients.clone();
+        for (var i = 0; i < copy.length; i++) {
+            copy[i] = requireNonNull(copy[i], "coefficient");
+            if (denominator.signum() < 0) {
+                copy[i] = copy[i].negate();
+            }
+        }
+        return normalized(copy, denominator.abs());
+    }
+
+    /**
+     * Returns the degree, i.e. the highest power of x with a coefficient which is not 0, or -1 for {@link #ZERO}
+     *
+     * @return degree
+     */
+    public int degree() {
+        return coefficients.length - 1;
+    }
+
+    /**
+     * Indicates if this is 0
+     *
+     * @return boolean
+     */
+    public boolean isZero() {
+        return coefficients.length == 0;
+    }
+
+    /**
+     * Returns the coefficient of the power of x
+     *
+     * @param power power
+     * @return coefficient which is 0 above the degree
+     * @throws IllegalArgumentException when power is negative
+     */
+    public BigRational coefficient(final int power) {
+        if (power < 0) {
+            throw new IllegalArgumentException("power must not be negative but was " + power);
+        }
+        return power < coefficients.length ? BigRational.of(coefficients[power], denominator) : BigRational.ZERO;
+    }
+
+    /**
+     * Returns the coefficients starting with the constant term
+     *
+     * @return coefficients
+     */
+    public BigRational[] coefficients() {
+        final var result = new BigRational[coefficients.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = BigRational.of(coefficients[i], denominator);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positive common denominator of the coefficients
+     *
+     * @return denominator
+     */
+    public BigInteger denominator() {
+        return denominator;
+    }
+
+    /**
+     * Returns the negated polynomial
+     *
+     * @return negated polynomial
+     */
+    public BigRationalPolynomial negate() {
+        final var result = new BigInteger[coefficients.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = coefficients[i].negate();
+        }
+        return new BigRationalPolynomial(result, denominator);
+    }
+
+    /**
+     * Returns the sum of this and the summand
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     */
+    public BigRationalPolynomial add(final BigRationalPolynomial summand) {
+        requireNonNull(summand, "summand");
+        return addScaled(summand, BigInteger.ONE);
+    }
+
+    /**
+     * Returns the difference of this and the subtrahend
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     */
+    public BigRationalPolynomial subtract(final BigRationalPolynomial subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        return addScaled(subtrahend, BigInteger.ONE.negate());
+    }
+
+    /**
+     * Returns the product of this and the multiplier
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     */
+    public BigRationalPolynomial multiply(final BigRationalPolynomial multiplier) {
+        requireNonNull(multiplier, "multiplier");
+        if (isZero() || multiplier.isZero()) {
+            return ZERO;
+        }
+        return normalized(
+                multiply(coefficients, multiplier.coefficients), denominator.multiply(multiplier.denominator));
+    }
+
+    /**
+     * Returns the product of this and the scalar
+     *
+     * @param scalar scalar
+     * @return product
+     * @throws NullPointerException when scalar is null
+     */
+    public BigRationalPolynomial multiply(final BigRational scalar) {
+        requireNonNull(scalar, "scalar");
+        if (scalar.isZero()) {
+            return ZERO;
+        }
+        final var result = new BigInteger[coefficients.length];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = coefficients[i].multiply(scalar.numerator());
+        }
+        return normalized(result, denominator.multiply(scalar.denominator()));
+    }
+
+    /**
+     * Returns the products of the integer coefficients of a and b
+     *
+     * <p>When both have at least {@link #KARATSUBA_THRESHOLD} coefficients the longer one is split into chunks of the
+     * length of the shorter one, which are multiplied with Karatsuba's algorithm.
+     *
+     * @param a coefficients which are not empty
+     * @param b coefficients which are not empty
+     * @return coefficients of the product
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    static BigInteger[] multiply(final BigInteger[] a, final BigInteger[] b) {
+        final var longer = a.length >= b.length ? a : b;
+        final var shorter = a.length >= b.length ? b : a;
+        if (shorter.length < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(longer, 0, longer.length, shorter, 0, shorter.length);
+        }
+        final var result = zeros(longer.length + shorter.length - 1);
+        for (var offset = 0; offset < longer.length; offset += shorter.length) {
+            final var length = Math.min(shorter.length, longer.length - offset);
+            final var product = length == shorter.length
+                    ? multiplyKaratsuba(longer, offset, shorter, 0, length)
+                    : multiply(Arrays.copyOfRange(longer, offset, offset + length), shorter);
+            addInto(product, result, offset);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the derivative
+     *
+     * @return derivative
+     */
+    public BigRationalPolynomial derivative() {
+        if (coefficients.length <= 1) {
+            return ZERO;
+        }
+        final var result = new BigInteger[coefficients.length - 1];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = coefficients[i + 1].multiply(BigInteger.valueOf(i + 1L));
+        }
+        return normalized(result, denominator);
+    }
+
+    /**
+     * Returns the value at the point
+     *
+     * @param point point
+     * @return value
+     * @throws NullPointerException when point is null
+     */
+    public BigRational evaluate(final BigRational point) {
+        requireNonNull(point, "point");
+        return evaluateAt(point.numerator(), point.denominator());
+    }
+
+    /**
+     * Returns the value at the point
+     *
+     * @param point point
+     * @return value
+     * @throws NullPointerException when point is null
+     */
+    public BigRational evaluate(final LongRational point) {
+        requireNonNull(point, "point");
+        return evaluateAt(point.numerator(), point.denominator());
+    }
+
+    /**
+     * Returns the values at the points which are packed as pairs of numerator and denominator
+     *
+     * <p>Numerator and denominator of every point need not be coprime and are converted to {@link BigInteger} only
+     * once, and every value is reduced only once.
+     *
+     * @param points numerators at even and denominators at odd indices
+     * @return values
+     * @throws NullPointerException when points is null
+     * @throws IllegalArgumentException when points has an odd length or a denominator is 0
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public BigRational[] evaluate(final long[] points) {
+        requireNonNull(points, "points");
+        if (points.length % 2 != 0) {
+            throw new IllegalArgumentException("points must have an even length but had length " + points.length);
+        }
+        final var result = new BigRational[points.length / 2];
+        for (var i = 0; i < result.length; i++) {
+            final var pointDenominator = points[2 * i + 1];
+            if (pointDenominator == 0L) {
+                throw new IllegalArgumentException("denominator must not be 0 but was 0");
+            }
+            result[i] = evaluateAt(points[2 * i], pointDenominator);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj
+                || obj instanceof BigRationalPolynomial other
+                        && denominator.equals(other.denominator)
+                        && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * denominator.hashCode() + Arrays.hashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        return "BigRationalPolynomial[coefficients=" + Arrays.toString(coefficients) + ", denominator=" + denominator
+                + "]";
+    }
+
+    private BigRational evaluateAt(final long pointNumerator, final long pointDenominator) {
+        if (pointDenominator == 1L) {
+            return evaluateInteger(BigInteger.valueOf(pointNumerator));
+        }
+        return evaluateAt(BigInteger.valueOf(pointNumerator), BigInteger.valueOf(pointDenominator));
+    }
+
+    private BigRational evaluateAt(final BigInteger pointNumerator, final BigInteger pointDenominator) {
+        if (pointDenominator.equals(BigInteger.ONE)) {
+            return evaluateInteger(pointNumerator);
+        }
+        if (coefficients.length == 0) {
+            return BigRational.ZERO;
+        }
+        var numerator = coefficients[coefficients.length - 1];
+        var power = BigInteger.ONE;
+        for (var i = coefficients.length - 2; i >= 0; i--) {
+            power = power.multiply(pointDenominator);
+            numerator = numerator.multiply(pointNumerator).add(coefficients[i].multiply(power));
+        }
+        return BigRational.of(numerator, denominator.multiply(power));
+    }
+
+    private BigRational evaluateInteger(final BigInteger point) {
+        var numerator = BigInteger.ZERO;
+        for (var i = coefficients.length - 1; i >= 0; i--) {
+            numerator = numerator.multiply(point).add(coefficients[i]);
+        }
+        return BigRational.of(numerator, denominator);
+    }
+
+    private BigRationalPolynomial addScaled(final BigRationalPolynomial other, final BigInteger sign) {
+        final var gcd = BigIntegers.gcd(denominator, other.denominator);
+        final var factor = other.denominator.divide(gcd);
+        final var otherFactor = denominator.divide(gcd).multiply(sign);
+        final var result = zeros(Math.max(coefficients.length, other.coefficients.length));
+        for (var i = 0; i < coefficients.length; i++) {
+            result[i] = coefficients[i].multiply(factor);
+        }
+        for (var i = 0; i < other.coefficients.length; i++) {
+            result[i] = result[i].add(other.coefficients[i].multiply(otherFactor));
+        }
+        return normalized(result, denominator.multiply(factor));
+    }
+
+    private static BigInteger[] multiplyKaratsuba(
+            final BigInteger[] a, final int aOffset, final BigInteger[] b, final int bOffset, final int length) {
+        if (length < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(a, aOffset, length, b, bOffset, length);
+        }
+        final var low = length / 2;
+        final var high = length - low;
+        final var lowProduct = multiplyKaratsuba(a, aOffset, b, bOffset, low);
+        final var highProduct = multiplyKaratsuba(a, aOffset + low, b, bOffset + low, high);
+        final var aSum = sumOfHalves(a, aOffset, low, high);
+        final var bSum = sumOfHalves(b, bOffset, low, high);
+        final var middle = multiplyKaratsuba(aSum, 0, bSum, 0, high);
+        for (var i = 0; i < lowProduct.length; i++) {
+            middle[i] = middle[i].subtract(lowProduct[i]);
+        }
+        for (var i = 0; i < highProduct.length; i++) {
+            middle[i] = middle[i].subtract(highProduct[i]);
+        }
+        final var result = zeros(2 * length - 1);
+        System.arraycopy(lowProduct, 0, result, 0, lowProduct.length);
+        System.arraycopy(highProduct, 0, result, 2 * low, highProduct.length);
+        addInto(middle, result, low);
+        return result;
+    }
+
+    private static BigInteger[] sumOfHalves(final BigInteger[] a, final int offset, final int low, final int high) {
+        final var result = new BigInteger[high];
+        for (var i = 0; i < low; i++) {
+            result[i] = a[offset + i].add(a[offset + low + i]);
+        }
+        if (high > low) {
+            result[low] = a[offset + 2 * low];
+        }
+        return result;
+    }
+
+    private static BigInteger[] multiplySchoolbook(
+            final BigInteger[] a,
+            final int aOffset,
+            final int aLength,
+            final BigInteger[] b,
+            final int bOffset,
+            final int bLength) {
+        final var result = zeros(aLength + bLength - 1);
+        for (var i = 0; i < aLength; i++) {
+            final var x = a[aOffset + i];
+            if (x.signum() == 0) {
+                continue;
+            }
+            for (var j = 0; j < bLength; j++) {
+                result[i + j] = result[i + j].add(x.multiply(b[bOffset + j]));
+            }
+        }
+        return result;
+    }
+
+    private static void addInto(final BigInteger[] source, final BigInteger[] target, final int offset) {
+        for (var i = 0; i < source.length; i++) {
+            target[offset + i] = target[offset + i].add(source[i]);
+        }
+    }
+
+    private static BigInteger[] zeros(final int length) {
+        final var result = new BigInteger[length];
+        Arrays.fill(result, BigInteger.ZERO);
+        return result;
+    }
+
+    private static BigRationalPolynomial normalized(final BigInteger[] coefficients, final BigInteger denominator) {
+        var length = coefficients.length;
+        while (length > 0 && coefficients[length - 1].signum() == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return ZERO;
+        }
+        var gcd = denominator;
+        for (var i = 0; i < length && !gcd.equals(BigInteger.ONE); i++) {
+            gcd = BigIntegers.gcd(gcd, coefficients[i]);
+        }
+        final var result = length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length);
+        if (gcd.equals(BigInteger.ONE)) {
+            return new BigRationalPolynomial(result, denominator);
+        }
+        for (var i = 0; i < length; i++) {
+            result[i] = result[i].divide(gcd);
+        }
+        return new BigRationalPolynomial(result, denominator.divide(gcd));
+    }
+}
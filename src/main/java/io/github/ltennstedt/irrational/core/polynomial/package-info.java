@@ -0,0 +1,5 @@
+/** This package provides polynomials */
+@NullMarked
+package io.github.ltennstedt.irrational.core.polynomial;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,622 @@
+package io.github.ltennstedt.irrational.core.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+/** Utilities for BigIntegers */
+public final class BigIntegers {
+    /** Bit length of the smaller operand above which {@link #gcd(BigInteger, BigInteger)} uses the half-GCD */
+    public static final int HALF_GCD_THRESHOLD = 1_048_576;
+
+    /** Bit length of the smaller operand above which {@link #gcd(BigInteger, BigInteger)} uses Lehmer's algorithm */
+    public static final int LEHMER_GCD_THRESHOLD = 64;
+
+    /** Bit length below which the half-GCD reduces with Lehmer and single Euclidean steps */
+    private static final int HALF_GCD_BASE = 8_192;
+
+    /** Number of leading bits which Lehmer's algorithm simulates the Euclidean algorithm on */
+    private static final int LEHMER_BITS = 62;
+
+    /** Bound of the cofactors of Lehmer's algorithm so that two products and a carry fit into long */
+    private static final long LEHMER_COFACTOR_BOUND = 1L << 30;
+
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    private static final BigInteger SQUARE_FILTER_MODULUS = BigInteger.valueOf(Longs.SQUARE_FILTER_MODULUS);
+
+    /** No arguments constructor */
+    private BigIntegers() {}
+
+    /**
+     * Returns the non-negative greatest common divisor
+     *
+     * <p>Up to {@link #LEHMER_GCD_THRESHOLD} this delegates to {@link BigInteger#gcd(BigInteger)}. Up to
+     * {@link #HALF_GCD_THRESHOLD} it uses Lehmer's algorithm with double-digit steps on int arrays, which simulates the
+     * Euclidean algorithm on the leading 62 bits and applies about 30 bits of quotients at once without allocating
+     * intermediate BigIntegers. Above it the operands are reduced with a recursive half-GCD in the style of Schönhage
+     * and Möller, which only works on the most significant halves and combines the quotients into 2x2 matrices, so
+     * that the running time is dominated by multiplication.
+     *
+     * @param a a
+     * @param b b
+     * @return greatest common divisor
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public static BigInteger gcd(final BigInteger a, final BigInteger b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        var x = a.abs();
+        var y = b.abs();
+        if (x.compareTo(y) < 0) {
+            final var t = x;
+            x = y;
+            y = t;
+        }
+        while (y.bitLength() > HALF_GCD_THRESHOLD) {
+            if (x.bitLength() - y.bitLength() > HALF_GCD_BASE) {
+                final var remainder = x.mod(y);
+                x = y;
+                y = remainder;
+                continue;
+            }
+            final var reduced = Matrix.halfGcd(x, y).reduce(x, y).normalized();
+            x = reduced.a;
+            y = reduced.b;
+            if (y.signum() == 0) {
+                return x;
+            }
+            final var remainder = x.mod(y);
+            x = y;
+            y = remainder;
+        }
+        return y.bitLength() > LEHMER_GCD_THRESHOLD ? lehmerGcd(x, y) : x.gcd(y);
+    }
+
+    /**
+     * Returns a well distributed hash of a and b
+     *
+     * <p>When both fit into long this is {@link Longs#hash(long, long)} of their values, which does not walk the
+     * magnitudes. Otherwise the hash codes and bit lengths of a and b are mixed.
+     *
+     * @param a a
+     * @param b b
+     * @return hash
+     * @throws NullPointerException when one of the arguments is null
+     */
+    public static long hash(final BigInteger a, final BigInteger b) {
+        requireNonNull(a, "a");
+        requireNonNull(b, "b");
+        if (a.bitLength() < Long.SIZE && b.bitLength() < Long.SIZE) {
+            return Longs.hash(a.longValue(), b.longValue());
+        }
+        return Longs.hash(
+                (long) a.hashCode() << Integer.SIZE | b.hashCode() & INT_MASK,
+                (long) a.bitLength() << Integer.SIZE | b.bitLength());
+    }
+
+    /**
+     * Returns the integer square root, i.e. the largest BigInteger whose square is less than or equal to value
+     *
+     * @param value non-negative value
+     * @return integer square root
+     * @throws NullPointerException when value is null
+     * @throws IllegalArgumentException when value is negative
+     * @see #root(BigInteger, int)
+     */
+    public static BigInteger sqrt(final BigInteger value) {
+        return root(value, 2);
+    }
+
+    /**
+     * Returns the integer nth root, i.e. the largest BigInteger whose nth power is less than or equal to value
+     *
+     * <p>The root is computed with precision doubling: the root of the leading half of the bits is shifted into an
+     * upper bound of the root, from which Newton's iteration converges in about two steps. Thus the running time is
+     * dominated by a few divisions at full precision instead of one division per doubling of the correct bits.
+     *
+     * @param value non-negative value
+     * @param n positive degree of the root
+     * @return integer nth root
+     * @throws NullPointerException when value is null
+     * @throws IllegalArgumentException when value is negative or n is not positive
+     */
+    public static BigInteger root(final BigInteger value, final int n) {
+        requireNonNull(value, "value");
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("value must not be negative but was " + value);
+        }
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive but was " + n);
+        }
+        return n == 1 ? value : newtonRoot(value, n);
+    }
+
+    /**
+     * Indicates if value is the square of a BigInteger
+     *
+     * <p>Residues modulo 64, 63, 65 and 11 rule out all but about 0.4 % of the non-squares with a single division by
+     * a small number before the square root is computed.
+     *
+     * @param value value
+     * @return boolean
+     * @throws NullPointerException when value is null
+     */
+    public static boolean isPerfectSquare(final BigInteger value) {
+        requireNonNull(value, "value");
+        if (value.bitLength() < Long.SIZE) {
+            return Longs.isPerfectSquare(value.longValue());
+        }
+        if (value.signum() < 0
+                || !Longs.isSquareResidue(value.longValue(), value.mod(SQUARE_FILTER_MODULUS).longValue())) {
+            return false;
+        }
+        final var root = newtonRoot(value, 2);
+        return root.multiply(root).equals(value);
+    }
+
+    /**
+     * Returns the nth root of value when it is a BigInteger
+     *
+     * <p>Candidates are ruled out by the trailing zeros, by the quadratic residue filter of
+     * {@link #isPerfectSquare(BigInteger)} when n is even and by nth power residues modulo small primes before the
+     * root is computed.
+     *
+     * @param value non-negative value
+     * @param n positive degree of the root
+     * @return {@link Optional} of the root which is empty when the root is irrational
+     * @throws NullPointerException when value is null
+     * @throws IllegalArgumentException when value is negative or n is not positive
+     */
+    public static Optional<BigInteger> exactRoot(final BigInteger value, final int n) {
+        requireNonNull(value, "value");
+        if (value.bitLength() < Long.SIZE) {
+            final var root = Longs.exactRoot(value.longValue(), n);
+            return root.isPresent() ? Optional.of(BigInteger.valueOf(root.getAsLong())) : Optional.empty();
+        }
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("value must not be negative but was " + value);
+        }
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive but was " + n);
+        }
+        if (n == 1) {
+            return Optional.of(value);
+        }
+        if (value.getLowestSetBit() % n != 0
+                || n % 2 == 0
+                        && !Longs.isSquareResidue(value.longValue(), value.mod(SQUARE_FILTER_MODULUS).longValue())) {
+            return Optional.empty();
+        }
+        final var primes = Longs.powerFilterPrimes(n);
+        final var residue = value.mod(BigInteger.valueOf(Longs.product(primes))).longValue();
+        if (!Longs.isPowerResidue(residue, primes, n)) {
+            return Optional.empty();
+        }
+        final var root = newtonRoot(value, n);
+        return root.pow(n).equals(value) ? Optional.of(root) : Optional.empty();
+    }
+
+    /**
+     * Returns the greatest common divisor of a >= b > 0 with Lehmer's algorithm
+     *
+     * @param a a
+     * @param b b
+     * @return greatest common divisor
+     */
+    private static BigInteger lehmerGcd(final BigInteger a, final BigInteger b) {
+        final var capacity = (a.bitLength() + 32) / 32;
+        var u = Magnitude.of(a, capacity);
+        var v = Magnitude.of(b, capacity);
+        var t = new Magnitude(new int[capacity], 0);
+        var w = new Magnitude(new int[capacity], 0);
+        final var cofactors = new long[4];
+        while (v.length > 2) {
+            final var shift = u.bitLength() - LEHMER_BITS;
+            if (!cofactors(u.bits(shift), v.bits(shift), cofactors)) {
+                final var remainder = u.toBigInteger().mod(v.toBigInteger());
+                u = v;
+                v = Magnitude.of(remainder, capacity);
+            } else {
+                t.combine(u, v, cofactors[0], cofactors[1]);
+                w.combine(u, v, cofactors[2], cofactors[3]);
+                final var previousU = u;
+                final var previousV = v;
+                u = t;
+                v = w;
+                t = previousU;
+                w = previousV;
+            }
+        }
+        return u.toBigInteger().gcd(v.toBigInteger());
+    }
+
+    /**
+     * Returns the integer nth root of value >= 0 for n >= 2 with precision doubling
+     *
+     * <p>With k = max(1, bitLength / 2n) and s the root of value / 2^(nk), (s + 1) * 2^k is an upper bound of the root
+     * with about half of the bits correct. Newton's iteration r' = ((n - 1) r + value / r^(n - 1)) / n decreases
+     * monotonically from an upper bound until it reaches the root.
+     *
+     * @param value value
+     * @param n degree of the root
+     * @return integer nth root
+     */
+    private static BigInteger newtonRoot(final BigInteger value, final int n) {
+        final var bitLength = value.bitLength();
+        if (bitLength < Long.SIZE) {
+            return BigInteger.valueOf(Longs.root(value.longValue(), n));
+        }
+        if (bitLength <= n) {
+            return BigInteger.ONE;
+        }
+        final var shift = Math.max(1, bitLength / (2 * n));
+        var root = newtonRoot(value.shiftRight(shift * n), n).add(BigInteger.ONE).shiftLeft(shift);
+        var next = newtonStep(value, n, root);
+        while (next.compareTo(root) < 0) {
+            root = next;
+            next = newtonStep(value, n, root);
+        }
+        return root;
+    }
+
+    private static BigInteger newtonStep(final BigInteger value, final int n, final BigInteger root) {
+        if (n == 2) {
+            return root.add(value.divide(root)).shiftRight(1);
+        }
+        return root.multiply(BigInteger.valueOf(n - 1L))
+                .add(value.divide(root.pow(n - 1)))
+                .divide(BigInteger.valueOf(n));
+    }
+
+    /**
+     * Simulates the Euclidean algorithm on the leading bits x >= y of two numbers u >= v
+     *
+     * <p>Only quotients which are the same for both bounds of the truncated numbers are taken, so that the cofactors
+     * [[A, B], [C, D]] map (u, v) to the Euclidean pair (A * u + B * v, C * u + D * v). The absolute values of the
+     * cofactors stay below 2^30.
+     *
+     * @param x leading bits of u
+     * @param y leading bits of v
+     * @param cofactors array which receives A, B, C and D
+     * @return if at least one quotient was taken
+     */
+    private static boolean cofactors(final long x, final long y, final long[] cofactors) {
+        var leadingU = x;
+        var leadingV = y;
+        var cofactorA = 1L;
+        var cofactorB = 0L;
+        var cofactorC = 0L;
+        var cofactorD = 1L;
+        while (leadingV + cofactorC != 0L && leadingV + cofactorD != 0L) {
+            final var quotient = (leadingU + cofactorA) / (leadingV + cofactorC);
+            if (quotient != (leadingU + cofactorB) / (leadingV + cofactorD)) {
+                break;
+            }
+            final var nextC = cofactorA - quotient * cofactorC;
+            final var nextD = cofactorB - quotient * cofactorD;
+            if (Math.abs(nextC) >= LEHMER_COFACTOR_BOUND || Math.abs(nextD) >= LEHMER_COFACTOR_BOUND) {
+                break;
+            }
+            cofactorA = cofactorC;
+            cofactorB = cofactorD;
+            cofactorC = nextC;
+            cofactorD = nextD;
+            final var nextV = leadingU - quotient * leadingV;
+            leadingU = leadingV;
+            leadingV = nextV;
+        }
+        cofactors[0] = cofactorA;
+        cofactors[1] = cofactorB;
+        cofactors[2] = cofactorC;
+        cofactors[3] = cofactorD;
+        return cofactorB != 0L;
+    }
+
+    /**
+     * Unimodular matrix M = [[m00, m01], [m10, m11]] with (a, b) = M * (c, d) for the original pair (a, b) and the
+     * reduced pair (c, d)
+     *
+     * @param m00 m00
+     * @param m01 m01
+     * @param m10 m10
+     * @param m11 m11
+     * @param determinant determinant which is 1 or -1
+     */
+    private record Matrix(BigInteger m00, BigInteger m01, BigInteger m10, BigInteger m11, int determinant) {
+        private static final Matrix IDENTITY =
+                new Matrix(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE, 1);
+
+        /**
+         * Returns a matrix which reduces a >= b > 0 until b has at most half the bit length of a
+         *
+         * <p>The matrices of the recursive calls are computed from the most significant bits only, so they may differ
+         * from the exact Euclidean quotients. They are unimodular nevertheless, so the greatest common divisor is
+         * preserved, and single Euclidean steps finish the reduction.
+         */
+        static Matrix halfGcd(final BigInteger a, final BigInteger b) {
+            final var half = a.bitLength() / 2;
+            if (b.bitLength() <= half) {
+                return IDENTITY;
+            }
+            var matrix = IDENTITY;
+            var pair = new Pair(a, b);
+            if (a.bitLength() > HALF_GCD_BASE) {
+                final var first = halfGcd(a.shiftRight(half), b.shiftRight(half));
+                pair = first.reduce(a, b);
+                matrix = pair.matrix(first);
+                pair = pair.normalized();
+                if (pair.b.bitLength() > half) {
+                    final var step = pair.step();
+                    matrix = matrix.multiply(step.quotient);
+                    pair = step.pair;
+                }
+                final var length = pair.a.bitLength();
+                final var shift = Math.max(0, 2 * half - length);
+                if (pair.b.bitLength() > half && length - shift < a.bitLength()) {
+                    final var second = halfGcd(pair.a.shiftRight(shift), pair.b.shiftRight(shift));
+                    final var reduced = second.reduce(pair.a, pair.b);
+                    matrix = matrix.multiply(reduced.matrix(second));
+                    pair = reduced.normalized();
+                }
+            }
+            final var cofactors = new long[4];
+            while (pair.b.bitLength() > half + LEHMER_BITS) {
+                final var shift = pair.a.bitLength() - LEHMER_BITS;
+                if (!cofactors(
+                        pair.a.shiftRight(shift).longValue(), pair.b.shiftRight(shift).longValue(), cofactors)) {
+                    break;
+                }
+                matrix = matrix.multiplyInverse(cofactors);
+                pair = pair.combine(cofactors);
+            }
+            while (pair.b.signum() != 0 && pair.b.bitLength() > half) {
+                final var step = pair.step();
+                matrix = matrix.multiply(step.quotient);
+                pair = step.pair;
+            }
+            return matrix;
+        }
+
+        /**
+         * Returns M^-1 * (a, b) whose elements may be negative or unordered
+         *
+         * @param a a
+         * @param b b
+         * @return reduced pair
+         */
+        Pair reduce(final BigInteger a, final BigInteger b) {
+            if (this == IDENTITY) {
+                return new Pair(a, b);
+            }
+            var c = m11.multiply(a).subtract(m01.multiply(b));
+            var d = m00.multiply(b).subtract(m10.multiply(a));
+            if (determinant < 0) {
+                c = c.negate();
+                d = d.negate();
+            }
+            return new Pair(c, d);
+        }
+
+        /**
+         * Returns this * [[quotient, 1], [1, 0]]
+         *
+         * @param quotient quotient
+         * @return product
+         */
+        Matrix multiply(final BigInteger quotient) {
+            return new Matrix(
+                    m00.multiply(quotient).add(m01),
+                    m00,
+                    m10.multiply(quotient).add(m11),
+                    m10,
+                    -determinant);
+        }
+
+        /**
+         * Returns this * [[A, B], [C, D]]^-1 for unimodular cofactors
+         *
+         * @param cofactors A, B, C and D
+         * @return product
+         */
+        Matrix multiplyInverse(final long[] cofactors) {
+            final var determinant = cofactors[0] * cofactors[3] - cofactors[1] * cofactors[2];
+            final var a = BigInteger.valueOf(determinant * cofactors[3]);
+            final var b = BigInteger.valueOf(-determinant * cofactors[1]);
+            final var c = BigInteger.valueOf(-determinant * cofactors[2]);
+            final var d = BigInteger.valueOf(determinant * cofactors[0]);
+            return new Matrix(
+                    m00.multiply(a).add(m01.multiply(c)),
+                    m00.multiply(b).add(m01.multiply(d)),
+                    m10.multiply(a).add(m11.multiply(c)),
+                    m10.multiply(b).add(m11.multiply(d)),
+                    this.determinant * (int) determinant);
+        }
+
+        Matrix multiply(final Matrix other) {
+            if (other == IDENTITY) {
+                return this;
+            }
+            if (this == IDENTITY) {
+                return other;
+            }
+            return new Matrix(
+                    m00.multiply(other.m00).add(m01.multiply(other.m10)),
+                    m00.multiply(other.m01).add(m01.multiply(other.m11)),
+                    m10.multiply(other.m00).add(m11.multiply(other.m10)),
+                    m10.multiply(other.m01).add(m11.multiply(other.m11)),
+                    determinant * other.determinant);
+        }
+
+        Matrix negateColumn0() {
+            return new Matrix(m00.negate(), m01, m10.negate(), m11, -determinant);
+        }
+
+        Matrix negateColumn1() {
+            return new Matrix(m00, m01.negate(), m10, m11.negate(), -determinant);
+        }
+
+        Matrix swapColumns() {
+            return new Matrix(m01, m00, m11, m10, -determinant);
+        }
+    }
+
+    /**
+     * Pair of a reduced by matrix with possibly negative or unordered elements
+     *
+     * @param a a
+     * @param b b
+     */
+    private record Pair(BigInteger a, BigInteger b) {
+        /**
+         * Returns the matrix for the normalized pair
+         *
+         * @param matrix matrix which reduced to this
+         * @return matrix with the columns adjusted like {@link #normalized()}
+         */
+        Matrix matrix(final Matrix matrix) {
+            var result = matrix;
+            if (a.signum() < 0) {
+                result = result.negateColumn0();
+            }
+            if (b.signum() < 0) {
+                result = result.negateColumn1();
+            }
+            if (a.abs().compareTo(b.abs()) < 0) {
+                result = result.swapColumns();
+            }
+            return result;
+        }
+
+        /**
+         * Returns the pair with non-negative elements and a >= b
+         *
+         * @return normalized pair
+         */
+        Pair normalized() {
+            final var x = a.abs();
+            final var y = b.abs();
+            return x.compareTo(y) < 0 ? new Pair(y, x) : new Pair(x, y);
+        }
+
+        /**
+         * Returns the pair (A * a + B * b, C * a + D * b)
+         *
+         * @param cofactors A, B, C and D
+         * @return pair
+         */
+        Pair combine(final long[] cofactors) {
+            return new Pair(
+                    a.multiply(BigInteger.valueOf(cofactors[0])).add(b.multiply(BigInteger.valueOf(cofactors[1]))),
+                    a.multiply(BigInteger.valueOf(cofactors[2])).add(b.multiply(BigInteger.valueOf(cofactors[3]))));
+        }
+
+        /**
+         * Performs one Euclidean step
+         *
+         * @return quotient and the pair (b, a mod b)
+         */
+        Step step() {
+            final var quotientAndRemainder = a.divideAndRemainder(b);
+            return new Step(quotientAndRemainder[0], new Pair(b, quotientAndRemainder[1]));
+        }
+    }
+
+    /**
+     * Result of one Euclidean step
+     *
+     * @param quotient quotient
+     * @param pair pair after the step
+     */
+    private record Step(BigInteger quotient, Pair pair) {}
+
+    /**
+     * Mutable little-endian magnitude of a non-negative integer in 32-bit words
+     *
+     * <p>The words are unsigned and only the first length words are significant.
+     */
+    private static final class Magnitude {
+        private final int[] words;
+        private int length;
+
+        Magnitude(final int[] words, final int length) {
+            this.words = words;
+            this.length = length;
+        }
+
+        static Magnitude of(final BigInteger value, final int capacity) {
+            final var bytes = value.toByteArray();
+            final var words = new int[Math.max(capacity, (bytes.length + 3) / 4)];
+            for (var i = 0; i < bytes.length; i++) {
+                words[i / 4] |= (bytes[bytes.length - 1 - i] & 0xFF) << (8 * (i % 4));
+            }
+            final var magnitude = new Magnitude(words, words.length);
+            magnitude.normalize();
+            return magnitude;
+        }
+
+        BigInteger toBigInteger() {
+            final var bytes = new byte[4 * length];
+            for (var i = 0; i < length; i++) {
+                final var word = words[i];
+                final var index = bytes.length - 4 * i;
+                bytes[index - 1] = (byte) word;
+                bytes[index - 2] = (byte) (word >>> 8);
+                bytes[index - 3] = (byte) (word >>> 16);
+                bytes[index - 4] = (byte) (word >>> 24);
+            }
+            return new BigInteger(1, bytes);
+        }
+
+        int bitLength() {
+            return length == 0 ? 0 : 32 * length - Integer.numberOfLeadingZeros(words[length - 1]);
+        }
+
+        /**
+         * Returns the 62 bits starting at shift
+         *
+         * @param shift non-negative shift
+         * @return bits
+         */
+        long bits(final int shift) {
+            final var index = shift >>> 5;
+            final var offset = shift & 31;
+            var bits = (word(index) & INT_MASK) >>> offset;
+            bits |= (word(index + 1) & INT_MASK) << (32 - offset);
+            if (offset > 0) {
+                bits |= (word(index + 2) & INT_MASK) << (64 - offset);
+            }
+            return bits & (1L << LEHMER_BITS) - 1L;
+        }
+
+        /**
+         * Sets this to x * u + y * v which must be non-negative
+         *
+         * @param u u
+         * @param v v
+         * @param x cofactor of u
+         * @param y cofactor of v
+         */
+        void combine(final Magnitude u, final Magnitude v, final long x, final long y) {
+            var carry = 0L;
+            for (var i = 0; i < u.length; i++) {
+                final var sum = x * (u.words[i] & INT_MASK) + y * (v.word(i) & INT_MASK) + carry;
+                words[i] = (int) sum;
+                carry = sum >> 32;
+            }
+            length = u.length;
+            normalize();
+        }
+
+        private int word(final int index) {
+            return index < length ? words[index] : 0;
+        }
+
+        private void normalize() {
+            while (length > 0 && words[length - 1] == 0) {
+                length--;
+            }
+        }
+    }
+}
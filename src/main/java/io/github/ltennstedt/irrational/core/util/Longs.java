@@ -1,9 +1,28 @@
 package io.github.ltennstedt.irrational.core.util;
 
+import java.util.Arrays;
+import java.util.OptionalLong;
 import java.util.stream.IntStream;
 
 /** Utilities for longs */
 public final class Longs {
+    /** Product of the moduli 63, 65 and 11 of the quadratic residue filter */
+    static final long SQUARE_FILTER_MODULUS = 45_045L;
+
+    /** Number of primes p = 1 mod n of the nth power residue filter */
+    private static final int POWER_FILTER_PRIMES = 3;
+
+    /** Bound of the primes of the nth power residue filter so that their product fits into long */
+    private static final long POWER_FILTER_PRIME_BOUND = 1L << 16;
+
+    /** Largest long whose square fits into long */
+    private static final long MAX_SQUARE_ROOT = 3_037_000_499L;
+
+    private static final boolean[] SQUARES_MOD_64 = squares(64);
+    private static final boolean[] SQUARES_MOD_63 = squares(63);
+    private static final boolean[] SQUARES_MOD_65 = squares(65);
+    private static final boolean[] SQUARES_MOD_11 = squares(11);
+
     /** No arguments constructor */
     private Longs() {}
 
@@ -43,4 +62,300 @@ public final class Longs {
     public static long gcd(final long a, final long b) {
         return b == 0L ? (a == Long.MIN_VALUE ? 1L << 63 : Math.absExact(a)) : gcd(b, a % b);
     }
+
+    /**
+     * Compares the exact products a * b and c * d without overflow
+     *
+     * @param a a
+     * @param b b
+     * @param c c
+     * @param d d
+     * @return negative value, 0 or positive value when a * b is less than, equal to or greater than c * d
+     */
+    public static int compareProducts(final long a, final long b, final long c, final long d) {
+        final var high = Long.compare(Math.multiplyHigh(a, b), Math.multiplyHigh(c, d));
+        return high == 0 ? Long.compareUnsigned(a * b, c * d) : high;
+    }
+
+    /**
+     * Returns a * b + c * d with 128-bit intermediates, so that the products themselves may overflow
+     *
+     * @param a a
+     * @param b b
+     * @param c c
+     * @param d d
+     * @return a * b + c * d
+     * @throws ArithmeticException when the result does not fit into long
+     */
+    public static long sumOfProductsExact(final long a, final long b, final long c, final long d) {
+        final var low1 = a * b;
+        final var low = low1 + c * d;
+        final var carry = Long.compareUnsigned(low, low1) < 0 ? 1L : 0L;
+        return exact(Math.multiplyHigh(a, b) + Math.multiplyHigh(c, d) + carry, low);
+    }
+
+    /**
+     * Returns a * b - c * d with 128-bit intermediates, so that the products themselves may overflow
+     *
+     * @param a a
+     * @param b b
+     * @param c c
+     * @param d d
+     * @return a * b - c * d
+     * @throws ArithmeticException when the result does not fit into long
+     */
+    public static long differenceOfProductsExact(final long a, final long b, final long c, final long d) {
+        final var low1 = a * b;
+        final var low2 = c * d;
+        final var borrow = Long.compareUnsigned(low1, low2) < 0 ? 1L : 0L;
+        return exact(Math.multiplyHigh(a, b) - Math.multiplyHigh(c, d) - borrow, low1 - low2);
+    }
+
+    /**
+     * Returns a well distributed hash of a and b
+     *
+     * @param a a
+     * @param b b
+     * @return hash
+     * @see #mix(long)
+     */
+    public static long hash(final long a, final long b) {
+        return mix(mix(a) ^ b);
+    }
+
+    /**
+     * Scrambles the bits of value with the 64-bit finalizer of MurmurHash3 so that every input bit affects every
+     * output bit
+     *
+     * @param value value
+     * @return mixed value
+     */
+    public static long mix(final long value) {
+        var mixed = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return mixed ^ (mixed >>> 33);
+    }
+
+    /**
+     * Returns the integer square root, i.e. the largest long whose square is less than or equal to value
+     *
+     * <p>The square root of the nearest double is off by at most 1 and corrected with exact multiplications.
+     *
+     * @param value non-negative value
+     * @return integer square root
+     * @throws IllegalArgumentException when value is negative
+     */
+    public static long sqrt(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value must not be negative but was " + value);
+        }
+        final var root = (long) Math.sqrt(value);
+        if (root > MAX_SQUARE_ROOT || root * root > value) {
+            return root - 1L;
+        }
+        return root < MAX_SQUARE_ROOT && (root + 1L) * (root + 1L) <= value ? root + 1L : root;
+    }
+
+    /**
+     * Returns the integer nth root, i.e. the largest long whose nth power is less than or equal to value
+     *
+     * @param value non-negative value
+     * @param n positive degree of the root
+     * @return integer nth root
+     * @throws IllegalArgumentException when value is negative or n is not positive
+     */
+    public static long root(final long value, final int n) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value must not be negative but was " + value);
+        }
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive but was " + n);
+        }
+        if (n == 1 || value < 2L) {
+            return value;
+        }
+        if (n == 2) {
+            return sqrt(value);
+        }
+        if (n >= Long.SIZE - 1) {
+            return 1L;
+        }
+        var root = (long) Math.pow(value, 1D / n);
+        while (isPowerGreaterThan(root, n, value)) {
+            root--;
+        }
+        while (!isPowerGreaterThan(root + 1L, n, value)) {
+            root++;
+        }
+        return root;
+    }
+
+    /**
+     * Indicates if value is the square of a long
+     *
+     * <p>Residues modulo 64, 63, 65 and 11 rule out all but about 0.4 % of the non-squares before the square root is
+     * computed.
+     *
+     * @param value value
+     * @return boolean
+     */
+    public static boolean isPerfectSquare(final long value) {
+        if (value < 0L || !isSquareResidue(value, value % SQUARE_FILTER_MODULUS)) {
+            return false;
+        }
+        final var root = sqrt(value);
+        return root * root == value;
+    }
+
+    /**
+     * Returns the nth root of value when it is a long
+     *
+     * <p>Candidates are ruled out by the trailing zeros, by the quadratic residue filter of
+     * {@link #isPerfectSquare(long)} when n is even and by nth power residues modulo small primes before the root is
+     * computed.
+     *
+     * @param value non-negative value
+     * @param n positive degree of the root
+     * @return {@link OptionalLong} of the root which is empty when the root is irrational
+     * @throws IllegalArgumentException when value is negative or n is not positive
+     */
+    public static OptionalLong exactRoot(final long value, final int n) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value must not be negative but was " + value);
+        }
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive but was " + n);
+        }
+        if (value < 2L || n == 1) {
+            return OptionalLong.of(value);
+        }
+        if (Long.numberOfTrailingZeros(value) % n != 0
+                || n % 2 == 0 && !isSquareResidue(value, value % SQUARE_FILTER_MODULUS)) {
+            return OptionalLong.empty();
+        }
+        final var primes = powerFilterPrimes(n);
+        if (!isPowerResidue(value % product(primes), primes, n)) {
+            return OptionalLong.empty();
+        }
+        final var root = root(value, n);
+        return isPowerGreaterThan(root, n, value - 1L) ? OptionalLong.of(root) : OptionalLong.empty();
+    }
+
+    /**
+     * Indicates if a number may be a square by its residues
+     *
+     * @param low number or its least significant bits
+     * @param residue non-negative residue of the number modulo {@link #SQUARE_FILTER_MODULUS}
+     * @return false when the number is not a square
+     */
+    static boolean isSquareResidue(final long low, final long residue) {
+        return SQUARES_MOD_64[(int) (low & 63L)]
+                && SQUARES_MOD_63[(int) (residue % 63L)]
+                && SQUARES_MOD_65[(int) (residue % 65L)]
+                && SQUARES_MOD_11[(int) (residue % 11L)];
+    }
+
+    /**
+     * Returns up to {@link #POWER_FILTER_PRIMES} primes p = 1 mod n below {@link #POWER_FILTER_PRIME_BOUND}
+     *
+     * <p>Only a fraction of about 1 / n of the nonzero residues modulo such a prime are nth powers.
+     *
+     * @param n degree of the root which is at least 2
+     * @return primes
+     */
+    static long[] powerFilterPrimes(final int n) {
+        final var primes = new long[POWER_FILTER_PRIMES];
+        var count = 0;
+        for (var p = (long) n + 1L; p < POWER_FILTER_PRIME_BOUND && count < primes.length; p += n) {
+            if (isPrime(p)) {
+                primes[count] = p;
+                count++;
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+
+    /**
+     * Returns the product of primes
+     *
+     * @param primes primes of {@link #powerFilterPrimes(int)}
+     * @return product
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    static long product(final long[] primes) {
+        var product = 1L;
+        for (final var p : primes) {
+            product *= p;
+        }
+        return product;
+    }
+
+    /**
+     * Indicates if a number may be an nth power by its residues modulo primes p = 1 mod n
+     *
+     * <p>By Euler's criterion a residue a which is not 0 is an nth power modulo p if and only if a^((p - 1) / n) = 1
+     * mod p.
+     *
+     * @param residue non-negative residue of the number modulo the product of primes
+     * @param primes primes of {@link #powerFilterPrimes(int)}
+     * @param n degree of the root
+     * @return false when the number is not an nth power
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    static boolean isPowerResidue(final long residue, final long[] primes, final int n) {
+        for (final var p : primes) {
+            final var a = residue % p;
+            if (a != 0L && modPow(a, (p - 1L) / n, p) != 1L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPowerGreaterThan(final long base, final int n, final long limit) {
+        var power = 1L;
+        for (var i = 0; i < n; i++) {
+            if (base != 0L && power > limit / base) {
+                return true;
+            }
+            power *= base;
+        }
+        return power > limit;
+    }
+
+    private static boolean isPrime(final long value) {
+        for (var divisor = 2L; divisor * divisor <= value; divisor++) {
+            if (value % divisor == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long modPow(final long base, final long exponent, final long modulus) {
+        var result = 1L;
+        var b = base;
+        for (var e = exponent; e > 0L; e >>= 1) {
+            if ((e & 1L) != 0L) {
+                result = result * b % modulus;
+            }
+            b = b * b % modulus;
+        }
+        return result;
+    }
+
+    private static boolean[] squares(final int modulus) {
+        final var squares = new boolean[modulus];
+        for (var i = 0; i < modulus; i++) {
+            squares[i * i % modulus] = true;
+        }
+        return squares;
+    }
+
+    private static long exact(final long high, final long low) {
+        if (high != low >> 63) {
+            throw new ArithmeticException("long overflow");
+        }
+        return low;
+    }
 }
@@ -1,8 +1,13 @@
 /** module-info.java */
 module io.github.ltennstedt.irrational {
-    requires org.jspecify;
+    requires transitive org.jspecify;
 
+    exports io.github.ltennstedt.irrational.core.collection;
+    exports io.github.ltennstedt.irrational.core.concurrent;
+    exports io.github.ltennstedt.irrational.core.expression;
+    exports io.github.ltennstedt.irrational.core.linear;
     exports io.github.ltennstedt.irrational.core.numeric;
+    exports io.github.ltennstedt.irrational.core.polynomial;
     exports io.github.ltennstedt.irrational.core.util;
 
     opens io.github.ltennstedt.irrational.core.numeric;
@@ -0,0 +1,224 @@
+package io.github.ltennstedt.irrational.core.internal;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link DoubleKernels} with explicit SIMD lanes of the incubating Vector API
+ *
+ * <p>Only the reduction, the micro-kernel of the matrix multiplication and the kernels on interleaved complex numbers
+ * are overridden, because they need shuffles, register tiles or independent accumulators which the JIT compiler does
+ * not introduce on its own. The plain element-wise kernels are already vectorized by the JIT compiler and were not
+ * faster with explicit lanes. The matrix and complex kernels compute the same operations in the same order as the
+ * scalar implementation, so that their results are identical. Only {@link #dot(double[], int, double[], int, int)}
+ * sums in a different order.
+ */
+final class VectorizedDoubleKernels extends DoubleKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int LANES = SPECIES.length();
+
+    private static final boolean PACKED_COMPLEX = LANES % 2 == 0;
+
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+
+    private static final VectorShuffle<Double> REALS = VectorShuffle.fromOp(SPECIES, i -> i & ~1);
+
+    private static final VectorShuffle<Double> IMAGINARIES = VectorShuffle.fromOp(SPECIES, i -> i | 1);
+
+    private static final DoubleVector NEGATE_REALS = alternatingSigns(-1D);
+
+    private static final DoubleVector NEGATE_IMAGINARIES = alternatingSigns(1D);
+
+    /** No arguments constructor which is invoked by reflection */
+    VectorizedDoubleKernels() {
+        // instantiated by DoubleKernels
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public double dot(final double[] a, final int aOffset, final double[] b, final int bOffset, final int length) {
+        var sum0 = DoubleVector.zero(SPECIES);
+        var sum1 = DoubleVector.zero(SPECIES);
+        final var unrolledEnd = length - length % (2 * LANES);
+        var i = 0;
+        for (; i < unrolledEnd; i += 2 * LANES) {
+            sum0 = sum0.add(DoubleVector.fromArray(SPECIES, a, aOffset + i)
+                    .mul(DoubleVector.fromArray(SPECIES, b, bOffset + i)));
+            sum1 = sum1.add(DoubleVector.fromArray(SPECIES, a, aOffset + i + LANES)
+                    .mul(DoubleVector.fromArray(SPECIES, b, bOffset + i + LANES)));
+        }
+        final var end = SPECIES.loopBound(length);
+        for (; i < end; i += LANES) {
+            sum0 = sum0.add(DoubleVector.fromArray(SPECIES, a, aOffset + i)
+                    .mul(DoubleVector.fromArray(SPECIES, b, bOffset + i)));
+        }
+        var sum = sum0.add(sum1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void multiplyAdd(
+            final double[] a,
+            final int aOffset,
+            final int aStride,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int cStride,
+            final int rows,
+            final int columns,
+            final int depth) {
+        final var tileRows = rows & ~3;
+        final var tileColumns = columns - columns % (2 * LANES);
+        for (var i = 0; i < tileRows; i += 4) {
+            for (var j = 0; j < tileColumns; j += 2 * LANES) {
+                multiplyAddTile(
+                        a,
+                        aOffset + i * aStride,
+                        aStride,
+                        b,
+                        bOffset + j,
+                        bStride,
+                        c,
+                        cOffset + i * cStride + j,
+                        cStride,
+                        depth);
+            }
+        }
+        super.multiplyAdd(
+                a,
+                aOffset,
+                aStride,
+                b,
+                bOffset + tileColumns,
+                bStride,
+                c,
+                cOffset + tileColumns,
+                cStride,
+                tileRows,
+                columns - tileColumns,
+                depth);
+        super.multiplyAdd(
+                a,
+                aOffset + tileRows * aStride,
+                aStride,
+                b,
+                bOffset,
+                bStride,
+                c,
+                cOffset + tileRows * cStride,
+                cStride,
+                rows - tileRows,
+                columns,
+                depth);
+    }
+
+    @Override
+    public void multiplyComplex(final double[] a, final double[] b, final boolean conjugate) {
+        if (!PACKED_COMPLEX) {
+            super.multiplyComplex(a, b, conjugate);
+            return;
+        }
+        final var signs = conjugate ? NEGATE_IMAGINARIES : NEGATE_REALS;
+        final var end = SPECIES.loopBound(a.length);
+        var i = 0;
+        for (; i < end; i += LANES) {
+            final var va = DoubleVector.fromArray(SPECIES, a, i);
+            final var vb = DoubleVector.fromArray(SPECIES, b, i);
+            va.mul(vb.rearrange(REALS))
+                    .add(va.rearrange(SWAP).mul(vb.rearrange(IMAGINARIES)).mul(signs))
+                    .intoArray(a, i);
+        }
+        multiplyComplex(a, b, conjugate, i);
+    }
+
+    @Override
+    public void addScaledComplex(
+            final double scaleReal, final double scaleImaginary, final double[] b, final double[] a) {
+        if (!PACKED_COMPLEX) {
+            super.addScaledComplex(scaleReal, scaleImaginary, b, a);
+            return;
+        }
+        final var end = SPECIES.loopBound(a.length);
+        var i = 0;
+        for (; i < end; i += LANES) {
+            final var vb = DoubleVector.fromArray(SPECIES, b, i);
+            final var product =
+                    vb.mul(scaleReal).add(vb.rearrange(SWAP).mul(scaleImaginary).mul(NEGATE_REALS));
+            DoubleVector.fromArray(SPECIES, a, i).add(product).intoArray(a, i);
+        }
+        addScaledComplex(scaleReal, scaleImaginary, b, a, i);
+    }
+
+    private static void multiplyAddTile(
+            final double[] a,
+            final int aOffset,
+            final int aStride,
+            final double[] b,
+            final int bOffset,
+            final int bStride,
+            final double[] c,
+            final int cOffset,
+            final int cStride,
+            final int depth) {
+        final var c1 = cOffset + cStride;
+        final var c2 = c1 + cStride;
+        final var c3 = c2 + cStride;
+        var c00 = DoubleVector.fromArray(SPECIES, c, cOffset);
+        var c01 = DoubleVector.fromArray(SPECIES, c, cOffset + LANES);
+        var c10 = DoubleVector.fromArray(SPECIES, c, c1);
+        var c11 = DoubleVector.fromArray(SPECIES, c, c1 + LANES);
+        var c20 = DoubleVector.fromArray(SPECIES, c, c2);
+        var c21 = DoubleVector.fromArray(SPECIES, c, c2 + LANES);
+        var c30 = DoubleVector.fromArray(SPECIES, c, c3);
+        var c31 = DoubleVector.fromArray(SPECIES, c, c3 + LANES);
+        final var a1 = aOffset + aStride;
+        final var a2 = a1 + aStride;
+        final var a3 = a2 + aStride;
+        for (var p = 0; p < depth; p++) {
+            final var bRow = bOffset + p * bStride;
+            final var b0 = DoubleVector.fromArray(SPECIES, b, bRow);
+            final var b1 = DoubleVector.fromArray(SPECIES, b, bRow + LANES);
+            final var x0 = a[aOffset + p];
+            c00 = c00.add(b0.mul(x0));
+            c01 = c01.add(b1.mul(x0));
+            final var x1 = a[a1 + p];
+            c10 = c10.add(b0.mul(x1));
+            c11 = c11.add(b1.mul(x1));
+            final var x2 = a[a2 + p];
+            c20 = c20.add(b0.mul(x2));
+            c21 = c21.add(b1.mul(x2));
+            final var x3 = a[a3 + p];
+            c30 = c30.add(b0.mul(x3));
+            c31 = c31.add(b1.mul(x3));
+        }
+        c00.intoArray(c, cOffset);
+        c01.intoArray(c, cOffset + LANES);
+        c10.intoArray(c, c1);
+        c11.intoArray(c, c1 + LANES);
+        c20.intoArray(c, c2);
+        c21.intoArray(c, c2 + LANES);
+        c30.intoArray(c, c3);
+        c31.intoArray(c, c3 + LANES);
+    }
+
+    private static DoubleVector alternatingSigns(final double realSign) {
+        final var signs = new double[LANES];
+        for (var i = 0; i < LANES; i++) {
+            signs[i] = (i & 1) == 0 ? realSign : -realSign;
+        }
+        return DoubleVector.fromArray(SPECIES, signs, 0);
+    }
+}
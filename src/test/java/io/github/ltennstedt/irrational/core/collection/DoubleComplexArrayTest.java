@@ -0,0 +1,160 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.DoubleComplex;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleComplexArrayTest {
+    private final DoubleComplexArray array1 =
+            DoubleComplexArray.of(DoubleComplex.of(3D, 4D), DoubleComplex.of(1D, -2D));
+    private final DoubleComplexArray array2 = DoubleComplexArray.of(DoubleComplex.of(1D, -2D), DoubleComplex.I);
+
+    @Test
+    void constructor_should_throw_exception_when_size_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DoubleComplexArray(-1))
+                .withMessage("size must be between 0 and 1073741823 but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_throw_exception_when_an_element_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DoubleComplexArray.of(DoubleComplex.ONE, null))
+                .withMessage("element")
+                .withNoCause();
+    }
+
+    @Test
+    void wrap_should_throw_exception_when_length_is_odd() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleComplexArray.wrap(new double[3]))
+                .withMessage("interleaved must have an even length but was 3")
+                .withNoCause();
+    }
+
+    @Test
+    void wrap_should_not_copy() {
+        final var interleaved = new double[] {1D, 2D};
+
+        DoubleComplexArray.wrap(interleaved).scale(2D);
+
+        assertThat(interleaved).containsExactly(2D, 4D);
+    }
+
+    @Test
+    void get_should_throw_exception_when_index_is_out_of_bounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> array1.get(2))
+                .withMessage("index must be between 0 and 1 but was 2")
+                .withNoCause();
+    }
+
+    @Test
+    void set_and_get_should_succeed() {
+        array1.set(1, 5D, 6D);
+
+        assertThat(array1.size()).isEqualTo(2);
+        assertThat(array1.get(1)).isEqualTo(DoubleComplex.of(5D, 6D));
+        assertThat(array1.real(0)).isEqualTo(3D);
+        assertThat(array1.imaginary(0)).isEqualTo(4D);
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.multiply(new DoubleComplexArray(3)))
+                .withMessage("other must have size 2 but had size 3")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        array1.multiply(array2);
+
+        assertThat(array1.toInterleavedArray()).containsExactly(11D, -2D, 2D, 1D);
+    }
+
+    @Test
+    void multiply_should_succeed_when_other_is_this() {
+        array1.multiply(array1);
+
+        assertThat(array1.toInterleavedArray()).containsExactly(-7D, 24D, -3D, -4D);
+    }
+
+    @Test
+    void multiplyConjugate_should_succeed() {
+        array1.multiplyConjugate(array1);
+
+        assertThat(array1.toInterleavedArray()).containsExactly(25D, 0D, 5D, 0D);
+    }
+
+    @Test
+    void addScaled_should_succeed() {
+        array1.addScaled(DoubleComplex.of(2D, 1D), array2);
+
+        assertThat(array1.toInterleavedArray()).containsExactly(7D, 1D, 0D, 0D);
+    }
+
+    @Test
+    void bulk_operations_should_match_DoubleComplex() {
+        final var random = new Random(42L);
+        final var size = 1_000;
+        final var a = new DoubleComplexArray(size);
+        final var b = new DoubleComplexArray(size);
+        for (var i = 0; i < size; i++) {
+            a.set(i, random.nextGaussian(), random.nextGaussian());
+            b.set(i, random.nextGaussian(), random.nextGaussian());
+        }
+        final var scale = DoubleComplex.of(0.5D, -1.5D);
+        final var expected = new DoubleComplex[size];
+        for (var i = 0; i < size; i++) {
+            expected[i] = a.get(i).multiply(b.get(i)).add(scale.multiply(b.get(i)));
+        }
+
+        a.multiply(b);
+        a.addScaled(scale, b);
+
+        for (var i = 0; i < size; i++) {
+            assertThat(a.get(i)).isEqualTo(expected[i]);
+        }
+    }
+
+    @Test
+    void norms_should_throw_exception_when_target_is_too_short() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.norms(new double[1]))
+                .withMessage("target must have a length of at least 2 but was 1")
+                .withNoCause();
+    }
+
+    @Test
+    void abs_and_norms_should_succeed() {
+        final var norms = new double[3];
+        final var abs = new double[2];
+
+        array1.norms(norms);
+        array1.abs(abs);
+
+        assertThat(norms).containsExactly(25D, 5D, 0D);
+        assertThat(abs).containsExactly(5D, Math.sqrt(5D));
+    }
+
+    @Test
+    void copy_should_be_independent() {
+        final var copy = array1.copy();
+
+        copy.scale(2D);
+
+        assertThat(array1.get(0)).isEqualTo(DoubleComplex.of(3D, 4D));
+        assertThat(copy.get(0)).isEqualTo(DoubleComplex.of(6D, 8D));
+    }
+}
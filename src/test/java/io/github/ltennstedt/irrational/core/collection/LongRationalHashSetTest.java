@@ -0,0 +1,110 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.HashSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongRationalHashSetTest {
+    @Test
+    void constructor_should_throw_exception_when_expectedSize_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalHashSet(-1))
+                .withMessage("expectedSize must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void contains_should_throw_exception_when_element_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalHashSet().contains(null))
+                .withMessage("element")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_element_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalHashSet().add(null))
+                .withMessage("element")
+                .withNoCause();
+    }
+
+    @Test
+    void remove_should_throw_exception_when_element_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalHashSet().remove(null))
+                .withMessage("element")
+                .withNoCause();
+    }
+
+    @Test
+    void forEach_should_throw_exception_when_action_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalHashSet().forEach(null))
+                .withMessage("action")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        final var set = new LongRationalHashSet();
+        assertThat(set.add(LongRational.of(1L, 2L))).isTrue();
+        assertThat(set.add(LongRational.of(2L, 4L))).isFalse();
+        assertThat(set.contains(LongRational.of(1L, 2L))).isTrue();
+        assertThat(set.contains(LongRational.of(-1L, 2L))).isFalse();
+        assertThat(set.size()).isOne();
+    }
+
+    @Test
+    void remove_should_succeed() {
+        final var set = new LongRationalHashSet();
+        set.add(LongRational.ONE);
+        assertThat(set.remove(LongRational.ZERO)).isFalse();
+        assertThat(set.remove(LongRational.ONE)).isTrue();
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clear_should_succeed() {
+        final var set = new LongRationalHashSet();
+        set.add(LongRational.ONE);
+        set.clear();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(LongRational.ONE)).isFalse();
+    }
+
+    @Test
+    void forEach_should_succeed() {
+        final var set = new LongRationalHashSet();
+        set.add(LongRational.ZERO);
+        set.add(LongRational.ONE);
+        final var elements = new HashSet<LongRational>();
+        set.forEach(elements::add);
+        assertThat(elements).containsExactlyInAnyOrder(LongRational.ZERO, LongRational.ONE);
+    }
+
+    @Test
+    void should_behave_like_HashSet() {
+        final var random = new Random(42L);
+        final var set = new LongRationalHashSet();
+        final var expected = new HashSet<LongRational>();
+        for (var i = 0; i < 20_000; i++) {
+            final var element = LongRational.of(random.nextInt(200) - 100L, random.nextInt(50) + 1L);
+            if (random.nextBoolean()) {
+                assertThat(set.add(element)).isEqualTo(expected.add(element));
+            } else {
+                assertThat(set.remove(element)).isEqualTo(expected.remove(element));
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+        expected.forEach(element -> assertThat(set.contains(element)).isTrue());
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongRationalLongMapTest {
+    @Test
+    void constructor_should_throw_exception_when_expectedSize_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalLongMap(-1))
+                .withMessage("expectedSize must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void get_should_throw_exception_when_key_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalLongMap().get(null))
+                .withMessage("key")
+                .withNoCause();
+    }
+
+    @Test
+    void addTo_should_throw_exception_when_key_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalLongMap().addTo(null, 1L))
+                .withMessage("key")
+                .withNoCause();
+    }
+
+    @Test
+    void addTo_should_throw_exception_when_an_overflow_occurs() {
+        final var map = new LongRationalLongMap();
+        map.put(LongRational.ONE, Long.MAX_VALUE);
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> map.addTo(LongRational.ONE, 1L));
+    }
+
+    @Test
+    void put_should_succeed() {
+        final var map = new LongRationalLongMap();
+        assertThat(map.put(LongRational.of(1L, 2L), 1L)).isTrue();
+        assertThat(map.put(LongRational.of(2L, 4L), 2L)).isFalse();
+        assertThat(map.get(LongRational.of(1L, 2L))).hasValue(2L);
+        assertThat(map.get(LongRational.ONE)).isEmpty();
+        assertThat(map.getOrDefault(LongRational.ONE, 3L)).isEqualTo(3L);
+        assertThat(map.containsKey(LongRational.of(1L, 2L))).isTrue();
+        assertThat(map.size()).isOne();
+    }
+
+    @Test
+    void addTo_should_succeed() {
+        final var map = new LongRationalLongMap();
+        assertThat(map.addTo(LongRational.ONE, 2L)).isEqualTo(2L);
+        assertThat(map.addTo(LongRational.ONE, 3L)).isEqualTo(5L);
+        assertThat(map.size()).isOne();
+    }
+
+    @Test
+    void remove_should_succeed() {
+        final var map = new LongRationalLongMap();
+        map.put(LongRational.ONE, 1L);
+        assertThat(map.remove(LongRational.ZERO)).isFalse();
+        assertThat(map.remove(LongRational.ONE)).isTrue();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clear_should_succeed() {
+        final var map = new LongRationalLongMap();
+        map.put(LongRational.ONE, 1L);
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(LongRational.ONE)).isFalse();
+    }
+
+    @Test
+    void forEach_should_succeed() {
+        final var map = new LongRationalLongMap();
+        map.put(LongRational.ZERO, 1L);
+        map.put(LongRational.ONE, 2L);
+        final var entries = new HashMap<LongRational, Long>();
+        map.forEach(entries::put);
+        assertThat(entries).containsExactlyInAnyOrderEntriesOf(Map.of(LongRational.ZERO, 1L, LongRational.ONE, 2L));
+    }
+
+    @Test
+    void should_behave_like_HashMap() {
+        final var random = new Random(42L);
+        final var map = new LongRationalLongMap();
+        final var expected = new HashMap<LongRational, Long>();
+        for (var i = 0; i < 20_000; i++) {
+            final var key = LongRational.of(random.nextInt(200) - 100L, random.nextInt(50) + 1L);
+            if (random.nextBoolean()) {
+                assertThat(map.addTo(key, i)).isEqualTo(expected.merge(key, (long) i, Long::sum));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        expected.forEach((key, value) -> assertThat(map.get(key)).hasValue(value));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.ltennstedt.irrational.core.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongRationalObjectMapTest {
+    @Test
+    void constructor_should_throw_exception_when_expectedSize_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalObjectMap<String>(-1))
+                .withMessage("expectedSize must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void get_should_throw_exception_when_key_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalObjectMap<String>().get(null))
+                .withMessage("key")
+                .withNoCause();
+    }
+
+    @Test
+    void getOrDefault_should_throw_exception_when_defaultValue_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalObjectMap<String>().getOrDefault(LongRational.ONE, null))
+                .withMessage("defaultValue")
+                .withNoCause();
+    }
+
+    @Test
+    void put_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalObjectMap<String>().put(LongRational.ONE, null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void put_should_succeed() {
+        final var map = new LongRationalObjectMap<String>();
+        assertThat(map.put(LongRational.of(1L, 2L), "a")).isTrue();
+        assertThat(map.put(LongRational.of(2L, 4L), "b")).isFalse();
+        assertThat(map.get(LongRational.of(1L, 2L))).contains("b");
+        assertThat(map.get(LongRational.ONE)).isEmpty();
+        assertThat(map.getOrDefault(LongRational.ONE, "c")).isEqualTo("c");
+        assertThat(map.containsKey(LongRational.of(1L, 2L))).isTrue();
+        assertThat(map.size()).isOne();
+    }
+
+    @Test
+    void remove_should_succeed() {
+        final var map = new LongRationalObjectMap<String>();
+        map.put(LongRational.ONE, "a");
+        assertThat(map.remove(LongRational.ZERO)).isFalse();
+        assertThat(map.remove(LongRational.ONE)).isTrue();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clear_should_succeed() {
+        final var map = new LongRationalObjectMap<String>();
+        map.put(LongRational.ONE, "a");
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(LongRational.ONE)).isFalse();
+    }
+
+    @Test
+    void forEach_should_succeed() {
+        final var map = new LongRationalObjectMap<String>();
+        map.put(LongRational.ZERO, "a");
+        map.put(LongRational.ONE, "b");
+        final var entries = new HashMap<LongRational, String>();
+        map.forEach(entries::put);
+        assertThat(entries).containsExactlyInAnyOrderEntriesOf(Map.of(LongRational.ZERO, "a", LongRational.ONE, "b"));
+    }
+
+    @Test
+    void should_behave_like_HashMap() {
+        final var random = new Random(42L);
+        final var map = new LongRationalObjectMap<Integer>();
+        final var expected = new HashMap<LongRational, Integer>();
+        for (var i = 0; i < 20_000; i++) {
+            final var key = LongRational.of(random.nextInt(200) - 100L, random.nextInt(50) + 1L);
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i) == null);
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        expected.forEach((key, value) -> assertThat(map.get(key)).contains(value));
+    }
+}
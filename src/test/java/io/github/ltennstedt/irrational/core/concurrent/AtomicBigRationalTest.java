@@ -0,0 +1,41 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class AtomicBigRationalTest {
+    @Test
+    void constructor_should_throw_exception_when_initialValue_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicBigRational(null))
+                .withMessage("initialValue")
+                .withNoCause();
+    }
+
+    @Test
+    void constructor_should_initialize_with_ZERO() {
+        assertThat(new AtomicBigRational().get()).isSameAs(BigRational.ZERO);
+    }
+
+    @Test
+    void compareAndSet_should_compare_by_equality() {
+        final var atomic = new AtomicBigRational(BigRational.of(BigInteger.ONE, BigInteger.TWO));
+        assertThat(atomic.compareAndSet(BigRational.of(BigInteger.TWO, BigInteger.valueOf(4L)), BigRational.ONE))
+                .isTrue();
+        assertThat(atomic.get()).isSameAs(BigRational.ONE);
+    }
+
+    @Test
+    void addAndGet_should_succeed() {
+        final var atomic = new AtomicBigRational(BigRational.of(BigInteger.ONE, BigInteger.TWO));
+        assertThat(atomic.addAndGet(BigRational.of(BigInteger.ONE, BigInteger.TWO)))
+                .isEqualTo(BigRational.ONE);
+    }
+}
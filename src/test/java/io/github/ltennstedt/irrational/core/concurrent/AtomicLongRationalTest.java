@@ -0,0 +1,168 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class AtomicLongRationalTest {
+    @Test
+    void constructor_should_throw_exception_when_initialValue_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational(null))
+                .withMessage("initialValue")
+                .withNoCause();
+    }
+
+    @Test
+    void constructor_should_initialize_with_ZERO() {
+        assertThat(new AtomicLongRational().get()).isSameAs(LongRational.ZERO);
+    }
+
+    @Test
+    void set_should_throw_exception_when_newValue_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().set(null))
+                .withMessage("newValue")
+                .withNoCause();
+    }
+
+    @Test
+    void set_should_succeed() {
+        final var atomic = new AtomicLongRational();
+        atomic.set(LongRational.ONE);
+        assertThat(atomic.get()).isSameAs(LongRational.ONE);
+    }
+
+    @Test
+    void getAndSet_should_succeed() {
+        final var atomic = new AtomicLongRational();
+        assertThat(atomic.getAndSet(LongRational.ONE)).isSameAs(LongRational.ZERO);
+        assertThat(atomic.get()).isSameAs(LongRational.ONE);
+    }
+
+    @Test
+    void compareAndSet_should_throw_exception_when_expectedValue_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().compareAndSet(null, LongRational.ONE))
+                .withMessage("expectedValue")
+                .withNoCause();
+    }
+
+    @Test
+    void compareAndSet_should_compare_by_equality() {
+        final var atomic = new AtomicLongRational(LongRational.of(1L, 2L));
+        assertThat(atomic.compareAndSet(LongRational.ONE, LongRational.ZERO)).isFalse();
+        assertThat(atomic.compareAndSet(LongRational.of(2L, 4L), LongRational.ZERO))
+                .isTrue();
+        assertThat(atomic.get()).isSameAs(LongRational.ZERO);
+    }
+
+    @Test
+    void getAndAdd_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().getAndAdd(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void getAndAdd_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(1L, 2L));
+        assertThat(atomic.getAndAdd(LongRational.of(1L, 2L))).isEqualTo(LongRational.of(1L, 2L));
+        assertThat(atomic.get()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void addAndGet_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(1L, 2L));
+        assertThat(atomic.addAndGet(LongRational.of(1L, 3L))).isEqualTo(LongRational.of(5L, 6L));
+    }
+
+    @Test
+    void getAndUpdate_should_throw_exception_when_updateFunction_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().getAndUpdate(null))
+                .withMessage("updateFunction")
+                .withNoCause();
+    }
+
+    @Test
+    void getAndUpdate_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(2L));
+        assertThat(atomic.getAndUpdate(LongRational::invert)).isEqualTo(LongRational.of(2L));
+        assertThat(atomic.get()).isEqualTo(LongRational.of(1L, 2L));
+    }
+
+    @Test
+    void updateAndGet_should_throw_exception_when_updateFunction_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().updateAndGet(null))
+                .withMessage("updateFunction")
+                .withNoCause();
+    }
+
+    @Test
+    void updateAndGet_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(2L));
+        assertThat(atomic.updateAndGet(LongRational::invert)).isEqualTo(LongRational.of(1L, 2L));
+    }
+
+    @Test
+    void getAndAccumulate_should_throw_exception_when_accumulatorFunction_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().getAndAccumulate(LongRational.ONE, null))
+                .withMessage("accumulatorFunction")
+                .withNoCause();
+    }
+
+    @Test
+    void getAndAccumulate_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(2L));
+        assertThat(atomic.getAndAccumulate(LongRational.of(3L), LongRational::multiply))
+                .isEqualTo(LongRational.of(2L));
+        assertThat(atomic.get()).isEqualTo(LongRational.of(6L));
+    }
+
+    @Test
+    void accumulateAndGet_should_throw_exception_when_x_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new AtomicLongRational().accumulateAndGet(null, LongRational::max))
+                .withMessage("x")
+                .withNoCause();
+    }
+
+    @Test
+    void accumulateAndGet_should_succeed() {
+        final var atomic = new AtomicLongRational(LongRational.of(2L));
+        assertThat(atomic.accumulateAndGet(LongRational.of(3L), LongRational::max))
+                .isEqualTo(LongRational.of(3L));
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new AtomicLongRational()).hasToString("LongRational[numerator=0, denominator=1]");
+    }
+
+    @Test
+    void addAndGet_should_be_thread_safe() throws InterruptedException {
+        final var atomic = new AtomicLongRational();
+        final var executor = Executors.newFixedThreadPool(8);
+        for (var thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (var i = 0; i < 1_000; i++) {
+                    atomic.addAndGet(LongRational.of(1L, 4L));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1L, TimeUnit.MINUTES)).isTrue();
+        assertThat(atomic.get()).isEqualTo(LongRational.of(2_000L));
+    }
+}
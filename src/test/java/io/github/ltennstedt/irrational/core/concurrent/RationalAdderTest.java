@@ -0,0 +1,96 @@
+package io.github.ltennstedt.irrational.core.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.math.BigInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class RationalAdderTest {
+    @Test
+    void add_LongRational_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new RationalAdder().add((LongRational) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_BigRational_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new RationalAdder().add((BigRational) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void sum_should_return_ZERO_when_nothing_was_added() {
+        assertThat(new RationalAdder().sum()).isSameAs(LongRational.ZERO);
+    }
+
+    @Test
+    void sum_should_succeed() {
+        final var adder = new RationalAdder();
+        adder.add(LongRational.of(1L, 2L));
+        adder.add(LongRational.of(1L, 3L));
+        adder.add(BigRational.of(BigInteger.ONE, BigInteger.valueOf(6L)));
+        assertThat(adder.sum()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void sum_should_return_BigRational_when_it_does_not_fit_into_long() {
+        final var adder = new RationalAdder();
+        adder.add(LongRational.of(Long.MAX_VALUE));
+        adder.add(LongRational.of(Long.MAX_VALUE));
+        assertThat(adder.sum())
+                .isEqualTo(BigRational.of(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1)));
+    }
+
+    @Test
+    void sum_should_return_LongRational_when_it_fits_again() {
+        final var adder = new RationalAdder();
+        adder.add(LongRational.of(Long.MAX_VALUE));
+        adder.add(LongRational.of(Long.MAX_VALUE));
+        adder.add(LongRational.of(-Long.MAX_VALUE));
+        assertThat(adder.sum()).isEqualTo(LongRational.of(Long.MAX_VALUE));
+    }
+
+    @Test
+    void reset_should_succeed() {
+        final var adder = new RationalAdder();
+        adder.add(LongRational.ONE);
+        adder.reset();
+        assertThat(adder.sum()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        final var adder = new RationalAdder();
+        adder.add(LongRational.ONE);
+        assertThat(adder).hasToString("LongRational[numerator=1, denominator=1]");
+    }
+
+    @Test
+    void add_should_be_thread_safe() throws InterruptedException {
+        final var adder = new RationalAdder();
+        final var executor = Executors.newFixedThreadPool(8);
+        for (var thread = 1; thread <= 8; thread++) {
+            final var summand = LongRational.of(1L, thread);
+            executor.execute(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    adder.add(summand);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1L, TimeUnit.MINUTES)).isTrue();
+        assertThat(adder.sum()).isEqualTo(LongRational.of(761L * 10_000L, 280L));
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.ltennstedt.irrational.core.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class ComputableRealTest {
+    private static final String PI =
+            "3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211707";
+
+    private static final String E =
+            "2.71828182845904523536028747135266249775724709369995957496696762772407663035354759457138217852516643";
+
+    private static final String LN2 =
+            "0.69314718055994530941723212145817656807550013436025525412068000949339362196969471560586332699641869";
+
+    private final BigRational rational1 = BigRational.of(BigInteger.TWO, BigInteger.valueOf(3L));
+    private final BigRational rational2 = BigRational.of(BigInteger.valueOf(-4L), BigInteger.valueOf(5L));
+
+    @Test
+    void of_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> ComputableReal.of(null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void approximate_should_succeed() {
+        final var real = ComputableReal.of(rational1);
+
+        assertThat(real.approximate(0)).isEqualTo(BigInteger.ONE);
+        assertThat(real.approximate(-4)).isEqualTo(BigInteger.valueOf(11L));
+        assertThat(ComputableReal.of(rational2).approximate(-4)).isEqualTo(BigInteger.valueOf(-13L));
+    }
+
+    @Test
+    void approximate_should_derive_coarser_approximations_from_the_cache() {
+        final var real = ComputableReal.of(2L).sqrt();
+        final var fine = real.approximate(-200);
+
+        assertThat(real.approximate(-100)).isEqualTo(ComputableReal.scale(fine, -100));
+    }
+
+    @Test
+    void approximate_should_throw_exception_when_precision_is_out_of_range() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> ComputableReal.ONE.approximate(Integer.MIN_VALUE))
+                .withMessage("precision must be between -268435456 and 268435456 but was -2147483648")
+                .withNoCause();
+    }
+
+    @Test
+    void constants_should_succeed() {
+        assertThat(ComputableReal.PI.toBigDecimal(98).subtract(new BigDecimal(PI)).abs())
+                .isLessThan(BigDecimal.ONE.movePointLeft(98));
+        assertThat(ComputableReal.E.toBigDecimal(98).subtract(new BigDecimal(E)).abs())
+                .isLessThan(BigDecimal.ONE.movePointLeft(98));
+        assertThat(ComputableReal.of(2L).log().toBigDecimal(98).subtract(new BigDecimal(LN2)).abs())
+                .isLessThan(BigDecimal.ONE.movePointLeft(98));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000, 5_000})
+    void sqrt_should_succeed(final int scale) {
+        final var expected = BigDecimal.valueOf(2L).sqrt(new MathContext(scale + 10));
+
+        assertThat(ComputableReal.of(2L).sqrt().toBigDecimal(scale).subtract(expected).abs())
+                .isLessThan(BigDecimal.ONE.movePointLeft(scale));
+    }
+
+    @Test
+    void arithmetic_should_succeed() {
+        final var real1 = ComputableReal.of(rational1);
+        final var real2 = ComputableReal.of(rational2);
+
+        assertThat(real1.add(real2).compareTo(ComputableReal.of(rational1.add(rational2)), -200)).isZero();
+        assertThat(real1.subtract(real2).compareTo(ComputableReal.of(rational1.subtract(rational2)), -200))
+                .isZero();
+        assertThat(real1.multiply(real2).compareTo(ComputableReal.of(rational1.multiply(rational2)), -200))
+                .isZero();
+        assertThat(real1.divide(real2).compareTo(ComputableReal.of(rational1.divide(rational2)), -200)).isZero();
+        assertThat(real2.invert().compareTo(ComputableReal.of(rational2.invert()), -200)).isZero();
+        assertThat(real1.shiftLeft(3).compareTo(ComputableReal.of(rational1.multiply(8L)), -200)).isZero();
+        assertThat(real1.shiftRight(3).compareTo(ComputableReal.of(rational1.divide(8L)), -200)).isZero();
+        assertThat(real1.add(real2).toBigDecimal(3)).isEqualByComparingTo(new BigDecimal("-0.133"));
+        assertThat(real1.negate().negate()).isSameAs(real1);
+    }
+
+    @Test
+    void exp_and_log_should_be_inverse() {
+        for (final var value : new long[] {-20L, -1L, 0L, 3L, 25L}) {
+            final var real = ComputableReal.of(value);
+
+            assertThat(real.exp().log().compareTo(real, -100)).isZero();
+        }
+        final var small = ComputableReal.of(rational1);
+        assertThat(small.log().exp().compareTo(small, -100)).isZero();
+    }
+
+    @Test
+    void compareTo_should_succeed() {
+        final var root = ComputableReal.of(2L).sqrt();
+
+        assertThat(ComputableReal.PI.compareTo(ComputableReal.of(3L), -10)).isEqualTo(1);
+        assertThat(ComputableReal.of(3L).compareTo(ComputableReal.PI, -10)).isEqualTo(-1);
+        assertThat(root.multiply(root).compareTo(ComputableReal.of(2L), -500)).isZero();
+        assertThat(root.multiply(root).subtract(ComputableReal.of(2L)).signum(-500)).isZero();
+        assertThat(ComputableReal.E.subtract(ComputableReal.PI).signum(-10)).isEqualTo(-1);
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ComputableReal.ONE.divide(ComputableReal.ZERO))
+                .withMessage("divisor must be invertible but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_0() {
+        assertThatIllegalStateException()
+                .isThrownBy(ComputableReal.ZERO::invert)
+                .withMessage("this must be invertible but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_radicand_is_negative() {
+        final var root = ComputableReal.of(-2L).sqrt();
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> root.approximate(-10))
+                .withMessage("radicand must not be negative")
+                .withNoCause();
+    }
+
+    @Test
+    void log_should_throw_exception_when_this_is_negative() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> ComputableReal.of(-2L).log())
+                .withMessage("this must be positive but was negative")
+                .withNoCause();
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.ltennstedt.irrational.core.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class ExprTest {
+    private final BigRational rational1 = BigRational.of(BigInteger.TWO, BigInteger.valueOf(3L));
+    private final BigRational rational2 = BigRational.of(BigInteger.valueOf(4L), BigInteger.valueOf(5L));
+
+    @Test
+    void of_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Expr.of(null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_succeed() {
+        assertThat(Expr.of(rational1).evaluate()).isEqualTo(rational1);
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Expr.of(rational1).add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        assertThat(Expr.of(rational1).add(Expr.of(rational2)).evaluate()).isEqualTo(rational1.add(rational2));
+    }
+
+    @Test
+    void add_should_group_terms_with_equal_denominators() {
+        final var third = Expr.of(BigRational.of(BigInteger.ONE, BigInteger.valueOf(3L)));
+        final var half = Expr.of(BigRational.of(BigInteger.ONE, BigInteger.TWO));
+
+        assertThat(third.add(half).add(third).add(half).add(third).evaluate())
+                .isEqualTo(BigRational.of(BigInteger.TWO));
+    }
+
+    @Test
+    void add_should_not_overflow_the_stack_for_long_chains() {
+        var sum = Expr.of(BigRational.ZERO);
+        for (var i = 0; i < 100_000; i++) {
+            sum = sum.add(Expr.of(BigRational.ONE));
+        }
+
+        assertThat(sum.evaluate()).isEqualTo(BigRational.of(BigInteger.valueOf(100_000L)));
+    }
+
+    @Test
+    @Timeout(10)
+    void evaluate_should_compute_shared_sums_once() {
+        var sum = Expr.of(BigRational.ONE);
+        for (var i = 0; i < 20_000; i++) {
+            sum = sum.add(sum).subtract(sum);
+        }
+
+        assertThat(sum.evaluate()).isEqualTo(BigRational.ONE);
+    }
+
+    @Test
+    void subtract_should_throw_exception_when_subtrahend_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Expr.of(rational1).subtract(null))
+                .withMessage("subtrahend")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(Expr.of(rational1).subtract(Expr.of(rational2)).evaluate())
+                .isEqualTo(rational1.subtract(rational2));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Expr.of(rational1).multiply(null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(Expr.of(rational1).multiply(Expr.of(rational2)).evaluate())
+                .isEqualTo(rational1.multiply(rational2));
+    }
+
+    @Test
+    void multiply_should_not_overflow_the_stack_for_long_chains() {
+        var product = Expr.of(rational1);
+        for (var i = 0; i < 20_000; i++) {
+            product = product.multiply(Expr.of(BigRational.ONE));
+        }
+
+        assertThat(product.evaluate()).isEqualTo(rational1);
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> Expr.of(rational1).divide(null))
+                .withMessage("divisor")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(Expr.of(rational1).divide(Expr.of(rational2.negate())).evaluate())
+                .isEqualTo(rational1.divide(rational2.negate()));
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_divisor_is_not_invertible() {
+        final var expr = Expr.of(rational1).divide(Expr.of(rational2).subtract(Expr.of(rational2)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(expr::evaluate)
+                .withMessage("divisor must be invertible but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void negate_should_succeed() {
+        final var expr = Expr.of(rational1);
+
+        assertThat(expr.negate().evaluate()).isEqualTo(rational1.negate());
+        assertThat(expr.negate().negate()).isSameAs(expr);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, Expr.DEFAULT_REDUCTION_THRESHOLD, Integer.MAX_VALUE})
+    void evaluate_should_not_depend_on_reductionThreshold(final int reductionThreshold) {
+        final var shared = Expr.of(rational1).add(Expr.of(rational2));
+        var expr = shared;
+        var expected = rational1.add(rational2);
+        for (var i = 0; i < 20; i++) {
+            expr = expr.multiply(shared).subtract(shared).divide(shared);
+            expected = expected
+                    .multiply(rational1.add(rational2))
+                    .subtract(rational1.add(rational2))
+                    .divide(rational1.add(rational2));
+        }
+
+        assertThat(expr.evaluate(reductionThreshold)).isEqualTo(expected);
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_reductionThreshold_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Expr.of(rational1).evaluate(0))
+                .withMessage("reductionThreshold must be positive but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void bounds_should_enclose_the_value() {
+        final var bounds = Expr.of(rational1).subtract(Expr.of(rational2)).bounds();
+
+        assertThat(bounds.isNegative()).isTrue();
+        assertThat(bounds.contains(2D / 3D - 4D / 5D)).isTrue();
+        assertThat(bounds.width()).isLessThan(1E-14);
+    }
+
+    @Test
+    @Timeout(10)
+    void bounds_should_enclose_shared_sums_once() {
+        var sum = Expr.of(BigRational.ONE);
+        for (var i = 0; i < 1_000; i++) {
+            sum = sum.add(sum);
+        }
+
+        assertThat(sum.bounds().contains(Math.pow(2D, 1_000D))).isTrue();
+        assertThat(sum.signum()).isEqualTo(1);
+        assertThat(Expr.compare(sum, Expr.of(BigRational.ZERO))).isEqualTo(1);
+    }
+
+    @Test
+    void bounds_should_not_overflow_the_stack_for_long_chains() {
+        var product = Expr.of(rational1);
+        for (var i = 0; i < 20_000; i++) {
+            product = product.multiply(Expr.of(BigRational.ONE));
+        }
+
+        assertThat(product.bounds().contains(2D / 3D)).isTrue();
+        assertThat(product.signum()).isEqualTo(1);
+    }
+
+    @Test
+    void signum_should_succeed() {
+        final var expr = Expr.of(rational1).multiply(Expr.of(rational2));
+
+        assertThat(expr.signum()).isEqualTo(1);
+        assertThat(expr.negate().signum()).isEqualTo(-1);
+        assertThat(Expr.of(BigRational.ZERO).signum()).isZero();
+    }
+
+    @Test
+    void signum_should_evaluate_exactly_when_bounds_contain_0() {
+        final var third = Expr.of(BigRational.of(BigInteger.ONE, BigInteger.valueOf(3L)));
+        final var tiny = Expr.of(BigRational.of(BigInteger.ONE, BigInteger.TEN.pow(40)));
+        final var expr = third.add(third).add(third).subtract(Expr.of(BigRational.ONE));
+
+        assertThat(expr.bounds().contains(0D)).isTrue();
+        assertThat(expr.signum()).isZero();
+        assertThat(expr.add(tiny).signum()).isEqualTo(1);
+        assertThat(expr.subtract(tiny).signum()).isEqualTo(-1);
+    }
+
+    @Test
+    void signum_should_throw_exception_when_divisor_is_not_invertible() {
+        final var expr = Expr.of(rational1)
+                .divide(Expr.of(rational2).subtract(Expr.of(rational2)))
+                .multiply(Expr.of(BigRational.ZERO));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(expr::signum)
+                .withMessage("divisor must be invertible but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void compare_should_succeed() {
+        assertThat(Expr.compare(Expr.of(rational1), Expr.of(rational2))).isEqualTo(-1);
+        assertThat(Expr.compare(Expr.of(rational2), Expr.of(rational1))).isEqualTo(1);
+        assertThat(Expr.compare(Expr.of(rational1).add(Expr.of(rational2)), Expr.of(rational2).add(Expr.of(rational1))))
+                .isZero();
+    }
+}
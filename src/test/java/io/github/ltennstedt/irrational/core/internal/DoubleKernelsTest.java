@@ -0,0 +1,137 @@
+package io.github.ltennstedt.irrational.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleKernelsTest {
+    private static final int MAX_LENGTH = 80;
+
+    private final DoubleKernels kernels = DoubleKernels.INSTANCE;
+
+    private final DoubleKernels scalar = DoubleKernels.scalar();
+
+    @Test
+    void scalar_should_not_be_vectorized() {
+        assertThat(scalar.isVectorized()).isFalse();
+    }
+
+    @Test
+    void dot_should_match_the_sequential_sum() {
+        final var random = new Random(42L);
+        for (var length = 0; length < MAX_LENGTH; length++) {
+            final var a = randomArray(random, length + 3);
+            final var b = randomArray(random, length);
+            var expected = 0D;
+            for (var i = 0; i < length; i++) {
+                expected += a[i + 3] * b[i];
+            }
+
+            assertThat(kernels.dot(a, 3, b, 0, length)).isCloseTo(expected, within(1E-12));
+        }
+    }
+
+    @Test
+    void axpy_should_succeed() {
+        final var x = new double[] {1D, 2D, 3D, 4D, 5D};
+        final var y = new double[] {10D, 20D, 30D, 40D, 50D, 60D};
+
+        kernels.axpy(2D, x, 1, y, 2, 3);
+
+        assertThat(y).containsExactly(10D, 20D, 34D, 46D, 58D, 60D);
+    }
+
+    @Test
+    void multiplyAdd_should_match_the_sequential_sum_exactly() {
+        final var random = new Random(42L);
+        for (final var rows : new int[] {0, 1, 4, 7, 9}) {
+            for (final var columns : new int[] {0, 3, 4, 17, 37}) {
+                for (final var depth : new int[] {0, 1, 5}) {
+                    final var a = randomArray(random, 1 + rows * (depth + 1));
+                    final var b = randomArray(random, 2 + depth * (columns + 2));
+                    final var c = randomArray(random, 3 + rows * (columns + 3));
+                    final var expected = c.clone();
+                    for (var i = 0; i < rows; i++) {
+                        for (var j = 0; j < columns; j++) {
+                            var sum = expected[3 + i * (columns + 3) + j];
+                            for (var p = 0; p < depth; p++) {
+                                sum += a[1 + i * (depth + 1) + p] * b[2 + p * (columns + 2) + j];
+                            }
+                            expected[3 + i * (columns + 3) + j] = sum;
+                        }
+                    }
+
+                    kernels.multiplyAdd(
+                            a, 1, depth + 1, b, 2, columns + 2, c, 3, columns + 3, rows, columns, depth);
+
+                    assertThat(c).containsExactly(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void element_wise_kernels_should_succeed() {
+        final var a = new double[] {1D, 2D, 3D};
+        final var b = new double[] {4D, -5D, 0.5D};
+        final var result = new double[3];
+
+        kernels.addScaled(2D, a, b, result);
+        assertThat(result).containsExactly(6D, -1D, 6.5D);
+        kernels.add(a, b, result);
+        assertThat(result).containsExactly(5D, -3D, 3.5D);
+        kernels.subtract(a, b, result);
+        assertThat(result).containsExactly(-3D, 7D, 2.5D);
+        kernels.multiply(a, b, result);
+        assertThat(result).containsExactly(4D, -10D, 1.5D);
+        kernels.scale(-2D, a, result);
+        assertThat(result).containsExactly(-2D, -4D, -6D);
+    }
+
+    @Test
+    void complex_kernels_should_match_the_scalar_implementation() {
+        final var random = new Random(42L);
+        for (var length = 0; length < MAX_LENGTH; length += 2) {
+            final var a = randomArray(random, length);
+            final var b = randomArray(random, length);
+            for (final var conjugate : new boolean[] {false, true}) {
+                final var actual = a.clone();
+                final var expected = a.clone();
+
+                kernels.multiplyComplex(actual, b, conjugate);
+                scalar.multiplyComplex(expected, b, conjugate);
+
+                assertThat(actual).containsExactly(expected);
+            }
+            final var actual = a.clone();
+            final var expected = a.clone();
+
+            kernels.addScaledComplex(0.5D, -1.5D, b, actual);
+            scalar.addScaledComplex(0.5D, -1.5D, b, expected);
+
+            assertThat(actual).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void multiplyComplex_should_succeed() {
+        final var a = new double[] {3D, 4D, 1D, -2D};
+
+        scalar.multiplyComplex(a, new double[] {1D, -2D, 0D, 1D}, false);
+
+        assertThat(a).containsExactly(11D, -2D, 2D, 1D);
+    }
+
+    private static double[] randomArray(final Random random, final int length) {
+        final var array = new double[length];
+        for (var i = 0; i < length; i++) {
+            array[i] = random.nextGaussian();
+        }
+        return array;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BigDecimalVectorTest {
+    private final BigDecimalVector vector1 =
+            BigDecimalVector.of(new BigDecimal("1.5"), new BigDecimal("2"), new BigDecimal("-3"));
+    private final BigDecimalVector vector2 =
+            BigDecimalVector.of(new BigDecimal("2"), new BigDecimal("0.25"), new BigDecimal("1"));
+
+    @Test
+    void of_should_throw_exception_when_a_coordinate_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigDecimalVector.of(BigDecimal.ONE, null))
+                .withMessage("coordinate")
+                .withNoCause();
+    }
+
+    @Test
+    void builder_should_succeed() {
+        final var vector = BigDecimalVector.builder(2).set(1, BigDecimal.TEN).build();
+
+        assertThat(vector).isEqualTo(BigDecimalVector.of(BigDecimal.ZERO, BigDecimal.TEN));
+    }
+
+    @Test
+    void builder_should_throw_exception_when_used_after_build() {
+        final var builder = BigDecimalVector.builder(1);
+        builder.build();
+
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("builder must not be used after build")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_should_throw_exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> vector1.dot(BigDecimalVector.zero(2)))
+                .withMessage("other must have size 3 but had size 2")
+                .withNoCause();
+    }
+
+    @Test
+    void element_wise_operations_should_succeed() {
+        assertThat(vector1.add(vector2))
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("3.5"), new BigDecimal("2.25"), new BigDecimal("-2")));
+        assertThat(vector1.subtract(vector2))
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("-0.5"), new BigDecimal("1.75"), new BigDecimal("-4")));
+        assertThat(vector1.multiply(vector2))
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("3.0"), new BigDecimal("0.50"), new BigDecimal("-3")));
+        assertThat(vector1.scale(BigDecimal.TEN))
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("15.0"), new BigDecimal("20"), new BigDecimal("-30")));
+        assertThat(vector1.negate())
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("-1.5"), new BigDecimal("-2"), new BigDecimal("3")));
+    }
+
+    @Test
+    void dot_should_be_exact() {
+        assertThat(vector1.dot(vector2)).isEqualByComparingTo("0.5");
+    }
+
+    @Test
+    void dot_should_round_once() {
+        final var a = BigDecimalVector.of(new BigDecimal("1.04"), new BigDecimal("1.04"));
+        final var b = BigDecimalVector.of(new BigDecimal("1.04"), new BigDecimal("0.01"));
+
+        assertThat(a.dot(b, new MathContext(2))).isEqualTo(new BigDecimal("1.1"));
+    }
+
+    @Test
+    void norm_should_succeed() {
+        final var vector = BigDecimalVector.of(BigDecimal.valueOf(3L), BigDecimal.valueOf(4L));
+
+        assertThat(vector.norm(MathContext.DECIMAL64)).isEqualByComparingTo("5");
+    }
+
+    @Test
+    void round_and_toDoubleVector_should_succeed() {
+        final var vector = BigDecimalVector.of(new BigDecimal("1.25"), new BigDecimal("-0.125"));
+
+        assertThat(vector.round(new MathContext(2)))
+                .isEqualTo(BigDecimalVector.of(new BigDecimal("1.3"), new BigDecimal("-0.13")));
+        assertThat(vector.toDoubleVector()).isEqualTo(DoubleVector.of(1.25D, -0.125D));
+    }
+}
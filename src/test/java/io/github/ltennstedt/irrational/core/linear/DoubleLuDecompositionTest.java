@@ -0,0 +1,95 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleLuDecompositionTest {
+    private final DoubleMatrix matrix =
+            DoubleMatrix.of(new double[] {2D, 1D, 1D}, new double[] {4D, 3D, 3D}, new double[] {8D, 7D, 9D});
+
+    private final DoubleMatrix singular = DoubleMatrix.of(new double[] {1D, 2D}, new double[] {2D, 4D});
+
+    @Test
+    void factors_should_succeed() {
+        final var lu = matrix.lu();
+
+        assertThat(lu.size()).isEqualTo(3);
+        assertThat(lu.isSingular()).isFalse();
+        assertThat(lu.permutation()).containsExactly(2, 0, 1);
+        assertThat(lu.lower().row(2).toArray()).containsExactly(new double[] {0.5D, 2D / 3D, 1D}, within(1E-15));
+        assertThat(lu.lower().row(1)).isEqualTo(DoubleVector.of(0.25D, 1D, 0D));
+        assertThat(lu.upper().row(0)).isEqualTo(DoubleVector.of(8D, 7D, 9D));
+        assertThat(lu.upper().row(1)).isEqualTo(DoubleVector.of(0D, -0.75D, -1.25D));
+        assertThat(lu.upper().get(2, 2)).isCloseTo(-2D / 3D, within(1E-15));
+        assertThat(lu.determinant()).isCloseTo(4D, within(1E-14));
+    }
+
+    @Test
+    void factors_should_reproduce_the_permuted_matrix_across_panels() {
+        final var random = new Random(42L);
+        final var size = 150;
+        final var builder = DoubleMatrix.builder(size, size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                builder.set(i, j, random.nextGaussian());
+            }
+        }
+        final var a = builder.build();
+        final var lu = a.lu();
+
+        final var product = lu.lower().multiply(lu.upper());
+
+        final var permutation = lu.permutation();
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                assertThat(product.get(i, j)).isCloseTo(a.get(permutation[i], j), within(1E-12));
+            }
+        }
+        final var identity = a.multiply(lu.inverse());
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                assertThat(identity.get(i, j)).isCloseTo(i == j ? 1D : 0D, within(1E-10));
+            }
+        }
+    }
+
+    @Test
+    void solve_should_succeed() {
+        final var lu = matrix.lu();
+
+        final var x = lu.solve(DoubleVector.of(4D, 10D, 24D));
+        final var xs = lu.solve(DoubleMatrix.of(new double[] {4D, 1D}, new double[] {10D, 3D}, new double[] {24D, 7D}));
+
+        assertThat(x.toArray()).containsExactly(new double[] {1D, 1D, 1D}, within(1E-14));
+        assertThat(xs.column(0).toArray()).containsExactly(new double[] {1D, 1D, 1D}, within(1E-14));
+        assertThat(xs.column(1).toArray()).containsExactly(new double[] {0D, 1D, 0D}, within(1E-14));
+    }
+
+    @Test
+    void solve_should_throw_exception_when_b_has_wrong_size() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix.lu().solve(DoubleVector.zero(2)))
+                .withMessage("b must have size 3 but had size 2")
+                .withNoCause();
+    }
+
+    @Test
+    void solve_should_throw_exception_when_matrix_is_singular() {
+        final var lu = singular.lu();
+
+        assertThat(lu.isSingular()).isTrue();
+        assertThat(lu.determinant()).isCloseTo(0D, within(0D));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> lu.solve(DoubleVector.of(1D, 1D)))
+                .withMessage("decomposed matrix must not be singular")
+                .withNoCause();
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleMatrixTest {
+    private final DoubleMatrix matrix1 = DoubleMatrix.of(new double[] {1D, 2D, 3D}, new double[] {4D, 5D, 6D});
+    private final DoubleMatrix matrix2 = DoubleMatrix.of(new double[] {2D, 0D, -1D}, new double[] {0.5D, 1D, 2D});
+
+    @Test
+    void of_should_copy_rows() {
+        final var row = new double[] {1D, 2D};
+        final var matrix = DoubleMatrix.of(row);
+
+        row[0] = 3D;
+
+        assertThat(matrix.get(0, 0)).isEqualTo(1D);
+    }
+
+    @Test
+    void of_should_throw_exception_when_rows_have_different_sizes() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleMatrix.of(new double[] {1D, 2D}, new double[] {3D}))
+                .withMessage("row 1 must have size 2 but had size 1")
+                .withNoCause();
+    }
+
+    @Test
+    void zero_should_throw_exception_when_there_are_too_many_entries() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleMatrix.zero(65_536, 65_536))
+                .withMessage("rows * columns must not be greater than 2147483647 but was 4294967296")
+                .withNoCause();
+    }
+
+    @Test
+    void builder_should_succeed() {
+        final var matrix = DoubleMatrix.builder(2, 3)
+                .set(0, 0, 1D)
+                .set(0, 1, 2D)
+                .set(0, 2, 3D)
+                .set(1, 0, 4D)
+                .set(1, 1, 5D)
+                .set(1, 2, 6D)
+                .build();
+
+        assertThat(matrix).isEqualTo(matrix1);
+        assertThat(matrix).hasSameHashCodeAs(matrix1);
+    }
+
+    @Test
+    void builder_should_throw_exception_when_columns_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleMatrix.builder(1, -1))
+                .withMessage("columns must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void builder_should_throw_exception_when_used_after_build() {
+        final var builder = DoubleMatrix.builder(1, 1);
+        builder.build();
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.set(0, 0, 1D))
+                .withMessage("builder must not be used after build")
+                .withNoCause();
+    }
+
+    @Test
+    void get_should_throw_exception_when_column_is_out_of_bounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> matrix1.get(1, 3))
+                .withMessage("column must be between 0 and 2 but was 3")
+                .withNoCause();
+    }
+
+    @Test
+    void row_and_column_should_succeed() {
+        assertThat(matrix1.row(1)).isEqualTo(DoubleVector.of(4D, 5D, 6D));
+        assertThat(matrix1.column(2)).isEqualTo(DoubleVector.of(3D, 6D));
+    }
+
+    @Test
+    void equals_should_take_the_shape_into_account() {
+        assertThat(DoubleMatrix.zero(2, 3)).isNotEqualTo(DoubleMatrix.zero(3, 2));
+        assertThat(DoubleMatrix.zero(0, 3)).isNotEqualTo(DoubleMatrix.zero(0, 2));
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> matrix1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_shapes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix1.add(DoubleMatrix.zero(3, 2)))
+                .withMessage("summand must have 2 rows and 3 columns but had 3 rows and 2 columns")
+                .withNoCause();
+    }
+
+    @Test
+    void element_wise_operations_should_succeed() {
+        assertThat(matrix1.add(matrix2))
+                .isEqualTo(DoubleMatrix.of(new double[] {3D, 2D, 2D}, new double[] {4.5D, 6D, 8D}));
+        assertThat(matrix1.subtract(matrix2))
+                .isEqualTo(DoubleMatrix.of(new double[] {-1D, 2D, 4D}, new double[] {3.5D, 4D, 4D}));
+        assertThat(matrix1.scale(2D))
+                .isEqualTo(DoubleMatrix.of(new double[] {2D, 4D, 6D}, new double[] {8D, 10D, 12D}));
+        assertThat(matrix1.negate())
+                .isEqualTo(DoubleMatrix.of(new double[] {-1D, -2D, -3D}, new double[] {-4D, -5D, -6D}));
+    }
+
+    @Test
+    void transpose_should_succeed() {
+        assertThat(matrix1.transpose())
+                .isEqualTo(DoubleMatrix.of(new double[] {1D, 4D}, new double[] {2D, 5D}, new double[] {3D, 6D}));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_vector_has_wrong_size() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix1.multiply(DoubleVector.zero(2)))
+                .withMessage("vector must have size 3 but had size 2")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_has_wrong_number_of_rows() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix1.multiply(matrix2))
+                .withMessage("multiplier must have 3 rows but had 2 rows")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(matrix1.multiply(DoubleVector.of(1D, 0D, -1D))).isEqualTo(DoubleVector.of(-2D, -2D));
+        assertThat(matrix1.multiply(matrix2.transpose()))
+                .isEqualTo(DoubleMatrix.of(new double[] {-1D, 8.5D}, new double[] {2D, 19D}));
+        assertThat(DoubleMatrix.zero(2, 0).multiply(DoubleMatrix.zero(0, 3))).isEqualTo(DoubleMatrix.zero(2, 3));
+    }
+
+    @Test
+    void multiply_should_match_the_sequential_sum_exactly_across_blocks() {
+        final var random = new Random(42L);
+        final var a = randomRows(random, 67, 261);
+        final var b = randomRows(random, 261, 515);
+        final var expected = new double[67][515];
+        for (var i = 0; i < 67; i++) {
+            for (var j = 0; j < 515; j++) {
+                var sum = 0D;
+                for (var p = 0; p < 261; p++) {
+                    sum += a[i][p] * b[p][j];
+                }
+                expected[i][j] = sum;
+            }
+        }
+
+        assertThat(DoubleMatrix.of(a).multiply(DoubleMatrix.of(b))).isEqualTo(DoubleMatrix.of(expected));
+    }
+
+    @Test
+    void lu_should_throw_exception_when_this_is_not_square() {
+        assertThatIllegalStateException()
+                .isThrownBy(matrix1::lu)
+                .withMessage("this must be square but had 2 rows and 3 columns")
+                .withNoCause();
+    }
+
+    @Test
+    void determinant_should_succeed() {
+        assertThat(DoubleMatrix.of(new double[] {1D, 2D}, new double[] {3D, 4D}).determinant())
+                .isEqualTo(-2D);
+        assertThat(DoubleMatrix.identity(3).determinant()).isEqualTo(1D);
+        assertThat(DoubleMatrix.zero(0, 0).determinant()).isEqualTo(1D);
+    }
+
+    @Test
+    void toArray_should_return_a_copy() {
+        final var array = matrix1.toArray();
+
+        array[0][0] = 0D;
+
+        assertThat(matrix1.get(0, 0)).isEqualTo(1D);
+        assertThat(matrix1).hasToString("DoubleMatrix[[1.0, 2.0, 3.0], [4.0, 5.0, 6.0]]");
+    }
+
+    private static double[][] randomRows(final Random random, final int rows, final int columns) {
+        final var result = new double[rows][columns];
+        for (final var row : result) {
+            for (var j = 0; j < columns; j++) {
+                row[j] = random.nextGaussian();
+            }
+        }
+        return result;
+    }
+}
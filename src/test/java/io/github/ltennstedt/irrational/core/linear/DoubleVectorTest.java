@@ -0,0 +1,123 @@
+package io.github.ltennstedt.irrational.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleVectorTest {
+    private final DoubleVector vector1 = DoubleVector.of(1D, 2D, 3D, 4D, 5D);
+    private final DoubleVector vector2 = DoubleVector.of(2D, -1D, 0.5D, 0D, 1D);
+
+    @Test
+    void of_should_copy_coordinates() {
+        final var coordinates = new double[] {1D, 2D};
+        final var vector = DoubleVector.of(coordinates);
+
+        coordinates[0] = 3D;
+
+        assertThat(vector.get(0)).isEqualTo(1D);
+    }
+
+    @Test
+    void builder_should_throw_exception_when_size_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleVector.builder(-1))
+                .withMessage("size must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void builder_should_succeed() {
+        final var vector = DoubleVector.builder(3).set(0, 1D).set(2, 3D).build();
+
+        assertThat(vector).isEqualTo(DoubleVector.of(1D, 0D, 3D));
+        assertThat(vector).hasSameHashCodeAs(DoubleVector.of(1D, 0D, 3D));
+    }
+
+    @Test
+    void builder_should_throw_exception_when_used_after_build() {
+        final var builder = DoubleVector.builder(1);
+        builder.build();
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.set(0, 1D))
+                .withMessage("builder must not be used after build")
+                .withNoCause();
+    }
+
+    @Test
+    void get_should_throw_exception_when_index_is_out_of_bounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> vector1.get(5))
+                .withMessage("index must be between 0 and 4 but was 5")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> vector1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> vector1.add(DoubleVector.zero(2)))
+                .withMessage("summand must have size 5 but had size 2")
+                .withNoCause();
+    }
+
+    @Test
+    void element_wise_operations_should_succeed() {
+        assertThat(vector1.add(vector2)).isEqualTo(DoubleVector.of(3D, 1D, 3.5D, 4D, 6D));
+        assertThat(vector1.subtract(vector2)).isEqualTo(DoubleVector.of(-1D, 3D, 2.5D, 4D, 4D));
+        assertThat(vector1.multiply(vector2)).isEqualTo(DoubleVector.of(2D, -2D, 1.5D, 0D, 5D));
+        assertThat(vector1.scale(2D)).isEqualTo(DoubleVector.of(2D, 4D, 6D, 8D, 10D));
+        assertThat(vector1.negate()).isEqualTo(DoubleVector.of(-1D, -2D, -3D, -4D, -5D));
+    }
+
+    @Test
+    void addScaled_should_succeed() {
+        assertThat(vector1.addScaled(2D, vector2)).isEqualTo(DoubleVector.of(5D, 0D, 4D, 4D, 7D));
+    }
+
+    @Test
+    void dot_should_succeed() {
+        assertThat(vector1.dot(vector2)).isEqualTo(6.5D);
+        assertThat(DoubleVector.zero(0).dot(DoubleVector.zero(0))).isZero();
+    }
+
+    @Test
+    void norm_should_succeed() {
+        assertThat(DoubleVector.of(3D, 4D).norm()).isEqualTo(5D);
+        assertThat(DoubleVector.zero(3).norm()).isZero();
+        assertThat(vector1.maxNorm()).isEqualTo(5D);
+    }
+
+    @Test
+    void norm_should_not_overflow_or_underflow() {
+        assertThat(DoubleVector.of(3E200, 4E200).norm()).isCloseTo(5E200, within(1E186));
+        assertThat(DoubleVector.of(3E-200, 4E-200).norm()).isCloseTo(5E-200, within(1E-214));
+        assertThat(DoubleVector.of(Double.POSITIVE_INFINITY, 1D).norm()).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(DoubleVector.of(Double.NaN, 1D).norm()).isNaN();
+    }
+
+    @Test
+    void toArray_should_return_a_copy() {
+        final var array = vector1.toArray();
+
+        array[0] = 0D;
+
+        assertThat(vector1.get(0)).isEqualTo(1D);
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BigDecimalComplexTest {
+    private final BigDecimalComplex complex1 = BigDecimalComplex.of(BigDecimal.valueOf(3L), BigDecimal.valueOf(4L));
+    private final BigDecimalComplex complex2 = BigDecimalComplex.of(BigDecimal.ONE, BigDecimal.valueOf(-2L));
+
+    @Test
+    void constructor_should_throw_exception_when_imaginary_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new BigDecimalComplex(BigDecimal.ONE, null))
+                .withMessage("imaginary")
+                .withNoCause();
+    }
+
+    @Test
+    void norm_and_abs_should_succeed() {
+        assertThat(complex1.norm()).isEqualTo(BigDecimal.valueOf(25L));
+        assertThat(complex1.abs(MathContext.DECIMAL64)).isEqualByComparingTo("5");
+        assertThat(complex2.abs(MathContext.DECIMAL64)).isEqualByComparingTo("2.236067977499790");
+    }
+
+    @Test
+    void add_and_subtract_should_succeed() {
+        assertThat(complex1.add(complex2))
+                .isEqualTo(BigDecimalComplex.of(BigDecimal.valueOf(4L), BigDecimal.valueOf(2L)));
+        assertThat(complex1.subtract(complex2))
+                .isEqualTo(BigDecimalComplex.of(BigDecimal.valueOf(2L), BigDecimal.valueOf(6L)));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> complex1.multiply(null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(complex1.multiply(complex2))
+                .isEqualTo(BigDecimalComplex.of(BigDecimal.valueOf(11L), BigDecimal.valueOf(-2L)));
+    }
+
+    @Test
+    void multiply_should_round_every_part_once() {
+        final var complex = BigDecimalComplex.of(new BigDecimal("1.05"), new BigDecimal("0.05"));
+
+        final var product = complex.multiply(complex, new MathContext(2));
+
+        assertThat(product).isEqualTo(BigDecimalComplex.of(new BigDecimal("1.1"), new BigDecimal("0.11")));
+    }
+
+    @Test
+    void multiply_should_match_the_schoolbook_product_above_the_gauss_threshold() {
+        final var random = new Random(42L);
+        final var digits = BigDecimalComplex.GAUSS_MULTIPLICATION_THRESHOLD * 4;
+        final var a = randomBigDecimal(random, digits);
+        final var b = randomBigDecimal(random, digits);
+        final var c = randomBigDecimal(random, digits);
+        final var d = randomBigDecimal(random, digits);
+
+        final var product = BigDecimalComplex.of(a, b).multiply(BigDecimalComplex.of(c, d));
+
+        assertThat(product.real()).isEqualByComparingTo(a.multiply(c).subtract(b.multiply(d)));
+        assertThat(product.imaginary()).isEqualByComparingTo(a.multiply(d).add(b.multiply(c)));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> complex1.divide(BigDecimalComplex.ZERO, MathContext.DECIMAL64))
+                .withMessage("divisor must be invertible but was BigDecimalComplex[real=0, imaginary=0]")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        final var quotient = complex2.divide(complex1, MathContext.DECIMAL64);
+
+        assertThat(quotient.real()).isEqualByComparingTo("-0.2");
+        assertThat(quotient.imaginary()).isEqualByComparingTo("-0.4");
+    }
+
+    @Test
+    void divide_should_round_when_the_quotient_does_not_terminate() {
+        final var divisor = BigDecimalComplex.of(BigDecimal.valueOf(3L), BigDecimal.valueOf(-3L));
+
+        final var quotient = BigDecimalComplex.ONE.divide(divisor, new MathContext(5));
+
+        assertThat(quotient).isEqualTo(BigDecimalComplex.of(new BigDecimal("0.16667"), new BigDecimal("0.16667")));
+    }
+
+    @Test
+    void divide_should_be_exact_when_precision_is_0() {
+        final var quotient = complex1.divide(complex2, MathContext.UNLIMITED);
+
+        assertThat(quotient.real()).isEqualByComparingTo("-1");
+        assertThat(quotient.imaginary()).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void divide_should_throw_exception_when_precision_is_0_and_the_quotient_does_not_terminate() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> BigDecimalComplex.ONE.divide(
+                        BigDecimalComplex.of(BigDecimal.valueOf(3L)), MathContext.UNLIMITED));
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_0() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> BigDecimalComplex.ZERO.invert(MathContext.DECIMAL64))
+                .withMessage("this must be invertible but was BigDecimalComplex[real=0, imaginary=0]")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        final var inverted = BigDecimalComplex.I.invert(MathContext.DECIMAL64);
+
+        assertThat(inverted.real()).isEqualByComparingTo("0");
+        assertThat(inverted.imaginary()).isEqualByComparingTo("-1");
+    }
+
+    @Test
+    void toDoubleComplex_should_succeed() {
+        assertThat(complex1.toDoubleComplex()).isEqualTo(DoubleComplex.of(3D, 4D));
+        assertThat(BigDecimalComplex.of(DoubleComplex.of(0.5D, -0.25D)))
+                .isEqualTo(BigDecimalComplex.of(new BigDecimal("0.5"), new BigDecimal("-0.25")));
+    }
+
+    private static BigDecimal randomBigDecimal(final Random random, final int digits) {
+        return new BigDecimal(new BigInteger(digits * 3, random).add(BigInteger.TEN.pow(digits - 1)), digits / 2);
+    }
+}
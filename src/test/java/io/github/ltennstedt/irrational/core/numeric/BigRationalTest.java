@@ -1,14 +1,17 @@
 package io.github.ltennstedt.irrational.core.numeric;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import io.github.ltennstedt.irrational.core.util.BigIntegers;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -54,6 +57,67 @@ final class BigRationalTest {
                 .isEqualTo(BigRational.of(BigInteger.ONE.negate(), BigInteger.TWO));
     }
 
+    @Test
+    void constructor_should_throw_exception_when_numerator_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new BigRational(null, BigInteger.ONE))
+                .withMessage("numerator")
+                .withNoCause();
+    }
+
+    @Test
+    void constructor_should_normalize() {
+        final var rational = new BigRational(BigInteger.valueOf(6L), BigInteger.valueOf(-4L));
+
+        assertThat(rational.numerator()).isEqualTo(BigInteger.valueOf(-3L));
+        assertThat(rational.denominator()).isEqualTo(BigInteger.TWO);
+    }
+
+    @Test
+    void dot_Iterable_should_throw_exception_when_a_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.dot(null, List.of()))
+                .withMessage("a")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_Iterable_should_throw_exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigRational.dot(List.of(), List.of(BigRational.ONE)))
+                .withMessage("a and b must have the same size")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_Iterable_should_succeed() {
+        assertThat(BigRational.dot(
+                        List.of(rational1, rational2, BigRational.ONE), List.of(rational2, rational1, rational1)))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(26L), BigInteger.valueOf(15L)));
+    }
+
+    @Test
+    void dot_array_should_throw_exception_when_b_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.dot(new BigRational[0], null))
+                .withMessage("b")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_array_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigRational.dot(new BigRational[] {BigRational.ONE}, new BigRational[0]))
+                .withMessage("a and b must have the same length but were 1 and 0")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_array_should_succeed() {
+        assertThat(BigRational.dot(new BigRational[] {rational1, rational2}, new BigRational[] {rational2, rational1}))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(16L), BigInteger.valueOf(15L)));
+    }
+
     @ParameterizedTest
     @CsvSource(textBlock = """
             0, false
@@ -169,7 +233,7 @@ final class BigRationalTest {
     @Test
     void add_should_throw_exception_when_summand_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> BigRational.ZERO.add(null))
+                .isThrownBy(() -> BigRational.ZERO.add((BigRational) null))
                 .withMessage("summand")
                 .withNoCause();
     }
@@ -180,10 +244,57 @@ final class BigRationalTest {
                 .isEqualTo(BigRational.of(BigInteger.valueOf(22L), BigInteger.valueOf(15L)));
     }
 
+    @Test
+    void add_long_should_succeed() {
+        assertThat(rational1.add(2L)).isEqualTo(BigRational.of(BigInteger.valueOf(8L), BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void add_BigInteger_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.add((BigInteger) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_BigInteger_should_succeed() {
+        assertThat(rational1.add(BigInteger.TWO))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(8L), BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void add_LongRational_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.add((LongRational) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            1, 3, 2, 1, 7, 3
+            1, 3, 1, 6, 1, 2
+            36893488147419103232, 3, 1, 6, 73786976294838206465, 6
+            1, 6, 1, 10, 4, 15
+            9223372036854775807, 2, 9223372036854775807, 2, 9223372036854775807, 1
+            9223372036854775807, 3, 9223372036854775807, 2, 46116860184273879035, 6
+        """)
+    void add_LongRational_should_succeed(
+            final BigInteger numerator,
+            final BigInteger denominator,
+            final long summandNumerator,
+            final long summandDenominator,
+            final BigInteger expectedNumerator,
+            final BigInteger expectedDenominator) {
+        assertThat(BigRational.of(numerator, denominator).add(LongRational.of(summandNumerator, summandDenominator)))
+                .isEqualTo(BigRational.of(expectedNumerator, expectedDenominator));
+    }
+
     @Test
     void subtract_should_throw_exception_when_subtrahend_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> BigRational.ZERO.subtract(null))
+                .isThrownBy(() -> BigRational.ZERO.subtract((BigRational) null))
                 .withMessage("subtrahend")
                 .withNoCause();
     }
@@ -194,10 +305,29 @@ final class BigRationalTest {
                 .isEqualTo(BigRational.of(BigInteger.valueOf(-2L), BigInteger.valueOf(15L)));
     }
 
+    @Test
+    void subtract_long_should_succeed() {
+        assertThat(rational1.subtract(2L)).isEqualTo(BigRational.of(BigInteger.valueOf(-4L), BigInteger.valueOf(3L)));
+    }
+
+    @Test
+    void subtract_BigInteger_should_throw_exception_when_subtrahend_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.subtract((BigInteger) null))
+                .withMessage("subtrahend")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_BigInteger_should_succeed() {
+        assertThat(rational1.subtract(BigInteger.TWO))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(-4L), BigInteger.valueOf(3L)));
+    }
+
     @Test
     void multiply_should_throw_exception_when_multiplier_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> BigRational.ZERO.multiply(null))
+                .isThrownBy(() -> BigRational.ZERO.multiply((BigRational) null))
                 .withMessage("multiplier")
                 .withNoCause();
     }
@@ -208,10 +338,82 @@ final class BigRationalTest {
                 .isEqualTo(BigRational.of(BigInteger.valueOf(8L), BigInteger.valueOf(15L)));
     }
 
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             0, 0, 1
+             3, 2, 1
+            -6, -4, 1
+             2, 4, 3
+        """)
+    void multiply_long_should_succeed(final long multiplier, final BigInteger numerator, final BigInteger denominator) {
+        assertThat(rational1.multiply(multiplier)).isEqualTo(BigRational.of(numerator, denominator));
+    }
+
+    @Test
+    void multiply_BigInteger_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.multiply((BigInteger) null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_BigInteger_should_succeed() {
+        assertThat(rational1.multiply(BigInteger.valueOf(3L))).isEqualTo(BigRational.of(BigInteger.TWO));
+    }
+
+    @Test
+    void multiply_LongRational_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.multiply((LongRational) null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            2, 3, 3, 1, 2, 1
+            2, 3, 9, 4, 3, 2
+            36893488147419103232, 3, 9, 4, 27670116110564327424, 1
+        """)
+    void multiply_LongRational_should_succeed(
+            final BigInteger numerator,
+            final BigInteger denominator,
+            final long multiplierNumerator,
+            final long multiplierDenominator,
+            final BigInteger expectedNumerator,
+            final BigInteger expectedDenominator) {
+        assertThat(BigRational.of(numerator, denominator)
+                        .multiply(LongRational.of(multiplierNumerator, multiplierDenominator)))
+                .isEqualTo(BigRational.of(expectedNumerator, expectedDenominator));
+    }
+
+    @Test
+    void multiplyAdd_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.multiplyAdd(null, BigRational.ONE))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiplyAdd_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.multiplyAdd(BigRational.ONE, null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void multiplyAdd_should_succeed() {
+        assertThat(rational1.multiplyAdd(rational2, rational1))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(6L), BigInteger.valueOf(5L)));
+    }
+
     @Test
     void divide_should_throw_exception_when_divisor_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> BigRational.ZERO.divide(null))
+                .isThrownBy(() -> BigRational.ZERO.divide((BigRational) null))
                 .withMessage("divisor")
                 .withNoCause();
     }
@@ -230,6 +432,37 @@ final class BigRationalTest {
                 .isEqualTo(BigRational.of(BigInteger.valueOf(5L), BigInteger.valueOf(6L)));
     }
 
+    @Test
+    void divide_long_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigRational.ONE.divide(0L))
+                .withMessage("divisor must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             2, 1, 3
+            -4, -1, 6
+             3, 2, 9
+        """)
+    void divide_long_should_succeed(final long divisor, final BigInteger numerator, final BigInteger denominator) {
+        assertThat(rational1.divide(divisor)).isEqualTo(BigRational.of(numerator, denominator));
+    }
+
+    @Test
+    void divide_BigInteger_should_throw_exception_when_divisor_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.divide((BigInteger) null))
+                .withMessage("divisor")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_BigInteger_should_succeed() {
+        assertThat(rational1.divide(BigInteger.TWO)).isEqualTo(BigRational.of(BigInteger.ONE, BigInteger.valueOf(3L)));
+    }
+
     @Test
     void invert_should_throw_exception_when_this_is_not_invertible() {
         assertThatIllegalStateException()
@@ -248,6 +481,90 @@ final class BigRationalTest {
         assertThat(rational1.power(2)).isEqualTo(BigRational.of(BigInteger.valueOf(4L), BigInteger.valueOf(9L)));
     }
 
+    @Test
+    void power_should_return_ONE_when_exponent_is_0() {
+        assertThat(BigRational.ZERO.power(0)).isSameAs(BigRational.ONE);
+    }
+
+    @Test
+    void power_should_invert_when_exponent_is_negative() {
+        assertThat(BigRational.of(BigInteger.valueOf(-2L), BigInteger.valueOf(3L))
+                        .power(-3))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(-27L), BigInteger.valueOf(8L)));
+    }
+
+    @Test
+    void power_should_throw_exception_when_exponent_is_negative_and_this_is_not_invertible() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> BigRational.ZERO.power(-1))
+                .withMessage("this must be invertible but was BigRational[numerator=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @Test
+    void power_should_succeed_when_exponent_is_Integer_MIN_VALUE() {
+        assertThat(BigRational.of(BigInteger.ONE.negate()).power(Integer.MIN_VALUE))
+                .isSameAs(BigRational.ONE);
+    }
+
+    @Test
+    void power_long_should_succeed_when_this_has_trivial_powers() {
+        final var minusOne = BigRational.of(BigInteger.ONE.negate());
+
+        assertThat(BigRational.ZERO.power(Long.MAX_VALUE)).isSameAs(BigRational.ZERO);
+        assertThat(BigRational.ONE.power(Long.MIN_VALUE)).isEqualTo(BigRational.ONE);
+        assertThat(minusOne.power(Long.MAX_VALUE)).isEqualTo(minusOne);
+        assertThat(minusOne.power(Long.MIN_VALUE)).isSameAs(BigRational.ONE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Integer.MIN_VALUE, 1L << 31})
+    void power_long_should_throw_exception_when_absolute_value_of_exponent_exceeds_int(final long exponent) {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> rational1.power(exponent))
+                .withMessage("absolute value of exponent must be at most 2147483647 but was " + exponent)
+                .withNoCause();
+    }
+
+    @Test
+    void power_long_should_succeed() {
+        assertThat(rational1.power(-2L)).isEqualTo(BigRational.of(BigInteger.valueOf(9L), BigInteger.valueOf(4L)));
+    }
+
+    @Test
+    void power_BigInteger_should_throw_exception_when_exponent_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> rational1.power(null))
+                .withMessage("exponent")
+                .withNoCause();
+    }
+
+    @Test
+    void power_BigInteger_should_succeed_when_this_has_trivial_powers() {
+        final var exponent = BigInteger.ONE.shiftLeft(100);
+        final var minusOne = BigRational.of(BigInteger.ONE.negate());
+
+        assertThat(BigRational.ZERO.power(exponent)).isSameAs(BigRational.ZERO);
+        assertThat(minusOne.power(exponent)).isSameAs(BigRational.ONE);
+        assertThat(minusOne.power(exponent.add(BigInteger.ONE).negate())).isEqualTo(minusOne);
+    }
+
+    @Test
+    void power_BigInteger_should_throw_exception_when_absolute_value_of_exponent_exceeds_int() {
+        final var exponent = BigInteger.ONE.shiftLeft(100);
+
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> rational1.power(exponent))
+                .withMessage("absolute value of exponent must be at most 2147483647 but was " + exponent)
+                .withNoCause();
+    }
+
+    @Test
+    void power_BigInteger_should_succeed() {
+        assertThat(rational1.power(BigInteger.valueOf(3L)))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(8L), BigInteger.valueOf(27L)));
+    }
+
     @ParameterizedTest
     @LongRangeSource(from = -1L, to = 1L, closed = true)
     void signum_should_succeed(final long numerator) {
@@ -302,6 +619,200 @@ final class BigRationalTest {
         assertThat(BigRational.ONE.decrement()).isSameAs(BigRational.ZERO);
     }
 
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  3,  4
+            -7, 2, -4, -3
+             6, 3,  2,  2
+        """)
+    void floor_and_ceil_should_succeed(
+            final long numerator, final long denominator, final long expectedFloor, final long expectedCeil) {
+        final var rational = BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+
+        assertThat(rational.floor()).isEqualTo(expectedFloor);
+        assertThat(rational.ceil()).isEqualTo(expectedCeil);
+    }
+
+    @Test
+    void round_should_throw_exception_when_roundingMode_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ONE.round(null))
+                .withMessage("roundingMode")
+                .withNoCause();
+    }
+
+    @Test
+    void round_should_throw_exception_when_roundingMode_is_UNNECESSARY_and_this_is_not_an_integer() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> BigRational.of(BigInteger.ONE, BigInteger.TWO).round(RoundingMode.UNNECESSARY))
+                .withMessage("roundingMode must not be UNNECESSARY when rounding is necessary")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             5, 2, UP,           3
+            -5, 2, UP,          -3
+             5, 2, DOWN,         2
+            -5, 2, DOWN,        -2
+             5, 2, CEILING,      3
+            -5, 2, CEILING,     -2
+             5, 2, FLOOR,        2
+            -5, 2, FLOOR,       -3
+             5, 2, HALF_UP,      3
+            -5, 2, HALF_UP,     -3
+             5, 2, HALF_DOWN,    2
+            -5, 2, HALF_DOWN,   -2
+             5, 2, HALF_EVEN,    2
+            -7, 2, HALF_EVEN,   -4
+             5, 3, HALF_DOWN,    2
+             4, 1, UNNECESSARY,  4
+        """)
+    void round_should_succeed(
+            final long numerator, final long denominator, final RoundingMode roundingMode, final long expected) {
+        final var rational = BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+
+        assertThat(rational.round(roundingMode))
+                .isEqualTo(rational.toBigDecimal(roundingMode).toBigIntegerExact())
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  3,  1, 2
+            -7, 2, -3, -1, 2
+             6, 3,  2,  0, 1
+        """)
+    void integerPart_and_fractionalPart_should_succeed(
+            final long numerator,
+            final long denominator,
+            final long expectedIntegerPart,
+            final long expectedNumerator,
+            final long expectedDenominator) {
+        final var rational = BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+
+        assertThat(rational.integerPart()).isEqualTo(expectedIntegerPart);
+        assertThat(rational.fractionalPart())
+                .isEqualTo(
+                        BigRational.of(BigInteger.valueOf(expectedNumerator), BigInteger.valueOf(expectedDenominator)));
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_exception_when_divisor_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ONE.divideAndRemainder(null))
+                .withMessage("divisor")
+                .withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigRational.ONE.divideAndRemainder(BigRational.ZERO))
+                .withMessage("divisor must be invertible but was BigRational[numerator=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  2, 3,  5,  1, 6
+            -7, 2,  2, 3, -5, -1, 6
+             7, 2, -2, 3, -5,  1, 6
+        """)
+    void divideAndRemainder_should_succeed(
+            final long numerator,
+            final long denominator,
+            final long divisorNumerator,
+            final long divisorDenominator,
+            final long quotient,
+            final long remainderNumerator,
+            final long remainderDenominator) {
+        final var rational = BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        final var divisor =
+                BigRational.of(BigInteger.valueOf(divisorNumerator), BigInteger.valueOf(divisorDenominator));
+
+        assertThat(rational.divideAndRemainder(divisor))
+                .containsExactly(
+                        BigRational.of(BigInteger.valueOf(quotient)),
+                        BigRational.of(
+                                BigInteger.valueOf(remainderNumerator), BigInteger.valueOf(remainderDenominator)));
+    }
+
+    @Test
+    void isPerfectSquare_should_succeed() {
+        assertThat(BigRational.of(BigInteger.valueOf(9L), BigInteger.valueOf(4L)).isPerfectSquare()).isTrue();
+        assertThat(BigRational.of(BigInteger.valueOf(9L), BigInteger.valueOf(8L)).isPerfectSquare()).isFalse();
+        assertThat(BigRational.of(BigInteger.valueOf(-9L), BigInteger.valueOf(4L)).isPerfectSquare()).isFalse();
+    }
+
+    @Test
+    void sqrtExact_should_succeed() {
+        assertThat(BigRational.of(BigInteger.valueOf(49L), BigInteger.valueOf(64L)).sqrtExact())
+                .hasValue(BigRational.of(BigInteger.valueOf(7L), BigInteger.valueOf(8L)));
+        assertThat(BigRational.of(BigInteger.valueOf(2L), BigInteger.valueOf(9L)).sqrtExact()).isEmpty();
+        assertThat(BigRational.of(BigInteger.valueOf(-1L), BigInteger.valueOf(4L)).sqrtExact()).isEmpty();
+    }
+
+    @Test
+    void nthRootExact_should_succeed() {
+        assertThat(BigRational.of(BigInteger.valueOf(-27L), BigInteger.valueOf(8L)).nthRootExact(3))
+                .hasValue(BigRational.of(BigInteger.valueOf(-3L), BigInteger.valueOf(2L)));
+        assertThat(BigRational.of(BigInteger.valueOf(16L), BigInteger.valueOf(81L)).nthRootExact(4))
+                .hasValue(BigRational.of(BigInteger.valueOf(2L), BigInteger.valueOf(3L)));
+        assertThat(BigRational.of(BigInteger.valueOf(16L), BigInteger.valueOf(27L)).nthRootExact(3)).isEmpty();
+    }
+
+    @Test
+    void nthRootExact_should_throw_exception_when_n_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> rational1.nthRootExact(0))
+                .withMessage("n must be positive but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void sqrt_should_succeed() {
+        assertThat(BigRational.of(BigInteger.TWO).sqrt(new MathContext(20)))
+                .isEqualTo(new BigDecimal("1.4142135623730950488"));
+        assertThat(BigRational.of(BigInteger.ONE, BigInteger.valueOf(4L))
+                        .sqrt(new MathContext(5, RoundingMode.UNNECESSARY)))
+                .isEqualTo(new BigDecimal("0.5"));
+        assertThat(rational1.sqrt(new MathContext(6, RoundingMode.UP))).isEqualTo(new BigDecimal("0.816497"));
+        assertThat(rational1.sqrt(new MathContext(6, RoundingMode.DOWN))).isEqualTo(new BigDecimal("0.816496"));
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_this_is_negative() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> rational1.negate().sqrt(MathContext.DECIMAL64))
+                .withMessage("this must not be negative but was " + rational1.negate())
+                .withNoCause();
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_rounding_is_necessary_but_not_allowed() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> rational1.sqrt(new MathContext(5, RoundingMode.UNNECESSARY)));
+    }
+
+    @Test
+    void nthRoot_should_succeed() {
+        assertThat(BigRational.of(BigInteger.valueOf(-2L)).nthRoot(3, MathContext.DECIMAL32))
+                .isEqualTo(new BigDecimal("-1.259921"));
+        assertThat(BigRational.of(BigInteger.ONE, BigInteger.valueOf(1000L)).nthRoot(3, MathContext.DECIMAL32))
+                .isEqualTo(new BigDecimal("0.1"));
+        assertThat(rational1.nthRoot(1, MathContext.DECIMAL32))
+                .isEqualTo(rational1.toBigDecimal(MathContext.DECIMAL32));
+    }
+
+    @Test
+    void nthRoot_should_throw_exception_when_precision_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> rational1.nthRoot(3, MathContext.UNLIMITED))
+                .withMessage("mathContext must have a positive precision but had precision 0")
+                .withNoCause();
+    }
+
     @Test
     void toBigDecimal_with_scale_and_roundingMode_should_succeed() {
         assertThat(BigRational.of(BigInteger.ONE, BigInteger.valueOf(3L)).toBigDecimal(2, RoundingMode.UP))
@@ -320,6 +831,18 @@ final class BigRationalTest {
                 .isEqualTo(new BigDecimal("0.3333333"));
     }
 
+    @Test
+    void toLongRational_should_throw_exception_when_numerator_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() ->
+                        BigRational.of(BigInteger.ONE.shiftLeft(Long.SIZE)).toLongRational());
+    }
+
+    @Test
+    void toLongRational_should_succeed() {
+        assertThat(rational1.toLongRational()).isEqualTo(LongRational.of(2L, 3L));
+    }
+
     @ParameterizedTest
     @CsvSource(textBlock = """
         2, 1, -1
@@ -331,6 +854,56 @@ final class BigRationalTest {
                 .isSameAs(expected);
     }
 
+    @Test
+    void compareTo_LongRational_should_throw_exception_when_other_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigRational.ZERO.compareTo((LongRational) null))
+                .withMessage("other")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+        1, 2, 1, -1
+        1, 1, 1,  0
+        1, 1, 2,  1
+        36893488147419103232, 1, 1, 1
+        -36893488147419103232, 1, 1, -1
+        36893488147419103232, 9223372036854775807, 1, 1
+        -36893488147419103232, 1, -1, -1
+        """)
+    void compareTo_LongRational_should_succeed(
+            final BigInteger numerator, final long otherNumerator, final long otherDenominator, final int expected) {
+        assertThat(BigRational.of(numerator).compareTo(LongRational.of(otherNumerator, otherDenominator)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void equals_and_hashCode_should_succeed() {
+        final var rational = BigRational.of(BigInteger.valueOf(4L), BigInteger.valueOf(6L));
+
+        assertThat(rational).isEqualTo(rational1).hasSameHashCodeAs(rational1).isNotEqualTo(rational2);
+    }
+
+    @Test
+    void hashCode_should_be_cached_and_consistent_with_equals() {
+        final var numerator = BigInteger.ONE.shiftLeft(10_000).add(BigInteger.ONE);
+        final var denominator = BigInteger.valueOf(3L);
+        final var rational = BigRational.of(numerator, denominator);
+        final var hashCode = (int) BigIntegers.hash(numerator, denominator);
+
+        assertThat(rational.hashCode()).isEqualTo(hashCode);
+        assertThat(rational.hashCode()).isEqualTo(hashCode);
+        assertThat(BigRational.of(numerator.shiftLeft(1), denominator.shiftLeft(1)))
+                .isEqualTo(rational)
+                .hasSameHashCodeAs(rational);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(rational1).hasToString("BigRational[numerator=2, denominator=3]");
+    }
+
     @Nested
     class ComparatorTest {
         @ParameterizedTest
@@ -0,0 +1,94 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleComplexTest {
+    private final DoubleComplex complex1 = DoubleComplex.of(3D, 4D);
+    private final DoubleComplex complex2 = DoubleComplex.of(1D, -2D);
+
+    @Test
+    void ofPolar_should_succeed() {
+        final var complex = DoubleComplex.ofPolar(2D, Math.PI / 2D);
+
+        assertThat(complex.real()).isCloseTo(0D, within(1E-15));
+        assertThat(complex.imaginary()).isEqualTo(2D);
+    }
+
+    @Test
+    void abs_norm_and_argument_should_succeed() {
+        assertThat(complex1.abs()).isEqualTo(5D);
+        assertThat(complex1.norm()).isEqualTo(25D);
+        assertThat(DoubleComplex.I.argument()).isEqualTo(Math.PI / 2D);
+    }
+
+    @Test
+    void abs_should_not_overflow() {
+        assertThat(DoubleComplex.of(3E200, 4E200).abs()).isCloseTo(5E200, within(1E186));
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> complex1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_and_subtract_should_succeed() {
+        assertThat(complex1.add(complex2)).isEqualTo(DoubleComplex.of(4D, 2D));
+        assertThat(complex1.subtract(complex2)).isEqualTo(DoubleComplex.of(2D, 6D));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(complex1.multiply(complex2)).isEqualTo(DoubleComplex.of(11D, -2D));
+        assertThat(complex1.multiply(2D)).isEqualTo(DoubleComplex.of(6D, 8D));
+        assertThat(complex1.multiply(complex1.conjugate())).isEqualTo(DoubleComplex.of(complex1.norm()));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> complex1.divide(DoubleComplex.ZERO))
+                .withMessage("divisor must be invertible but was DoubleComplex[real=0.0, imaginary=0.0]")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(complex1.divide(complex2)).isEqualTo(DoubleComplex.of(-1D, 2D));
+        assertThat(complex2.divide(complex1)).isEqualTo(DoubleComplex.of(-0.2D, -0.4D));
+    }
+
+    @Test
+    void divide_should_not_overflow() {
+        final var complex = DoubleComplex.of(1E300, 1E300);
+
+        assertThat(complex.divide(complex)).isEqualTo(DoubleComplex.ONE);
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_0() {
+        assertThatIllegalStateException()
+                .isThrownBy(DoubleComplex.ZERO::invert)
+                .withMessage("this must be invertible but was DoubleComplex[real=0.0, imaginary=0.0]")
+                .withNoCause();
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(DoubleComplex.of(1D, 1D).power(2)).isEqualTo(DoubleComplex.of(0D, 2D));
+        assertThat(DoubleComplex.of(1D, 1D).power(-2)).isEqualTo(DoubleComplex.of(0D, -0.5D));
+        assertThat(complex1.power(0)).isSameAs(DoubleComplex.ONE);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DoubleIntervalTest {
+    private final DoubleInterval interval1 = DoubleInterval.of(1D, 2D);
+    private final DoubleInterval interval2 = DoubleInterval.of(-3D, 0.5D);
+
+    @Test
+    void constructor_should_throw_exception_when_lower_is_greater_than_upper() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DoubleInterval.of(2D, 1D))
+                .withMessage("bounds must enclose a real number but lower was 2.0 and upper was 1.0")
+                .withNoCause();
+    }
+
+    @Test
+    void constructor_should_throw_exception_when_a_bound_is_NaN_or_the_wrong_infinity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> DoubleInterval.of(Double.NaN, 1D));
+        assertThatIllegalArgumentException().isThrownBy(() -> DoubleInterval.of(Double.POSITIVE_INFINITY));
+        assertThatIllegalArgumentException().isThrownBy(() -> DoubleInterval.of(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void of_should_throw_exception_when_rational_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DoubleInterval.of((BigRational) null))
+                .withMessage("rational")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_enclose_rationals() {
+        final var random = new Random(42L);
+        for (var i = 0; i < 1_000; i++) {
+            final var numerator = new BigInteger(1 + random.nextInt(3_000), random).subtract(BigInteger.TEN);
+            final var denominator = new BigInteger(1 + random.nextInt(3_000), random).add(BigInteger.ONE);
+            final var rational = BigRational.of(numerator, denominator);
+
+            assertEncloses(DoubleInterval.of(rational), rational);
+        }
+        final var third = LongRational.of(-1L, 3L);
+        assertEncloses(DoubleInterval.of(third), BigRational.of(BigInteger.ONE.negate(), BigInteger.valueOf(3L)));
+        assertThat(DoubleInterval.of(third).contains(-1D / 3D)).isTrue();
+        final var tiny = DyadicRational.of(3L, -1_100);
+        assertEncloses(DoubleInterval.of(tiny), tiny.toBigRational());
+        assertThat(DoubleInterval.of(tiny).isPositive()).isFalse();
+        assertThat(DoubleInterval.of(DyadicRational.of(3L, 2_000)).upper()).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(DoubleInterval.of(BigRational.ZERO)).isEqualTo(DoubleInterval.ZERO);
+    }
+
+    @Test
+    void predicates_should_succeed() {
+        assertThat(interval1.isPositive()).isTrue();
+        assertThat(interval1.isNegative()).isFalse();
+        assertThat(interval2.isPositive()).isFalse();
+        assertThat(interval2.contains(0D)).isTrue();
+        assertThat(DoubleInterval.ZERO.isZero()).isTrue();
+        assertThat(interval2.negate()).isEqualTo(DoubleInterval.of(-0.5D, 3D));
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> interval1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void arithmetic_should_round_outwards() {
+        assertThat(interval1.add(interval2))
+                .isEqualTo(DoubleInterval.of(Math.nextDown(-2D), Math.nextUp(2.5D)));
+        assertThat(interval1.subtract(interval2))
+                .isEqualTo(DoubleInterval.of(Math.nextDown(0.5D), Math.nextUp(5D)));
+        assertThat(interval1.multiply(interval2))
+                .isEqualTo(DoubleInterval.of(Math.nextDown(-6D), Math.nextUp(1D)));
+        assertThat(interval2.divide(interval1))
+                .isEqualTo(DoubleInterval.of(Math.nextDown(-3D), Math.nextUp(0.5D)));
+        final var sum = DoubleInterval.of(0.1D).add(DoubleInterval.of(0.2D));
+        assertThat(sum.contains(0.1D + 0.2D)).isTrue();
+        assertThat(sum.width()).isLessThan(1E-15);
+    }
+
+    @Test
+    void multiply_should_treat_products_of_0_and_infinite_bounds_as_0() {
+        assertThat(DoubleInterval.ZERO.multiply(DoubleInterval.ENTIRE))
+                .isEqualTo(DoubleInterval.of(-Double.MIN_VALUE, Double.MIN_VALUE));
+    }
+
+    @Test
+    void divide_should_return_entire_when_divisor_contains_0() {
+        assertThat(interval1.divide(interval2)).isEqualTo(DoubleInterval.ENTIRE);
+    }
+
+    @Test
+    void overflow_should_keep_finite_opposite_bounds() {
+        final var large = DoubleInterval.of(Double.MAX_VALUE);
+
+        assertThat(large.add(large)).isEqualTo(DoubleInterval.of(Double.MAX_VALUE, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(interval1).hasToString("DoubleInterval[1.0, 2.0]");
+    }
+
+    private static void assertEncloses(final DoubleInterval interval, final BigRational rational) {
+        final var numerator = new BigDecimal(rational.numerator());
+        final var denominator = new BigDecimal(rational.denominator());
+        if (interval.lower() != Double.NEGATIVE_INFINITY) {
+            assertThat(new BigDecimal(interval.lower()).multiply(denominator)).isLessThanOrEqualTo(numerator);
+        }
+        if (interval.upper() != Double.POSITIVE_INFINITY) {
+            assertThat(new BigDecimal(interval.upper()).multiply(denominator)).isGreaterThanOrEqualTo(numerator);
+        }
+    }
+}
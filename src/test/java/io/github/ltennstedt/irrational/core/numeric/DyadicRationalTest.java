@@ -0,0 +1,265 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class DyadicRationalTest {
+    private final DyadicRational dyadic1 = DyadicRational.of(3L, -2);
+    private final DyadicRational dyadic2 = DyadicRational.of(5L, -3);
+
+    @Test
+    void of_mantissa_and_exponent_should_return_ZERO_when_mantissa_is_0() {
+        assertThat(DyadicRational.of(0L, 5)).isSameAs(DyadicRational.ZERO);
+        assertThat(DyadicRational.of(BigInteger.ZERO, 5)).isSameAs(DyadicRational.ZERO);
+    }
+
+    @Test
+    void of_mantissa_and_exponent_should_return_ONE_when_value_is_1() {
+        assertThat(DyadicRational.of(4L, -2)).isSameAs(DyadicRational.ONE);
+        assertThat(DyadicRational.of(BigInteger.valueOf(4L), -2)).isSameAs(DyadicRational.ONE);
+    }
+
+    @Test
+    void of_mantissa_and_exponent_should_normalize() {
+        final var dyadic = DyadicRational.of(-24L, -5);
+
+        assertThat(dyadic.mantissa()).isEqualTo(-3L);
+        assertThat(dyadic.exponent()).isEqualTo(-2);
+        assertThat(DyadicRational.of(BigInteger.valueOf(-24L), -5)).isEqualTo(dyadic);
+    }
+
+    @Test
+    void of_mantissa_and_exponent_should_throw_exception_when_exponent_overflows() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> DyadicRational.of(2L, Integer.MAX_VALUE))
+                .withMessage("integer overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void of_BigInteger_should_throw_exception_when_mantissa_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DyadicRational.of((BigInteger) null))
+                .withMessage("mantissa")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void of_double_should_throw_exception_when_value_is_not_finite(final double value) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DyadicRational.of(value))
+                .withMessage("value must be finite but was " + value)
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0D, -0D, 1D, -0.75D, 0.1D, 1e300D, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE})
+    void of_double_should_be_lossless(final double value) {
+        assertThat(DyadicRational.of(value).toDouble()).isEqualTo(value == 0D ? 0D : value);
+    }
+
+    @Test
+    void toDouble_should_round_wide_mantissas_once() {
+        final var mantissa = BigInteger.ONE.shiftLeft(1_100).add(BigInteger.ONE);
+
+        assertThat(DyadicRational.of(mantissa, -1_100).toDouble()).isEqualTo(1D);
+        assertThat(DyadicRational.of(mantissa.negate(), -1_100).toDouble()).isEqualTo(-1D);
+        assertThat(DyadicRational.of(mantissa, 0).toDouble()).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            6171367592264439439, -1086, 7.44399588670866E-309
+                              1, -1075, 0
+                              3, -1076, 4.9E-324
+                              3, -1075, 9.9E-324
+              18014398509481983,    -1, 9007199254740992
+                              1,  1024, Infinity
+        """)
+    void toDouble_should_round_to_nearest_even(final BigInteger mantissa, final int exponent, final double expected) {
+        assertThat(DyadicRational.of(mantissa, exponent).toDouble()).isEqualTo(expected);
+    }
+
+    @Test
+    void of_double_should_succeed() {
+        assertThat(DyadicRational.of(-0.75D)).isEqualTo(DyadicRational.of(-3L, -2));
+        assertThat(DyadicRational.of(Double.MIN_VALUE)).isEqualTo(DyadicRational.of(1L, -1074));
+    }
+
+    @Test
+    void of_LongRational_should_throw_exception_when_rational_is_not_dyadic() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DyadicRational.of(LongRational.of(1L, 3L)))
+                .withMessage("rational must be dyadic but was LongRational[numerator=1, denominator=3]")
+                .withNoCause();
+    }
+
+    @Test
+    void of_LongRational_should_succeed() {
+        assertThat(DyadicRational.of(LongRational.of(3L, 4L))).isEqualTo(dyadic1);
+    }
+
+    @Test
+    void of_BigRational_should_throw_exception_when_rational_is_not_dyadic() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DyadicRational.of(BigRational.of(BigInteger.ONE, BigInteger.valueOf(3L))))
+                .withMessage("rational must be dyadic but was BigRational[numerator=1, denominator=3]")
+                .withNoCause();
+    }
+
+    @Test
+    void of_BigRational_should_succeed() {
+        assertThat(DyadicRational.of(BigRational.of(BigInteger.valueOf(3L), BigInteger.valueOf(4L))))
+                .isEqualTo(dyadic1);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             8,  0, true
+             1, -1, false
+        """)
+    void isInteger_should_succeed(final long mantissa, final int exponent, final boolean expected) {
+        assertThat(DyadicRational.of(mantissa, exponent).isInteger()).isEqualTo(expected);
+    }
+
+    @Test
+    void negate_should_succeed() {
+        assertThat(dyadic1.negate()).isEqualTo(DyadicRational.of(-3L, -2));
+    }
+
+    @Test
+    void abs_should_succeed() {
+        assertThat(dyadic1.negate().abs()).isEqualTo(dyadic1);
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DyadicRational.ZERO.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        assertThat(dyadic1.add(dyadic2)).isEqualTo(DyadicRational.of(11L, -3));
+        assertThat(dyadic2.add(dyadic1)).isEqualTo(DyadicRational.of(11L, -3));
+    }
+
+    @Test
+    void add_should_normalize() {
+        assertThat(DyadicRational.of(1L, -2).add(DyadicRational.of(3L, -2))).isSameAs(DyadicRational.ONE);
+    }
+
+    @Test
+    void subtract_should_throw_exception_when_subtrahend_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DyadicRational.ZERO.subtract(null))
+                .withMessage("subtrahend")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(dyadic1.subtract(dyadic2)).isEqualTo(DyadicRational.of(1L, -3));
+        assertThat(dyadic1.subtract(dyadic1)).isSameAs(DyadicRational.ZERO);
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DyadicRational.ZERO.multiply(null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(dyadic1.multiply(dyadic2)).isEqualTo(DyadicRational.of(15L, -5));
+    }
+
+    @Test
+    void shiftLeft_and_shiftRight_should_succeed() {
+        assertThat(dyadic1.shiftLeft(2)).isEqualTo(DyadicRational.of(3L));
+        assertThat(dyadic1.shiftRight(1)).isEqualTo(DyadicRational.of(3L, -3));
+    }
+
+    @Test
+    void power_should_throw_exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> dyadic1.power(-1))
+                .withMessage("exponent must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(dyadic1.power(0)).isSameAs(DyadicRational.ONE);
+        assertThat(dyadic1.power(3)).isEqualTo(DyadicRational.of(27L, -6));
+    }
+
+    @Test
+    void min_and_max_should_succeed() {
+        assertThat(dyadic1.min(dyadic2)).isSameAs(dyadic2);
+        assertThat(dyadic1.max(dyadic2)).isSameAs(dyadic1);
+    }
+
+    @Test
+    void toLongRational_should_succeed() {
+        assertThat(dyadic1.toLongRational()).isEqualTo(LongRational.of(3L, 4L));
+        assertThat(DyadicRational.of(-1L, 63).toLongRational()).isEqualTo(LongRational.of(Long.MIN_VALUE));
+    }
+
+    @Test
+    void toLongRational_should_throw_exception_when_numerator_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> DyadicRational.of(1L, 63).toLongRational())
+                .withMessage("numerator must fit into long but was 9223372036854775808")
+                .withNoCause();
+    }
+
+    @Test
+    void toLongRational_should_throw_exception_when_denominator_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> DyadicRational.of(1L, -63).toLongRational())
+                .withMessage("denominator must fit into long but was 2^63")
+                .withNoCause();
+    }
+
+    @Test
+    void toBigRational_should_succeed() {
+        assertThat(dyadic1.toBigRational()).isEqualTo(BigRational.of(BigInteger.valueOf(3L), BigInteger.valueOf(4L)));
+        assertThat(DyadicRational.of(3L, 2).toBigRational()).isEqualTo(BigRational.of(BigInteger.valueOf(12L)));
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             3, -2,  5, -3,  1
+             5, -3,  3, -2, -1
+            -3, -2, -5, -3, -1
+             3, -2,  3, -2,  0
+             1, 10,  1023, 0, 1
+            -1,  0,  0,  0, -1
+        """)
+    void compareTo_should_succeed(
+            final long mantissa,
+            final int exponent,
+            final long otherMantissa,
+            final int otherExponent,
+            final int expected) {
+        assertThat(DyadicRational.of(mantissa, exponent).compareTo(DyadicRational.of(otherMantissa, otherExponent)))
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,291 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongDecimalTest {
+    private final LongDecimal decimal1 = LongDecimal.of(1_050L, 2);
+    private final LongDecimal decimal2 = LongDecimal.of(25L, 1);
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 19})
+    void constructor_should_throw_exception_when_scale_is_out_of_range(final int scale) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongDecimal(1L, scale))
+                .withMessage("scale must be between 0 and 18 but was " + scale)
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_return_constants() {
+        assertThat(LongDecimal.of(0L)).isSameAs(LongDecimal.ZERO);
+        assertThat(LongDecimal.of(1L)).isSameAs(LongDecimal.ONE);
+    }
+
+    @Test
+    void of_BigDecimal_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongDecimal.of(null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void of_BigDecimal_should_succeed() {
+        assertThat(LongDecimal.of(new BigDecimal("10.50"))).isEqualTo(decimal1);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            200, 2, true
+            250, 2, false
+        """)
+    void isInteger_should_succeed(final long unscaledValue, final int scale, final boolean expected) {
+        assertThat(LongDecimal.of(unscaledValue, scale).isInteger()).isEqualTo(expected);
+    }
+
+    @Test
+    void isOne_should_succeed() {
+        assertThat(LongDecimal.of(100L, 2).isOne()).isTrue();
+        assertThat(decimal1.isOne()).isFalse();
+    }
+
+    @Test
+    void negate_should_throw_exception_when_an_overflow_occurs() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongDecimal.of(Long.MIN_VALUE).negate())
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void abs_should_succeed() {
+        assertThat(decimal1.negate().abs()).isEqualTo(decimal1);
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongDecimal.ZERO.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        assertThat(decimal1.add(decimal2)).isEqualTo(LongDecimal.of(1_300L, 2));
+        assertThat(decimal1.add(decimal1)).isEqualTo(LongDecimal.of(2_100L, 2));
+    }
+
+    @Test
+    void add_should_throw_exception_when_an_overflow_occurs() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongDecimal.of(Long.MAX_VALUE).add(LongDecimal.ONE))
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_should_throw_exception_when_subtrahend_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongDecimal.ZERO.subtract(null))
+                .withMessage("subtrahend")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(decimal1.subtract(decimal2)).isEqualTo(LongDecimal.of(800L, 2));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongDecimal.ZERO.multiply(null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(decimal1.multiply(decimal2)).isEqualTo(LongDecimal.of(26_250L, 3));
+    }
+
+    @Test
+    void multiply_long_should_succeed() {
+        assertThat(decimal1.multiply(3L)).isEqualTo(LongDecimal.of(3_150L, 2));
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             333, 2, 15, 1, HALF_UP,      500
+             333, 2, 15, 1, HALF_EVEN,    500
+            -333, 2, 15, 1, FLOOR,       -500
+            -333, 2, 15, 1, CEILING,     -499
+             100, 2, 15, 1, UNNECESSARY,  150
+        """)
+    void multiply_with_roundingMode_should_succeed(
+            final long unscaledValue,
+            final int scale,
+            final long multiplierUnscaledValue,
+            final int multiplierScale,
+            final RoundingMode roundingMode,
+            final long expected) {
+        assertThat(LongDecimal.of(unscaledValue, scale)
+                        .multiply(LongDecimal.of(multiplierUnscaledValue, multiplierScale), roundingMode))
+                .isEqualTo(LongDecimal.of(expected, scale));
+    }
+
+    @Test
+    void multiply_with_roundingMode_should_not_overflow_when_only_the_exact_product_does_not_fit_into_long() {
+        assertThat(LongDecimal.of(Long.MAX_VALUE / 10L, 2)
+                        .multiply(LongDecimal.of(1_000_000_000_000_000_000L, 18), RoundingMode.UNNECESSARY))
+                .isEqualTo(LongDecimal.of(Long.MAX_VALUE / 10L, 2));
+    }
+
+    @Test
+    void multiply_with_roundingMode_should_throw_exception_when_rounding_is_necessary() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> decimal1.multiply(LongDecimal.of(1L, 3), RoundingMode.UNNECESSARY))
+                .withMessage("roundingMode must not be UNNECESSARY when rounding is necessary")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> decimal1.divide(LongDecimal.ZERO))
+                .withMessage("divisor must be invertible but was LongDecimal[unscaledValue=0, scale=0]")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(decimal1.divide(LongDecimal.of(2L))).isEqualTo(LongDecimal.of(525L, 2));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_quotient_cannot_be_represented_with_the_scale_of_this() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> decimal1.divide(LongDecimal.of(4L)))
+                .withMessage("roundingMode must not be UNNECESSARY when rounding is necessary")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_with_roundingMode_should_succeed() {
+        assertThat(decimal1.divide(LongDecimal.of(3L), RoundingMode.HALF_UP)).isEqualTo(LongDecimal.of(350L, 2));
+        assertThat(LongDecimal.of(100L, 2).divide(LongDecimal.of(3L), RoundingMode.UP))
+                .isEqualTo(LongDecimal.of(34L, 2));
+    }
+
+    @Test
+    void divide_long_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> decimal1.divide(0L, RoundingMode.HALF_UP))
+                .withMessage("divisor must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_long_should_succeed() {
+        assertThat(LongDecimal.of(100L, 2).divide(-3L, RoundingMode.HALF_EVEN)).isEqualTo(LongDecimal.of(-33L, 2));
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_not_invertible() {
+        assertThatIllegalStateException()
+                .isThrownBy(LongDecimal.ZERO::invert)
+                .withMessage("this must be invertible but was LongDecimal[unscaledValue=0, scale=0]")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(LongDecimal.of(25L, 2).invert()).isEqualTo(LongDecimal.of(400L, 2));
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(decimal2.power(3)).isEqualTo(LongDecimal.of(15_625L, 3));
+        assertThat(LongDecimal.of(25L, 2).power(-2)).isEqualTo(LongDecimal.of(160_000L, 4));
+        assertThat(LongDecimal.ONE.power(Integer.MAX_VALUE)).isSameAs(LongDecimal.ONE);
+    }
+
+    @Test
+    void power_should_throw_exception_when_scale_is_too_large() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> decimal1.power(10))
+                .withMessage("scale must be between 0 and 18 but was 20")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            1, HALF_UP,     105
+            0, HALF_EVEN,   10
+            4, UNNECESSARY, 105000
+        """)
+    void setScale_should_succeed(final int newScale, final RoundingMode roundingMode, final long expected) {
+        assertThat(decimal1.setScale(newScale, roundingMode)).isEqualTo(LongDecimal.of(expected, newScale));
+    }
+
+    @Test
+    void setScale_should_throw_exception_when_newScale_is_out_of_range() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> decimal1.setScale(19, RoundingMode.HALF_UP))
+                .withMessage("newScale must be between 0 and 18 but was 19")
+                .withNoCause();
+    }
+
+    @Test
+    void min_and_max_should_succeed() {
+        assertThat(decimal1.min(decimal2)).isSameAs(decimal2);
+        assertThat(decimal1.max(decimal2)).isSameAs(decimal1);
+    }
+
+    @Test
+    void toLongRational_should_succeed() {
+        assertThat(decimal1.toLongRational()).isEqualTo(LongRational.of(21L, 2L));
+    }
+
+    @Test
+    void toBigDecimal_should_succeed() {
+        assertThat(decimal1.toBigDecimal()).isEqualTo(new BigDecimal("10.50"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            1050, 2,  25,  1,  1
+            1050, 2, 105,  1,  0
+              25, 1, 1050, 2, -1
+        """)
+    void compareTo_should_succeed(
+            final long unscaledValue,
+            final int scale,
+            final long otherUnscaledValue,
+            final int otherScale,
+            final int expected) {
+        assertThat(LongDecimal.of(unscaledValue, scale).compareTo(LongDecimal.of(otherUnscaledValue, otherScale)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void compareTo_should_not_overflow() {
+        assertThat(LongDecimal.of(Long.MAX_VALUE, 0).compareTo(LongDecimal.of(Long.MAX_VALUE, 18)))
+                .isPositive();
+    }
+}
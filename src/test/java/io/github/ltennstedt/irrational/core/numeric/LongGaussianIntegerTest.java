@@ -0,0 +1,172 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongGaussianIntegerTest {
+    private final LongGaussianInteger gaussian1 = LongGaussianInteger.of(3L, 2L);
+    private final LongGaussianInteger gaussian2 = LongGaussianInteger.of(1L, -1L);
+
+    @Test
+    void of_should_return_constants() {
+        assertThat(LongGaussianInteger.of(0L)).isSameAs(LongGaussianInteger.ZERO);
+        assertThat(LongGaussianInteger.of(1L)).isSameAs(LongGaussianInteger.ONE);
+        assertThat(LongGaussianInteger.of(0L, 1L)).isSameAs(LongGaussianInteger.I);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             1,  0, true
+            -1,  0, true
+             0,  1, true
+             0, -1, true
+             1,  1, false
+             0,  0, false
+        """)
+    void isInvertible_should_succeed(final long real, final long imaginary, final boolean expected) {
+        assertThat(LongGaussianInteger.of(real, imaginary).isInvertible()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             3,  2, 3, 2
+            -2,  3, 3, 2
+            -3, -2, 3, 2
+             2, -3, 3, 2
+             0, -5, 5, 0
+        """)
+    void abs_should_return_the_associate_in_the_first_quadrant(
+            final long real, final long imaginary, final long expectedReal, final long expectedImaginary) {
+        assertThat(LongGaussianInteger.of(real, imaginary).abs())
+                .isEqualTo(LongGaussianInteger.of(expectedReal, expectedImaginary));
+    }
+
+    @Test
+    void conjugate_and_norm_should_succeed() {
+        assertThat(gaussian1.conjugate()).isEqualTo(LongGaussianInteger.of(3L, -2L));
+        assertThat(gaussian1.norm()).isEqualTo(13L);
+    }
+
+    @Test
+    void norm_should_throw_exception_when_the_norm_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongGaussianInteger.of(Long.MAX_VALUE, 1L).norm())
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> gaussian1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_and_subtract_should_succeed() {
+        assertThat(gaussian1.add(gaussian2)).isEqualTo(LongGaussianInteger.of(4L, 1L));
+        assertThat(gaussian1.subtract(gaussian2)).isEqualTo(LongGaussianInteger.of(2L, 3L));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(gaussian1.multiply(gaussian2)).isEqualTo(LongGaussianInteger.of(5L, -1L));
+        assertThat(LongGaussianInteger.I.multiply(LongGaussianInteger.I)).isEqualTo(LongGaussianInteger.of(-1L));
+    }
+
+    @Test
+    void multiply_should_not_overflow_when_only_intermediate_products_do_not_fit_into_long() {
+        final var gaussian = LongGaussianInteger.of(3_037_000_500L, 12_062L);
+
+        assertThat(gaussian.multiply(gaussian))
+                .isEqualTo(LongGaussianInteger.of(9_223_372_036_854_758_156L, 73_264_600_062_000L));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_an_overflow_occurs() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongGaussianInteger.of(Long.MAX_VALUE, 1L).multiply(LongGaussianInteger.of(2L)))
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(gaussian1.multiply(gaussian2).divide(gaussian2)).isEqualTo(gaussian1);
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_does_not_divide_this() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> gaussian1.divide(gaussian2))
+                .withMessage("divisor must divide this but was LongGaussianInteger[real=1, imaginary=-1]")
+                .withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> gaussian1.divideAndRemainder(LongGaussianInteger.ZERO))
+                .withMessage("divisor must not be 0 but was LongGaussianInteger[real=0, imaginary=0]")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            7, 5, 2, -1
+            -4000000000000000000, 4000000000000000001, 3, 1234567890
+            4611686018427387903, -4611686018427387904, 2147483648, -3
+        """)
+    void divideAndRemainder_should_return_a_remainder_with_at_most_half_the_norm_of_the_divisor(
+            final long real, final long imaginary, final long divisorReal, final long divisorImaginary) {
+        final var dividend = LongGaussianInteger.of(real, imaginary);
+        final var divisor = LongGaussianInteger.of(divisorReal, divisorImaginary);
+
+        final var quotientAndRemainder = dividend.divideAndRemainder(divisor);
+
+        assertThat(quotientAndRemainder[0].multiply(divisor).add(quotientAndRemainder[1])).isEqualTo(dividend);
+        assertThat(quotientAndRemainder[1].norm()).isLessThanOrEqualTo(divisor.norm() / 2);
+    }
+
+    @Test
+    void gcd_should_succeed() {
+        final var common = gaussian1.multiply(gaussian2);
+        final var a = common.multiply(LongGaussianInteger.of(5L, -7L));
+        final var b = common.multiply(LongGaussianInteger.of(2L, 9L));
+
+        assertThat(a.gcd(b)).isEqualTo(common.abs());
+        assertThat(LongGaussianInteger.of(2L).gcd(LongGaussianInteger.of(3L))).isSameAs(LongGaussianInteger.ONE);
+        assertThat(LongGaussianInteger.ZERO.gcd(LongGaussianInteger.ZERO)).isSameAs(LongGaussianInteger.ZERO);
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_not_a_unit() {
+        assertThatIllegalStateException()
+                .isThrownBy(gaussian1::invert)
+                .withMessage("this must be invertible but was LongGaussianInteger[real=3, imaginary=2]")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(LongGaussianInteger.I.invert()).isEqualTo(LongGaussianInteger.of(0L, -1L));
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(gaussian2.power(4)).isEqualTo(LongGaussianInteger.of(-4L));
+        assertThat(LongGaussianInteger.I.power(-3)).isSameAs(LongGaussianInteger.I);
+        assertThat(LongGaussianInteger.I.power(Integer.MIN_VALUE)).isSameAs(LongGaussianInteger.ONE);
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class LongGaussianRationalTest {
+    private final LongGaussianRational gaussian1 = LongGaussianRational.of(1L, 2L, 3L);
+    private final LongGaussianRational gaussian2 = LongGaussianRational.of(3L, -1L, 4L);
+
+    @Test
+    void constructor_should_throw_exception_when_denominator_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongGaussianRational.of(0L, 0L, 0L))
+                .withMessage("denominator must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void constructor_should_reduce_and_normalize_the_sign() {
+        assertThat(new LongGaussianRational(2L, -4L, -6L)).isEqualTo(new LongGaussianRational(-1L, 2L, 3L));
+    }
+
+    @Test
+    void of_should_return_constants() {
+        assertThat(LongGaussianRational.of(0L, 0L, 5L)).isSameAs(LongGaussianRational.ZERO);
+        assertThat(LongGaussianRational.of(5L, 0L, 5L)).isSameAs(LongGaussianRational.ONE);
+        assertThat(LongGaussianRational.of(0L, 1L)).isSameAs(LongGaussianRational.I);
+    }
+
+    @Test
+    void of_LongRational_should_succeed() {
+        final var gaussian = LongGaussianRational.of(LongRational.of(1L, 6L), LongRational.of(3L, 4L));
+
+        assertThat(gaussian).isEqualTo(LongGaussianRational.of(2L, 9L, 12L));
+        assertThat(gaussian.realPart()).isEqualTo(LongRational.of(1L, 6L));
+        assertThat(gaussian.imaginaryPart()).isEqualTo(LongRational.of(3L, 4L));
+    }
+
+    @Test
+    void of_LongGaussianInteger_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongGaussianRational.of(null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void norm_should_succeed() {
+        assertThat(gaussian1.norm()).isEqualTo(LongRational.of(5L, 9L));
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> gaussian1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_and_subtract_should_succeed() {
+        assertThat(gaussian1.add(gaussian2)).isEqualTo(LongGaussianRational.of(13L, 5L, 12L));
+        assertThat(gaussian1.subtract(gaussian2)).isEqualTo(LongGaussianRational.of(-5L, 11L, 12L));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(gaussian1.multiply(gaussian2)).isEqualTo(LongGaussianRational.of(5L, 5L, 12L));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> gaussian1.divide(LongGaussianRational.ZERO))
+                .withMessage("divisor must be invertible but was "
+                        + "LongGaussianRational[real=0, imaginary=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        final var quotient = gaussian1.divide(gaussian2);
+
+        assertThat(quotient).isEqualTo(LongGaussianRational.of(4L, 28L, 30L));
+        assertThat(quotient.multiply(gaussian2)).isEqualTo(gaussian1);
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_not_invertible() {
+        assertThatIllegalStateException()
+                .isThrownBy(LongGaussianRational.ZERO::invert)
+                .withMessage("this must be invertible but was LongGaussianRational[real=0, imaginary=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(gaussian1.invert()).isEqualTo(LongGaussianRational.of(3L, -6L, 5L));
+        assertThat(gaussian1.invert().multiply(gaussian1)).isSameAs(LongGaussianRational.ONE);
+    }
+
+    @Test
+    void power_should_succeed() {
+        final var gaussian = LongGaussianRational.of(1L, 1L, 2L);
+
+        assertThat(gaussian.power(2)).isEqualTo(LongGaussianRational.of(0L, 1L, 2L));
+        assertThat(gaussian.power(-3)).isEqualTo(LongGaussianRational.of(-2L, -2L));
+    }
+
+    @Test
+    void toLongGaussianInteger_should_throw_exception_when_this_is_not_a_Gaussian_integer() {
+        assertThatIllegalStateException()
+                .isThrownBy(gaussian1::toLongGaussianInteger)
+                .withMessage("this must be a Gaussian integer but was "
+                        + "LongGaussianRational[real=1, imaginary=2, denominator=3]")
+                .withNoCause();
+    }
+
+    @Test
+    void toLongGaussianInteger_should_succeed() {
+        assertThat(LongGaussianRational.of(4L, -6L, 2L).toLongGaussianInteger())
+                .isEqualTo(LongGaussianInteger.of(2L, -3L));
+    }
+}
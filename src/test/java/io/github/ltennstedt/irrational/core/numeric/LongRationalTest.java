@@ -1,13 +1,16 @@
 package io.github.ltennstedt.irrational.core.numeric;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -51,6 +54,66 @@ final class LongRationalTest {
         assertThat(LongRational.of(2L, -4L)).isEqualTo(LongRational.of(-1L, 2L));
     }
 
+    @Test
+    void dot_Iterable_should_throw_exception_when_a_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.dot(null, List.of()))
+                .withMessage("a")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_Iterable_should_throw_exception_when_sizes_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.dot(List.of(LongRational.ONE), List.of()))
+                .withMessage("a and b must have the same size")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_Iterable_should_succeed() {
+        assertThat(LongRational.dot(List.of(rational1, rational2), List.of(rational2, rational1)))
+                .isEqualTo(LongRational.of(16L, 15L));
+    }
+
+    @Test
+    void dot_Iterable_should_continue_exactly_when_an_intermediate_value_overflows() {
+        assertThat(LongRational.dot(
+                        List.of(LongRational.of(1L << 32), LongRational.of(-2L), LongRational.of(1L, 2L)),
+                        List.of(LongRational.of(1L << 31), LongRational.ONE, LongRational.of(2L))))
+                .isEqualTo(LongRational.of(Long.MAX_VALUE));
+    }
+
+    @Test
+    void dot_Iterable_should_throw_exception_when_result_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(
+                        () -> LongRational.dot(List.of(LongRational.of(1L << 32)), List.of(LongRational.of(1L << 31))));
+    }
+
+    @Test
+    void dot_array_should_throw_exception_when_b_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.dot(new LongRational[0], null))
+                .withMessage("b")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_array_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.dot(new LongRational[] {LongRational.ONE}, new LongRational[0]))
+                .withMessage("a and b must have the same length but were 1 and 0")
+                .withNoCause();
+    }
+
+    @Test
+    void dot_array_should_succeed() {
+        assertThat(LongRational.dot(
+                        new LongRational[] {rational1, rational2}, new LongRational[] {rational2, rational1}))
+                .isEqualTo(LongRational.of(16L, 15L));
+    }
+
     @ParameterizedTest
     @CsvSource(textBlock = """
             0, false
@@ -165,7 +228,7 @@ final class LongRationalTest {
     @Test
     void add_should_throw_exception_when_summand_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> LongRational.ZERO.add(null))
+                .isThrownBy(() -> LongRational.ZERO.add((LongRational) null))
                 .withMessage("summand")
                 .withNoCause();
     }
@@ -175,10 +238,48 @@ final class LongRationalTest {
         assertThat(rational1.add(rational2)).isEqualTo(LongRational.of(22L, 15L));
     }
 
+    @Test
+    void add_long_should_succeed() {
+        assertThat(rational1.add(2L)).isEqualTo(LongRational.of(8L, 3L));
+    }
+
+    @Test
+    void add_BigInteger_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.add((BigInteger) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_BigInteger_should_throw_exception_when_summand_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongRational.ZERO.add(BigInteger.ONE.shiftLeft(Long.SIZE)));
+    }
+
+    @Test
+    void add_BigInteger_should_succeed() {
+        assertThat(rational1.add(BigInteger.TWO)).isEqualTo(LongRational.of(8L, 3L));
+    }
+
+    @Test
+    void add_BigRational_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.add((BigRational) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_BigRational_should_succeed() {
+        assertThat(rational1.add(rational2.toBigRational()))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(22L), BigInteger.valueOf(15L)));
+    }
+
     @Test
     void subtract_should_throw_exception_when_subtrahend_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> LongRational.ZERO.subtract(null))
+                .isThrownBy(() -> LongRational.ZERO.subtract((LongRational) null))
                 .withMessage("subtrahend")
                 .withNoCause();
     }
@@ -188,10 +289,28 @@ final class LongRationalTest {
         assertThat(rational1.subtract(rational2)).isEqualTo(LongRational.of(-2L, 15L));
     }
 
+    @Test
+    void subtract_long_should_succeed() {
+        assertThat(rational1.subtract(2L)).isEqualTo(LongRational.of(-4L, 3L));
+    }
+
+    @Test
+    void subtract_BigInteger_should_throw_exception_when_subtrahend_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.subtract((BigInteger) null))
+                .withMessage("subtrahend")
+                .withNoCause();
+    }
+
+    @Test
+    void subtract_BigInteger_should_succeed() {
+        assertThat(rational1.subtract(BigInteger.TWO)).isEqualTo(LongRational.of(-4L, 3L));
+    }
+
     @Test
     void multiply_should_throw_exception_when_multiplier_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> LongRational.ZERO.multiply(null))
+                .isThrownBy(() -> LongRational.ZERO.multiply((LongRational) null))
                 .withMessage("multiplier")
                 .withNoCause();
     }
@@ -201,10 +320,87 @@ final class LongRationalTest {
         assertThat(rational1.multiply(rational2)).isEqualTo(LongRational.of(8L, 15L));
     }
 
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             0, 0, 1
+             3, 2, 1
+            -6, -4, 1
+             2, 4, 3
+        """)
+    void multiply_long_should_succeed(final long multiplier, final long numerator, final long denominator) {
+        assertThat(rational1.multiply(multiplier)).isEqualTo(LongRational.of(numerator, denominator));
+    }
+
+    @Test
+    void multiply_long_should_cancel_before_multiplying() {
+        assertThat(LongRational.of(1L, 3L).multiply(3L * (Long.MAX_VALUE / 3L)))
+                .isEqualTo(LongRational.of(Long.MAX_VALUE / 3L));
+    }
+
+    @Test
+    void multiply_BigInteger_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.multiply((BigInteger) null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_BigInteger_should_succeed() {
+        assertThat(rational1.multiply(BigInteger.valueOf(3L))).isEqualTo(LongRational.of(2L));
+    }
+
+    @Test
+    void multiply_BigRational_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.multiply((BigRational) null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_BigRational_should_succeed() {
+        assertThat(rational1.multiply(rational2.toBigRational()))
+                .isEqualTo(BigRational.of(BigInteger.valueOf(8L), BigInteger.valueOf(15L)));
+    }
+
+    @Test
+    void multiplyAdd_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.multiplyAdd(null, LongRational.ONE))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiplyAdd_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.multiplyAdd(LongRational.ONE, null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void multiplyAdd_should_succeed() {
+        assertThat(rational1.multiplyAdd(rational2, rational1)).isEqualTo(LongRational.of(6L, 5L));
+    }
+
+    @Test
+    void multiplyAdd_should_not_overflow_when_only_the_product_does_not_fit_into_long() {
+        assertThat(LongRational.of(1L << 32).multiplyAdd(LongRational.of(1L << 31), LongRational.of(-1L)))
+                .isEqualTo(LongRational.of(Long.MAX_VALUE));
+    }
+
+    @Test
+    void multiplyAdd_should_throw_exception_when_result_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongRational.of(1L << 32).multiplyAdd(LongRational.of(1L << 31), LongRational.ONE));
+    }
+
     @Test
     void divide_should_throw_exception_when_divisor_is_null() {
         assertThatNullPointerException()
-                .isThrownBy(() -> LongRational.ZERO.divide(null))
+                .isThrownBy(() -> LongRational.ZERO.divide((LongRational) null))
                 .withMessage("divisor")
                 .withNoCause();
     }
@@ -222,6 +418,37 @@ final class LongRationalTest {
         assertThat(rational1.divide(rational2)).isEqualTo(LongRational.of(5L, 6L));
     }
 
+    @Test
+    void divide_long_should_throw_exception_when_divisor_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.ONE.divide(0L))
+                .withMessage("divisor must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             2, 1, 3
+            -4, -1, 6
+             3, 2, 9
+        """)
+    void divide_long_should_succeed(final long divisor, final long numerator, final long denominator) {
+        assertThat(rational1.divide(divisor)).isEqualTo(LongRational.of(numerator, denominator));
+    }
+
+    @Test
+    void divide_BigInteger_should_throw_exception_when_divisor_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.divide((BigInteger) null))
+                .withMessage("divisor")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_BigInteger_should_succeed() {
+        assertThat(rational1.divide(BigInteger.TWO)).isEqualTo(LongRational.of(1L, 3L));
+    }
+
     @Test
     void invert_should_throw_exception_when_this_is_not_invertible() {
         assertThatIllegalStateException()
@@ -294,6 +521,215 @@ final class LongRationalTest {
         assertThat(LongRational.ONE.decrement()).isSameAs(LongRational.ZERO);
     }
 
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7,  2,  3
+            -7,  2, -4
+             6,  3,  2
+            -6,  3, -2
+        """)
+    void floor_should_succeed(final long numerator, final long denominator, final long expected) {
+        assertThat(LongRational.of(numerator, denominator).floor()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7,  2,  4
+            -7,  2, -3
+             6,  3,  2
+            -6,  3, -2
+        """)
+    void ceil_should_succeed(final long numerator, final long denominator, final long expected) {
+        assertThat(LongRational.of(numerator, denominator).ceil()).isEqualTo(expected);
+    }
+
+    @Test
+    void round_should_throw_exception_when_roundingMode_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ONE.round(null))
+                .withMessage("roundingMode")
+                .withNoCause();
+    }
+
+    @Test
+    void round_should_throw_exception_when_roundingMode_is_UNNECESSARY_and_this_is_not_an_integer() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongRational.of(1L, 2L).round(RoundingMode.UNNECESSARY))
+                .withMessage("roundingMode must not be UNNECESSARY when rounding is necessary")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             5, 2, UP,           3
+            -5, 2, UP,          -3
+             5, 2, DOWN,         2
+            -5, 2, DOWN,        -2
+             5, 2, CEILING,      3
+            -5, 2, CEILING,     -2
+             5, 2, FLOOR,        2
+            -5, 2, FLOOR,       -3
+             5, 2, HALF_UP,      3
+            -5, 2, HALF_UP,     -3
+             5, 2, HALF_DOWN,    2
+            -5, 2, HALF_DOWN,   -2
+             5, 2, HALF_EVEN,    2
+             7, 2, HALF_EVEN,    4
+            -7, 2, HALF_EVEN,   -4
+             5, 3, HALF_DOWN,    2
+            -4, 3, HALF_UP,     -1
+             4, 1, UNNECESSARY,  4
+        """)
+    void round_should_succeed(
+            final long numerator, final long denominator, final RoundingMode roundingMode, final long expected) {
+        assertThat(LongRational.of(numerator, denominator).round(roundingMode))
+                .isEqualTo(LongRational.of(numerator, denominator)
+                        .toBigDecimal(roundingMode)
+                        .longValueExact())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void round_should_not_overflow() {
+        assertThat(LongRational.of(Long.MAX_VALUE, Long.MAX_VALUE - 1L).round(RoundingMode.HALF_UP))
+                .isOne();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  3
+            -7, 2, -3
+        """)
+    void integerPart_should_succeed(final long numerator, final long denominator, final long expected) {
+        assertThat(LongRational.of(numerator, denominator).integerPart()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  1, 2
+            -7, 2, -1, 2
+             6, 3,  0, 1
+        """)
+    void fractionalPart_should_succeed(
+            final long numerator,
+            final long denominator,
+            final long expectedNumerator,
+            final long expectedDenominator) {
+        assertThat(LongRational.of(numerator, denominator).fractionalPart())
+                .isEqualTo(LongRational.of(expectedNumerator, expectedDenominator));
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_exception_when_divisor_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ONE.divideAndRemainder(null))
+                .withMessage("divisor")
+                .withNoCause();
+    }
+
+    @Test
+    void divideAndRemainder_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.ONE.divideAndRemainder(LongRational.ZERO))
+                .withMessage("divisor must be invertible but was LongRational[numerator=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+             7, 2,  2, 3,  5,  1, 6
+            -7, 2,  2, 3, -5, -1, 6
+             7, 2, -2, 3, -5,  1, 6
+             1, 3,  1, 2,  0,  1, 3
+        """)
+    void divideAndRemainder_should_succeed(
+            final long numerator,
+            final long denominator,
+            final long divisorNumerator,
+            final long divisorDenominator,
+            final long quotient,
+            final long remainderNumerator,
+            final long remainderDenominator) {
+        assertThat(LongRational.of(numerator, denominator)
+                        .divideAndRemainder(LongRational.of(divisorNumerator, divisorDenominator)))
+                .containsExactly(
+                        LongRational.of(quotient), LongRational.of(remainderNumerator, remainderDenominator));
+    }
+
+    @Test
+    void isPerfectSquare_should_succeed() {
+        assertThat(LongRational.of(9L, 4L).isPerfectSquare()).isTrue();
+        assertThat(LongRational.of(9L, 8L).isPerfectSquare()).isFalse();
+        assertThat(LongRational.of(-9L, 4L).isPerfectSquare()).isFalse();
+    }
+
+    @Test
+    void sqrtExact_should_succeed() {
+        assertThat(LongRational.of(49L, 64L).sqrtExact()).hasValue(LongRational.of(7L, 8L));
+        assertThat(LongRational.of(2L, 9L).sqrtExact()).isEmpty();
+        assertThat(LongRational.of(-1L, 4L).sqrtExact()).isEmpty();
+    }
+
+    @Test
+    void nthRootExact_should_succeed() {
+        assertThat(LongRational.of(-27L, 8L).nthRootExact(3)).hasValue(LongRational.of(-3L, 2L));
+        assertThat(LongRational.of(16L, 81L).nthRootExact(4)).hasValue(LongRational.of(2L, 3L));
+        assertThat(LongRational.of(16L, 27L).nthRootExact(3)).isEmpty();
+    }
+
+    @Test
+    void nthRootExact_should_throw_exception_when_n_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> rational1.nthRootExact(0))
+                .withMessage("n must be positive but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void sqrt_should_succeed() {
+        assertThat(LongRational.of(2L, 1L).sqrt(new MathContext(20)))
+                .isEqualTo(new BigDecimal("1.4142135623730950488"));
+        assertThat(LongRational.of(1L, 4L).sqrt(new MathContext(5, RoundingMode.UNNECESSARY)))
+                .isEqualTo(new BigDecimal("0.5"));
+        assertThat(rational1.sqrt(new MathContext(6, RoundingMode.UP))).isEqualTo(new BigDecimal("0.816497"));
+        assertThat(rational1.sqrt(new MathContext(6, RoundingMode.DOWN))).isEqualTo(new BigDecimal("0.816496"));
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_this_is_negative() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> rational1.negate().sqrt(MathContext.DECIMAL64))
+                .withMessage("this must not be negative but was " + rational1.negate())
+                .withNoCause();
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_rounding_is_necessary_but_not_allowed() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> rational1.sqrt(new MathContext(5, RoundingMode.UNNECESSARY)));
+    }
+
+    @Test
+    void nthRoot_should_succeed() {
+        assertThat(LongRational.of(-2L, 1L).nthRoot(3, MathContext.DECIMAL32)).isEqualTo(new BigDecimal("-1.259921"));
+        assertThat(LongRational.of(1L, 1000L).nthRoot(3, MathContext.DECIMAL32)).isEqualTo(new BigDecimal("0.1"));
+        assertThat(rational1.nthRoot(1, MathContext.DECIMAL32))
+                .isEqualTo(rational1.toBigDecimal(MathContext.DECIMAL32));
+    }
+
+    @Test
+    void nthRoot_should_throw_exception_when_precision_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> rational1.nthRoot(3, MathContext.UNLIMITED))
+                .withMessage("mathContext must have a positive precision but had precision 0")
+                .withNoCause();
+    }
+
+    @Test
+    void nthRootExact_should_not_overflow() {
+        assertThat(LongRational.of(Long.MIN_VALUE, 1L).nthRootExact(63)).hasValue(LongRational.of(-2L));
+    }
+
     @Test
     void toBigDecimal_with_scale_and_roundingMode_should_succeed() {
         assertThat(LongRational.of(1L, 3L).toBigDecimal(2, RoundingMode.UP)).isEqualTo(new BigDecimal("0.34"));
@@ -309,6 +745,11 @@ final class LongRationalTest {
         assertThat(LongRational.of(1L, 3L).toBigDecimal(MathContext.DECIMAL32)).isEqualTo(new BigDecimal("0.3333333"));
     }
 
+    @Test
+    void toBigRational_should_succeed() {
+        assertThat(rational1.toBigRational()).isEqualTo(BigRational.of(BigInteger.TWO, BigInteger.valueOf(3L)));
+    }
+
     @ParameterizedTest
     @CsvSource(textBlock = """
         2, 1, -1
@@ -320,6 +761,33 @@ final class LongRationalTest {
                 .isSameAs(expected);
     }
 
+    @Test
+    void compareTo_should_not_overflow() {
+        assertThat(LongRational.of(Long.MAX_VALUE, Long.MAX_VALUE - 1L)
+                        .compareTo(LongRational.of(Long.MAX_VALUE - 1L, Long.MAX_VALUE - 2L)))
+                .isNegative();
+    }
+
+    @Test
+    void compareTo_BigRational_should_throw_exception_when_other_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.ZERO.compareTo((BigRational) null))
+                .withMessage("other")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+        2, 1, -1
+        1, 1,  0
+        1, 2,  1
+        """)
+    void compareTo_BigRational_should_succeed(
+            final BigInteger numerator, final BigInteger denominator, final int expected) {
+        assertThat(LongRational.ONE.compareTo(BigRational.of(numerator, denominator)))
+                .isEqualTo(expected);
+    }
+
     @Nested
     class ComparatorTest {
         @ParameterizedTest
@@ -0,0 +1,133 @@
+package io.github.ltennstedt.irrational.core.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class RawRationalTest {
+    private final BigRational rational1 = BigRational.of(BigInteger.ONE, BigInteger.TWO);
+    private final BigRational rational2 = BigRational.of(BigInteger.valueOf(-2L), BigInteger.valueOf(3L));
+
+    @Test
+    void of_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> RawRational.of((BigRational) null))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_throw_exception_when_denominator_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RawRational.of(BigInteger.ONE, BigInteger.ZERO))
+                .withMessage("denominator must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_not_reduce() {
+        final var raw = RawRational.of(BigInteger.valueOf(2L), BigInteger.valueOf(-4L));
+
+        assertThat(raw.numerator()).isEqualTo(-2L);
+        assertThat(raw.denominator()).isEqualTo(4L);
+        assertThat(raw.normalize()).isEqualTo(rational1.negate());
+    }
+
+    @Test
+    void of_LongRational_should_succeed() {
+        assertThat(RawRational.of(LongRational.of(1L, 2L)).normalize()).isEqualTo(rational1);
+    }
+
+    @Test
+    void withNormalizationThreshold_should_throw_exception_when_newNormalizationThreshold_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RawRational.of(rational1).withNormalizationThreshold(0))
+                .withMessage("newNormalizationThreshold must be positive but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> RawRational.of(rational1).add((RawRational) null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_not_reduce() {
+        final var sum = RawRational.of(rational1).add(rational1);
+
+        assertThat(sum.numerator()).isEqualTo(2L);
+        assertThat(sum.denominator()).isEqualTo(2L);
+        assertThat(sum.normalize()).isSameAs(BigRational.ONE);
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(RawRational.of(rational1).subtract(RawRational.of(rational2)).normalize())
+                .isEqualTo(rational1.subtract(rational2));
+        assertThat(RawRational.of(rational1).subtract(rational2).normalize()).isEqualTo(rational1.subtract(rational2));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(RawRational.of(rational1).multiply(RawRational.of(rational2)).normalize())
+                .isEqualTo(rational1.multiply(rational2));
+        assertThat(RawRational.of(rational1).multiply(rational2).normalize()).isEqualTo(rational1.multiply(rational2));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RawRational.of(rational1).divide(BigRational.ZERO))
+                .withMessage("divisor must be invertible but was BigRational[numerator=0, denominator=1]")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_keep_the_denominator_positive() {
+        final var quotient = RawRational.of(rational1).divide(RawRational.of(rational2));
+
+        assertThat(quotient.denominator().signum()).isPositive();
+        assertThat(quotient.normalize()).isEqualTo(rational1.divide(rational2));
+    }
+
+    @Test
+    void operations_should_normalize_when_the_normalization_threshold_is_exceeded() {
+        var raw = RawRational.of(rational1).withNormalizationThreshold(64);
+        var expected = rational1;
+        for (var i = 0; i < 100; i++) {
+            raw = raw.multiply(rational2).add(rational1).divide(rational2);
+            expected = expected.multiply(rational2).add(rational1).divide(rational2);
+        }
+
+        assertThat(raw.normalizationThreshold()).isEqualTo(64);
+        assertThat(raw.bitLength()).isLessThanOrEqualTo(64 + 2 * Long.SIZE);
+        assertThat(raw.normalize()).isEqualTo(expected);
+    }
+
+    @Test
+    void equals_and_hashCode_should_compare_values() {
+        final var raw1 = RawRational.of(BigInteger.ONE, BigInteger.TWO);
+        final var raw2 = RawRational.of(BigInteger.valueOf(3L), BigInteger.valueOf(6L));
+
+        assertThat(raw1).isEqualTo(raw2).hasSameHashCodeAs(raw2);
+        assertThat(raw1).isNotEqualTo(raw1.negate());
+        assertThat(raw1.hashCode()).isEqualTo(rational1.hashCode());
+    }
+
+    @Test
+    void compareTo_should_succeed() {
+        assertThat(RawRational.of(rational1).compareTo(RawRational.of(rational2))).isPositive();
+        assertThat(RawRational.of(BigInteger.ONE, BigInteger.TWO)
+                        .compareTo(RawRational.of(BigInteger.TWO, BigInteger.valueOf(4L))))
+                .isZero();
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.ltennstedt.irrational.core.polynomial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import io.github.ltennstedt.irrational.core.numeric.BigRational;
+import io.github.ltennstedt.irrational.core.numeric.LongRational;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BigRationalPolynomialTest {
+    private final BigRationalPolynomial polynomial =
+            BigRationalPolynomial.of(rational(1L, 2L), rational(-3L, 4L), rational(2L, 1L));
+
+    @Test
+    void of_should_store_integer_coefficients_over_their_least_common_denominator() {
+        assertThat(polynomial.denominator()).isEqualTo(BigInteger.valueOf(4L));
+        assertThat(polynomial.degree()).isEqualTo(2);
+        assertThat(polynomial.coefficients()).containsExactly(rational(1L, 2L), rational(-3L, 4L), rational(2L, 1L));
+        assertThat(polynomial).hasToString("BigRationalPolynomial[coefficients=[2, -3, 8], denominator=4]");
+    }
+
+    @Test
+    void of_should_trim_and_reduce() {
+        final var actual = BigRationalPolynomial.of(
+                new BigInteger[] {BigInteger.valueOf(4L), BigInteger.valueOf(-6L), BigInteger.ZERO},
+                BigInteger.valueOf(-8L));
+
+        assertThat(actual).isEqualTo(BigRationalPolynomial.of(rational(-1L, 2L), rational(3L, 4L)));
+        assertThat(actual).hasSameHashCodeAs(BigRationalPolynomial.of(rational(-1L, 2L), rational(3L, 4L)));
+        assertThat(BigRationalPolynomial.of(BigRational.ZERO)).isEqualTo(BigRationalPolynomial.ZERO);
+        assertThat(BigRationalPolynomial.ZERO.degree()).isEqualTo(-1);
+    }
+
+    @Test
+    void of_should_throw_exception_when_denominator_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigRationalPolynomial.of(new BigInteger[] {BigInteger.ONE}, BigInteger.ZERO))
+                .withMessage("denominator must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    @Test
+    void coefficient_should_be_0_above_the_degree() {
+        assertThat(polynomial.coefficient(1)).isEqualTo(rational(-3L, 4L));
+        assertThat(polynomial.coefficient(3)).isEqualTo(BigRational.ZERO);
+    }
+
+    @Test
+    void coefficient_should_throw_exception_when_power_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> polynomial.coefficient(-1))
+                .withMessage("power must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> polynomial.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void arithmetic_should_succeed() {
+        final var other = BigRationalPolynomial.of(rational(1L, 3L), BigRational.ZERO, rational(-2L, 1L));
+
+        assertThat(polynomial.add(other)).isEqualTo(BigRationalPolynomial.of(rational(5L, 6L), rational(-3L, 4L)));
+        assertThat(polynomial.subtract(polynomial)).isEqualTo(BigRationalPolynomial.ZERO);
+        assertThat(polynomial.negate().add(polynomial)).isEqualTo(BigRationalPolynomial.ZERO);
+        assertThat(polynomial.multiply(rational(4L, 1L)))
+                .isEqualTo(BigRationalPolynomial.of(rational(2L, 1L), rational(-3L, 1L), rational(8L, 1L)));
+        assertThat(polynomial.multiply(other))
+                .isEqualTo(BigRationalPolynomial.of(
+                        rational(1L, 6L), rational(-1L, 4L), rational(-1L, 3L), rational(3L, 2L), rational(-4L, 1L)));
+        assertThat(polynomial.derivative()).isEqualTo(BigRationalPolynomial.of(rational(-3L, 4L), rational(4L, 1L)));
+        assertThat(BigRationalPolynomial.X.multiply(BigRationalPolynomial.X).derivative())
+                .isEqualTo(BigRationalPolynomial.X.multiply(rational(2L, 1L)));
+    }
+
+    @Test
+    void multiply_should_match_the_schoolbook_product_above_the_karatsuba_threshold() {
+        final var random = new Random(42L);
+        for (final var sizes : new int[][] {{32, 32}, {33, 100}, {65, 257}, {150, 31}}) {
+            final var a = randomIntegers(random, sizes[0]);
+            final var b = randomIntegers(random, sizes[1]);
+            final var expected = new BigInteger[sizes[0] + sizes[1] - 1];
+            Arrays.fill(expected, BigInteger.ZERO);
+            for (var i = 0; i < a.length; i++) {
+                for (var j = 0; j < b.length; j++) {
+                    expected[i + j] = expected[i + j].add(a[i].multiply(b[j]));
+                }
+            }
+
+            assertThat(BigRationalPolynomial.multiply(a, b)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void evaluate_should_succeed() {
+        assertThat(polynomial.evaluate(rational(2L, 3L))).isEqualTo(rational(8L, 9L));
+        assertThat(polynomial.evaluate(LongRational.of(-2L, 3L))).isEqualTo(rational(17L, 9L));
+        assertThat(polynomial.evaluate(BigRational.ONE)).isEqualTo(rational(7L, 4L));
+        assertThat(BigRationalPolynomial.ZERO.evaluate(rational(2L, 3L))).isEqualTo(BigRational.ZERO);
+    }
+
+    @Test
+    void evaluate_should_evaluate_packed_points() {
+        assertThat(polynomial.evaluate(new long[] {2L, 3L, 4L, -6L, 1L, 1L, 0L, 5L}))
+                .containsExactly(rational(8L, 9L), rational(17L, 9L), rational(7L, 4L), rational(1L, 2L));
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_points_has_odd_length() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> polynomial.evaluate(new long[] {1L, 2L, 3L}))
+                .withMessage("points must have an even length but had length 3")
+                .withNoCause();
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_a_denominator_is_0() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> polynomial.evaluate(new long[] {1L, 2L, 3L, 0L}))
+                .withMessage("denominator must not be 0 but was 0")
+                .withNoCause();
+    }
+
+    private static BigRational rational(final long numerator, final long denominator) {
+        return BigRational.of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    private static BigInteger[] randomIntegers(final Random random, final int length) {
+        final var result = new BigInteger[length];
+        for (var i = 0; i < length; i++) {
+            result[i] = BigInteger.valueOf(random.nextInt(2001) - 1000);
+        }
+        return result;
+    }
+}
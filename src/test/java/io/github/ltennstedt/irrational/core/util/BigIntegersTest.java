@@ -0,0 +1,201 @@
+package io.github.ltennstedt.irrational.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BigIntegersTest {
+    @Test
+    void gcd_should_throw_exception_when_a_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigIntegers.gcd(null, BigInteger.ONE))
+                .withMessage("a")
+                .withNoCause();
+    }
+
+    @Test
+    void gcd_should_throw_exception_when_b_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigIntegers.gcd(BigInteger.ONE, null))
+                .withMessage("b")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+              0,   0,  0
+              0,  -5,  5
+             12,  18,  6
+            -12,  18,  6
+             12, -18,  6
+        """)
+    void gcd_should_succeed_for_small_operands(final long a, final long b, final long expected) {
+        assertThat(BigIntegers.gcd(BigInteger.valueOf(a), BigInteger.valueOf(b))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {BigIntegers.LEHMER_GCD_THRESHOLD + 1, 96, 2_048, 20_000})
+    void gcd_should_equal_BigInteger_gcd_for_mid_size_operands(final int bitLength) {
+        final var random = new Random(bitLength);
+        for (var i = 0; i < 20; i++) {
+            final var factor = new BigInteger(random.nextInt(bitLength / 2) + 1, random);
+            final var a = new BigInteger(bitLength, random).multiply(factor);
+            final var b = new BigInteger(bitLength - random.nextInt(bitLength / 4), random)
+                    .multiply(factor)
+                    .negate();
+
+            assertThat(BigIntegers.gcd(a, b)).isEqualTo(a.gcd(b));
+            assertThat(BigIntegers.gcd(b, a)).isEqualTo(a.gcd(b));
+        }
+    }
+
+    @Test
+    void gcd_should_equal_BigInteger_gcd_when_quotients_are_large() {
+        final var random = new Random(42L);
+        final var a = new BigInteger(4_096, random);
+        final var b = a.subtract(BigInteger.ONE.shiftLeft(1_000)).shiftRight(1_500);
+
+        assertThat(BigIntegers.gcd(a, b)).isEqualTo(a.gcd(b));
+        assertThat(BigIntegers.gcd(a.multiply(b), b.pow(2))).isEqualTo(b.multiply(a.gcd(b)));
+    }
+
+    @Test
+    void gcd_should_succeed_for_large_operands() {
+        final var random = new Random(BigIntegers.HALF_GCD_THRESHOLD);
+        final var factor = new BigInteger(1_000, random);
+        final var fibonacci = fibonacci(1_520_000);
+        final var a = fibonacci[1].multiply(factor);
+        final var b = fibonacci[0].multiply(factor).negate();
+
+        assertThat(b.bitLength()).isGreaterThan(BigIntegers.HALF_GCD_THRESHOLD);
+        assertThat(BigIntegers.gcd(a, b)).isEqualTo(factor);
+        assertThat(BigIntegers.gcd(b, a)).isEqualTo(factor);
+    }
+
+    @Test
+    void gcd_should_succeed_for_consecutive_fibonacci_numbers() {
+        var previous = BigInteger.ZERO;
+        var current = BigInteger.ONE;
+        for (var i = 0; i < 50_000; i++) {
+            final var next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+
+        assertThat(BigIntegers.gcd(current, previous)).isOne();
+        assertThat(BigIntegers.gcd(current.multiply(previous), previous.pow(2))).isEqualTo(previous);
+    }
+
+    @Test
+    void hash_should_throw_exception_when_a_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigIntegers.hash(null, BigInteger.ONE))
+                .withMessage("a")
+                .withNoCause();
+    }
+
+    @Test
+    void hash_should_throw_exception_when_b_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> BigIntegers.hash(BigInteger.ONE, null))
+                .withMessage("b")
+                .withNoCause();
+    }
+
+    @Test
+    void hash_should_equal_Longs_hash_when_both_fit_into_long() {
+        assertThat(BigIntegers.hash(BigInteger.valueOf(-3L), BigInteger.valueOf(Long.MAX_VALUE)))
+                .isEqualTo(Longs.hash(-3L, Long.MAX_VALUE));
+    }
+
+    @Test
+    void hash_should_distinguish_swapped_arguments() {
+        final var a = BigInteger.ONE.shiftLeft(100);
+        final var b = BigInteger.valueOf(3L);
+
+        assertThat(BigIntegers.hash(a, b)).isNotEqualTo(BigIntegers.hash(b, a));
+        assertThat(BigIntegers.hash(a, b)).isNotEqualTo(BigIntegers.hash(a.negate(), b));
+    }
+
+    /** Returns F(n) and F(n + 1) by fast doubling */
+    private static BigInteger[] fibonacci(final int n) {
+        if (n == 0) {
+            return new BigInteger[] {BigInteger.ZERO, BigInteger.ONE};
+        }
+        final var half = fibonacci(n / 2);
+        final var even = half[0].multiply(half[1].shiftLeft(1).subtract(half[0]));
+        final var odd = half[0].pow(2).add(half[1].pow(2));
+        return n % 2 == 0 ? new BigInteger[] {even, odd} : new BigInteger[] {odd, even.add(odd)};
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 1_000, 10_000, 100_000})
+    void sqrt_should_equal_BigInteger_sqrt(final int bitLength) {
+        final var random = new Random(bitLength);
+        for (var i = 0; i < 10; i++) {
+            final var value = new BigInteger(bitLength, random);
+
+            assertThat(BigIntegers.sqrt(value)).isEqualTo(value.sqrt());
+        }
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_value_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigIntegers.sqrt(BigInteger.ONE.negate()))
+                .withMessage("value must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 5, 64, 1_000})
+    void root_should_succeed(final int n) {
+        final var random = new Random(n);
+        for (var i = 0; i < 20; i++) {
+            final var value = new BigInteger(1 + random.nextInt(5_000), random);
+            final var root = BigIntegers.root(value, n);
+
+            assertThat(root.pow(n)).isLessThanOrEqualTo(value);
+            assertThat(root.add(BigInteger.ONE).pow(n)).isGreaterThan(value);
+        }
+    }
+
+    @Test
+    void root_should_throw_exception_when_n_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BigIntegers.root(BigInteger.TEN, -1))
+                .withMessage("n must be positive but was -1")
+                .withNoCause();
+    }
+
+    @Test
+    void isPerfectSquare_should_succeed() {
+        final var root = BigInteger.TEN.pow(50).add(BigInteger.valueOf(7L));
+        final var square = root.multiply(root);
+
+        assertThat(BigIntegers.isPerfectSquare(square)).isTrue();
+        assertThat(BigIntegers.isPerfectSquare(square.add(BigInteger.ONE))).isFalse();
+        assertThat(BigIntegers.isPerfectSquare(square.negate())).isFalse();
+        assertThat(BigIntegers.isPerfectSquare(BigInteger.valueOf(49L))).isTrue();
+    }
+
+    @Test
+    void exactRoot_should_succeed() {
+        final var root = BigInteger.valueOf(3L).pow(40).add(BigInteger.TWO);
+
+        assertThat(BigIntegers.exactRoot(root.pow(7), 7)).hasValue(root);
+        assertThat(BigIntegers.exactRoot(root.pow(7).add(BigInteger.ONE), 7)).isEmpty();
+        assertThat(BigIntegers.exactRoot(root.pow(6), 4)).isEmpty();
+        assertThat(BigIntegers.exactRoot(BigInteger.valueOf(125L), 3)).hasValue(BigInteger.valueOf(5L));
+    }
+}
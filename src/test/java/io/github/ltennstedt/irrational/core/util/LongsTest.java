@@ -1,7 +1,10 @@
 package io.github.ltennstedt.irrational.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,4 +25,142 @@ final class LongsTest {
     void power_should_succeed(final long base, final int exponent, final double expected) {
         assertThat(Longs.power(base, exponent)).isEqualByComparingTo(expected);
     }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            2, 3, 3, 2, 0
+            2, 3, 1, 7, -1
+            -1, 1, 1, -2, 1
+            9223372036854775807, 9223372036854775807, 9223372036854775806, 9223372036854775807, 1
+            -9223372036854775808, 2, 9223372036854775807, 2, -1
+        """)
+    void compareProducts_should_succeed(final long a, final long b, final long c, final long d, final int expected) {
+        assertThat(Longs.compareProducts(a, b, c, d)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            2, 3, 4, 5, 26
+            -9223372036854775808, 2, 9223372036854775807, 2, -2
+            4294967296, 4294967296, -4294967296, 4294967296, 0
+        """)
+    void sumOfProductsExact_should_succeed(
+            final long a, final long b, final long c, final long d, final long expected) {
+        assertThat(Longs.sumOfProductsExact(a, b, c, d)).isEqualTo(expected);
+    }
+
+    @Test
+    void sumOfProductsExact_should_throw_exception_when_the_result_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> Longs.sumOfProductsExact(Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 1L << 62))
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            2, 3, 4, 5, -14
+            9223372036854775807, 9223372036854775807, 9223372036854775806, 9223372036854775807, 9223372036854775807
+            4294967296, 4294967296, 4294967296, 4294967296, 0
+        """)
+    void differenceOfProductsExact_should_succeed(
+            final long a, final long b, final long c, final long d, final long expected) {
+        assertThat(Longs.differenceOfProductsExact(a, b, c, d)).isEqualTo(expected);
+    }
+
+    @Test
+    void differenceOfProductsExact_should_throw_exception_when_the_result_does_not_fit_into_long() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> Longs.differenceOfProductsExact(Long.MAX_VALUE, 2L, Long.MIN_VALUE, 1L))
+                .withMessage("long overflow")
+                .withNoCause();
+    }
+
+    @Test
+    void hash_should_distinguish_swapped_arguments() {
+        assertThat(Longs.hash(1L, 2L)).isNotEqualTo(Longs.hash(2L, 1L));
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            0, 0
+            1, -5451962507482445012
+        """)
+    void mix_should_succeed(final long value, final long expected) {
+        assertThat(Longs.mix(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            0, 0
+            3, 1
+            4, 2
+            4503599761588223, 67108864
+            9223372030926249000, 3037000498
+            9223372036854775807, 3037000499
+        """)
+    void sqrt_should_succeed(final long value, final long expected) {
+        assertThat(Longs.sqrt(value)).isEqualTo(expected);
+    }
+
+    @Test
+    void sqrt_should_throw_exception_when_value_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Longs.sqrt(-1L))
+                .withMessage("value must not be negative but was -1")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            26, 3, 2
+            27, 3, 3
+            9223372036854775807, 3, 2097151
+            9223372036854775807, 62, 2
+            9223372036854775807, 63, 1
+            5, 1, 5
+        """)
+    void root_should_succeed(final long value, final int n, final long expected) {
+        assertThat(Longs.root(value, n)).isEqualTo(expected);
+    }
+
+    @Test
+    void root_should_throw_exception_when_n_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Longs.root(8L, 0))
+                .withMessage("n must be positive but was 0")
+                .withNoCause();
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            0, true
+            1, true
+            2, false
+            -4, false
+            9223372030926249001, true
+            9223372030926249002, false
+        """)
+    void isPerfectSquare_should_succeed(final long value, final boolean expected) {
+        assertThat(Longs.isPerfectSquare(value)).isEqualTo(expected);
+    }
+
+    @Test
+    void isPerfectSquare_should_agree_with_sqrt() {
+        for (var value = 0L; value < 100_000L; value++) {
+            final var root = Longs.sqrt(value);
+
+            assertThat(Longs.isPerfectSquare(value)).isEqualTo(root * root == value);
+        }
+    }
+
+    @Test
+    void exactRoot_should_succeed() {
+        assertThat(Longs.exactRoot(1_000_000_000_000_000_000L, 3)).hasValue(1_000_000L);
+        assertThat(Longs.exactRoot(1L << 62, 31)).hasValue(4L);
+        assertThat(Longs.exactRoot(999_999_999_999_999_999L, 3)).isEmpty();
+        assertThat(Longs.exactRoot(1L << 61, 2)).isEmpty();
+        assertThat(Longs.exactRoot(7L, 1)).hasValue(7L);
+        assertThat(Longs.exactRoot(0L, 5)).hasValue(0L);
+    }
 }